@@ -15,9 +15,9 @@ package org.assertj.db.api;
 import org.assertj.db.api.assertions.*;
 import org.assertj.db.api.assertions.impl.*;
 import org.assertj.db.api.navigation.ColumnAssert;
+import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.*;
 
-import java.lang.reflect.Constructor;
 import java.util.List;
 
 /**
@@ -51,139 +51,278 @@ public abstract class AbstractColumnAssert<D extends AbstractDbData<D>, A extend
    * 
    * @param originalDbAssert The original assert. That could be a {@link RequestAssert} or a {@link TableAssert}.
    * @param selfType Type of this assertion class : a sub-class of {@code AbstractColumnAssert}.
-   * @param valueType Class of the assert on the value : a sub-class of {@code AbstractColumnValueAssert}.
+   * @param column The column on which do assertion.
    */
-  AbstractColumnAssert(A originalDbAssert, Class<C> selfType, Class<CV> valueType, Column column) {
-    super(originalDbAssert, selfType, valueType);
+  AbstractColumnAssert(A originalDbAssert, Class<C> selfType, Column column) {
+    super(originalDbAssert, selfType);
     this.column = column;
   }
 
   /** {@inheritDoc} */
   @Override
-  protected CV getValueAssertInstance(Class<CV> valueAssertType, int index, Object value) throws Exception {
-    Constructor<CV> constructor = valueAssertType.getDeclaredConstructor(myself.getClass(), Object.class);
-    CV instance = constructor.newInstance(this, value);
+  protected CV getValueAssertInstance(int index, Object value) {
+    CV instance = origin.getAssertFactory().createColumnValueAssert(myself, value);
     return instance.as("Value at index " + index + " of " + info.descriptionText());
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The values are in the order of the rows : if the values are streamed, the rows are loaded.
+   * </p>
+   */
   @Override
   protected List<Object> getValuesList() {
     return column.getValuesList();
   }
 
+  /**
+   * Returns the index of the column in the data from database.
+   * 
+   * @return The index of the column.
+   */
+  private int getColumnIndex() {
+    return origin.getActual().getColumnsNameList().indexOf(column.getName());
+  }
+
+  /**
+   * Returns the values in the order of the rows to build the error message of an assertion which failed on the streamed
+   * values (the index of the value in the message must be the index used to navigate in the column).
+   *
+   * @param error The error of the assertion on the values which are browsed.
+   * @return The values in the order of the rows.
+   * @throws AssertionError The error in parameter if the values are not streamed.
+   */
+  private List<Object> getValuesListAfter(AssertionError error) {
+    if (!(column.getStreamedValues() instanceof AutoCloseable)) {
+      throw error;
+    }
+    closeValues();
+    return getValuesList();
+  }
+
+  /**
+   * Closes the values of the column if they are read from the database (when the data are streamed).
+   * <p>
+   * This method is called after the assertions which browse the values because the browsing is interrupted when an
+   * assertion fails.
+   * </p>
+   * 
+   * @throws AssertJDBException If triggered, this exception wrap a possible exception during the closing.
+   */
+  private void closeValues() {
+    Iterable<Object> values = column.getStreamedValues();
+    if (values instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) values).close();
+      } catch (Exception e) {
+        throw new AssertJDBException(e);
+      }
+    }
+  }
+
   /** {@inheritDoc} */
   @Override
   public C hasNumberOfRows(int expected) {
-    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, column.getValuesList().size(), expected);
+    return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, origin.getActual().getNumberOfRows(), expected);
   }
 
   /** {@inheritDoc} */
   @Override
   public C isOfType(ValueType expected, boolean lenient) {
-    return AssertionsOnColumnType.isOfType(myself, info, getValuesList(), expected, lenient);
+    try {
+      return AssertionsOnColumnType.isOfType(myself, info, column.getStreamedValues(), expected, lenient);
+    } catch (AssertionError error) {
+      return AssertionsOnColumnType.isOfType(myself, info, getValuesListAfter(error), expected, lenient);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C isOfAnyTypeIn(ValueType... expected) {
-    return AssertionsOnColumnType.isOfAnyTypeIn(myself, info, getValuesList(), expected);
+    try {
+      return AssertionsOnColumnType.isOfAnyTypeIn(myself, info, column.getStreamedValues(), expected);
+    } catch (AssertionError error) {
+      return AssertionsOnColumnType.isOfAnyTypeIn(myself, info, getValuesListAfter(error), expected);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C isNumber(boolean lenient) {
-    return AssertionsOnColumnType.isNumber(myself, info, getValuesList(), lenient);
+    try {
+      return AssertionsOnColumnType.isNumber(myself, info, column.getStreamedValues(), lenient);
+    } catch (AssertionError error) {
+      return AssertionsOnColumnType.isNumber(myself, info, getValuesListAfter(error), lenient);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C isBoolean(boolean lenient) {
-    return AssertionsOnColumnType.isBoolean(myself, info, getValuesList(), lenient);
+    try {
+      return AssertionsOnColumnType.isBoolean(myself, info, column.getStreamedValues(), lenient);
+    } catch (AssertionError error) {
+      return AssertionsOnColumnType.isBoolean(myself, info, getValuesListAfter(error), lenient);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C isDate(boolean lenient) {
-    return AssertionsOnColumnType.isDate(myself, info, getValuesList(), lenient);
+    try {
+      return AssertionsOnColumnType.isDate(myself, info, column.getStreamedValues(), lenient);
+    } catch (AssertionError error) {
+      return AssertionsOnColumnType.isDate(myself, info, getValuesListAfter(error), lenient);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C isTime(boolean lenient) {
-    return AssertionsOnColumnType.isTime(myself, info, getValuesList(), lenient);
+    try {
+      return AssertionsOnColumnType.isTime(myself, info, column.getStreamedValues(), lenient);
+    } catch (AssertionError error) {
+      return AssertionsOnColumnType.isTime(myself, info, getValuesListAfter(error), lenient);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C isDateTime(boolean lenient) {
-    return AssertionsOnColumnType.isDateTime(myself, info, getValuesList(), lenient);
+    try {
+      return AssertionsOnColumnType.isDateTime(myself, info, column.getStreamedValues(), lenient);
+    } catch (AssertionError error) {
+      return AssertionsOnColumnType.isDateTime(myself, info, getValuesListAfter(error), lenient);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C isBytes(boolean lenient) {
-    return AssertionsOnColumnType.isBytes(myself, info, getValuesList(), lenient);
+    try {
+      return AssertionsOnColumnType.isBytes(myself, info, column.getStreamedValues(), lenient);
+    } catch (AssertionError error) {
+      return AssertionsOnColumnType.isBytes(myself, info, getValuesListAfter(error), lenient);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C isText(boolean lenient) {
-    return AssertionsOnColumnType.isText(myself, info, getValuesList(), lenient);
+    try {
+      return AssertionsOnColumnType.isText(myself, info, column.getStreamedValues(), lenient);
+    } catch (AssertionError error) {
+      return AssertionsOnColumnType.isText(myself, info, getValuesListAfter(error), lenient);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNullValues() {
+    // The values are counted by the database when it is possible and the rows are loaded only for the error message
+    if (origin.getActual().getNumberOfNotNullValues(getColumnIndex()) == 0) {
+      return myself;
+    }
     return AssertionsOnColumnNullity.hasOnlyNullValues(myself, info, getValuesList());
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasOnlyNotNullValues() {
+    // The values are counted by the database when it is possible and the rows are loaded only for the error message
+    if (origin.getActual().getNumberOfNullValues(getColumnIndex()) == 0) {
+      return myself;
+    }
     return AssertionsOnColumnNullity.hasOnlyNotNullValues(myself, info, getValuesList());
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(Boolean... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    try {
+      return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(Number... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    try {
+      return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(byte[]... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    try {
+      return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(String... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    try {
+      return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(DateValue... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    try {
+      return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(TimeValue... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    try {
+      return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
   @Override
   public C hasValues(DateTimeValue... expected) {
-    return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    try {
+      return AssertionsOnColumnEquality.hasValues(myself, info, getValuesList(), expected);
+    } finally {
+      closeValues();
+    }
   }
 
   /** {@inheritDoc} */
@@ -22,7 +22,6 @@ import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Column;
 import org.assertj.db.type.Row;
 
-import java.lang.reflect.Constructor;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,13 +54,9 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
    */
   private int indexNextRow;
   /**
-   * Class of the assertion on the row (used to make instance).
+   * Factory of the assertions on the columns, rows and values.
    */
-  private final Class<R> rowAssertClass;
-  /**
-   * Class of the assertion on the column (used to make instance).
-   */
-  private final Class<C> columnAssertClass;
+  private final AssertFactory<A, C, CV, R, RV> assertFactory;
   /**
    * Index of the next column to get.
    */
@@ -80,14 +75,30 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
    * 
    * @param actualValue The actual value on which the assertion is.
    * @param selfType Type of this assertion class.
-   * @param columnAssertType Class of the assertion on the column.
-   * @param rowAssertType Class of the assertion on the row.
+   * @param assertFactory Factory of the assertions on the columns, rows and values.
    */
-  AbstractDbAssert(D actualValue, Class<A> selfType, Class<C> columnAssertType, Class<R> rowAssertType) {
+  AbstractDbAssert(D actualValue, Class<A> selfType, AssertFactory<A, C, CV, R, RV> assertFactory) {
     super(selfType);
     actual = actualValue;
-    rowAssertClass = rowAssertType;
-    columnAssertClass = columnAssertType;
+    this.assertFactory = assertFactory;
+  }
+
+  /**
+   * Returns the actual value on which the assertion is.
+   * 
+   * @return The actual value.
+   */
+  D getActual() {
+    return actual;
+  }
+
+  /**
+   * Returns the factory of the assertions on the columns, rows and values.
+   * 
+   * @return The factory of the assertions.
+   */
+  AssertFactory<A, C, CV, R, RV> getAssertFactory() {
+    return assertFactory;
   }
 
   /**
@@ -122,18 +133,9 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
     }
 
     Row row = getRow(index);
-    try {
-      Constructor<R> constructor = rowAssertClass.getDeclaredConstructor(myself.getClass(), Row.class);
-      R instance = constructor.newInstance(this, row);
-      rowsAssertMap.put(index, instance);
-      return instance.as("Row at index " + index + " of " + info.descriptionText());
-    } catch (Exception e) {
-      throw new AssertJDBException("There is an exception '" + e.getMessage()
-          + "'\n\t in the instantiation of the assertion " + rowAssertClass.getName() + "\n\t on the row with "
-          + myself.getClass() + ".\n "
-          + "It is normally impossible.\n That means there is a big mistake in the development of AssertJDB.\n "
-          + "Please write an issue for that if you meet this problem.");
-    }
+    R instance = assertFactory.createRowAssert(myself, row);
+    rowsAssertMap.put(index, instance);
+    return instance.as("Row at index " + index + " of " + info.descriptionText());
   }
 
   /** {@inheritDoc} */
@@ -183,18 +185,9 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
     Column column = getColumn(index);
     List<String> columnsNameList = actual.getColumnsNameList();
     String columnName = columnsNameList.get(index);
-    try {
-      Constructor<C> constructor = columnAssertClass.getDeclaredConstructor(myself.getClass(), Column.class);
-      C instance = constructor.newInstance(this, column);
-      columnsAssertMap.put(index, instance);
-      return instance.as("Column at index " + index + " (column name : " + columnName + ") of " + info.descriptionText());
-    } catch (Exception e) {
-      throw new AssertJDBException("There is an exception '" + e.getMessage()
-          + "'\n\t in the instantiation of the assertion " + columnAssertClass.getName() + "\n\t on the column with "
-          + myself.getClass() + ".\n "
-          + "It is normally impossible.\n That means there is a big mistake in the development of AssertJDB.\n "
-          + "Please write an issue for that if you meet this problem.");
-    }
+    C instance = assertFactory.createColumnAssert(myself, column);
+    columnsAssertMap.put(index, instance);
+    return instance.as("Column at index " + index + " (column name : " + columnName + ") of " + info.descriptionText());
   }
 
   /** {@inheritDoc} */
@@ -226,8 +219,7 @@ public abstract class AbstractDbAssert<D extends AbstractDbData<D>, A extends Ab
   /** {@inheritDoc} */
   @Override
   public A hasNumberOfRows(int expected) {
-    List<Row> rowsList = actual.getRowsList();
-    int size = rowsList.size();
+    int size = actual.getNumberOfRows();
     return AssertionsOnNumberOfRows.hasNumberOfRows(myself, info, size, expected);
   }
 
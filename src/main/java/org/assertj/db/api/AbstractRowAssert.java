@@ -22,7 +22,6 @@ import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.AbstractDbData;
 import org.assertj.db.type.Row;
 
-import java.lang.reflect.Constructor;
 import java.util.List;
 
 /**
@@ -55,20 +54,19 @@ public abstract class AbstractRowAssert<D extends AbstractDbData<D>, A extends A
    * 
    * @param originalDbAssert The original assert. That could be a {@link RequestAssert} or a {@link TableAssert}.
    * @param selfType Type of this assertion class : a sub-class of {@code AbstractRowAssert}.
-   * @param valueType Class of the assert on the value : a sub-class of {@code AbstractRowValueAssert}.
+   * @param row The row on which do assertion.
    */
-  AbstractRowAssert(A originalDbAssert, Class<R> selfType, Class<RV> valueType, Row row) {
-    super(originalDbAssert, selfType, valueType);
+  AbstractRowAssert(A originalDbAssert, Class<R> selfType, Row row) {
+    super(originalDbAssert, selfType);
     this.row = row;
   }
 
   /** {@inheritDoc} */
   @Override
-  protected RV getValueAssertInstance(Class<RV> valueAssertType, int index, Object value) throws Exception {
+  protected RV getValueAssertInstance(int index, Object value) {
     List<String> columnsNameList = row.getColumnsNameList();
     String columnName = columnsNameList.get(index);
-    Constructor<RV> constructor = valueAssertType.getDeclaredConstructor(myself.getClass(), String.class, Object.class);
-    RV instance = constructor.newInstance(this, columnName, value);
+    RV instance = origin.getAssertFactory().createRowValueAssert(myself, columnName, value);
     return instance.as("Value at index " + index + " (column name : " + columnName + ") of " + info.descriptionText());
   }
 
@@ -42,11 +42,6 @@ public abstract class AbstractSubAssert<D extends AbstractDbData<D>, A extends A
         implements OriginWithColumnsAndRows<C, R>,
                    ToValue<V> {
 
-  /**
-   * Class of the assertion on the value (used to make instance).
-   */
-  private final Class<V> valueAssertClass;
-
   /**
    * Index of the next value to get.
    */
@@ -61,11 +56,9 @@ public abstract class AbstractSubAssert<D extends AbstractDbData<D>, A extends A
    * 
    * @param originalDbAssert The original assert. That could be a {@link RequestAssert} or a {@link TableAssert}.
    * @param selfType Type of this assertion class : a sub-class of {@code AbstractSubAssert}.
-   * @param valueAssertType Class of the assertion on the value : a sub-class of {@code AbstractValueAssert}.
    */
-  AbstractSubAssert(A originalDbAssert, Class<S> selfType, Class<V> valueAssertType) {
+  AbstractSubAssert(A originalDbAssert, Class<S> selfType) {
     super(selfType, originalDbAssert);
-    valueAssertClass = valueAssertType;
   }
 
   /**
@@ -83,29 +76,19 @@ public abstract class AbstractSubAssert<D extends AbstractDbData<D>, A extends A
     }
 
     Object value = getValue(index);
-    try {
-      V instance = getValueAssertInstance(valueAssertClass, index, value);
-      valuesAssertMap.put(index, instance);
-      return instance;
-    } catch (Exception e) {
-      throw new AssertJDBException("There is an exception '" + e.getMessage()
-          + "'\n\t in the instantiation of the assertion " + valueAssertClass.getName() + "\n\t on the value with "
-          + myself.getClass() + ".\n "
-          + "It is normally impossible.\n That means there is a big mistake in the development of AssertJDB.\n "
-          + "Please write an issue for that if you meet this problem.");
-    }
+    V instance = getValueAssertInstance(index, value);
+    valuesAssertMap.put(index, instance);
+    return instance;
   }
 
   /**
    * Gets an instance of value assert corresponding to the index and the value.
    *
-   * @param valueAssertType Class of the assertion on the value : a sub-class of {@code AbstractValueAssert}.
    * @param index Index of the value on which is the instance of value assert.
    * @param value Value on which is the instance of value assert.
    * @return The value assert implementation.
-   * @throws Exception Exception during the instantiation.
    */
-  protected abstract V getValueAssertInstance(Class<V> valueAssertType, int index, Object value) throws Exception;
+  protected abstract V getValueAssertInstance(int index, Object value);
 
   /** {@inheritDoc} */
   @Override
@@ -0,0 +1,71 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api;
+
+import org.assertj.db.type.Column;
+import org.assertj.db.type.Row;
+
+/**
+ * Factory of the assertions used during the navigation from a {@link AbstractDbAssert} (a {@link TableAssert} or a
+ * {@link RequestAssert}) to its columns, rows and values.
+ * <p>
+ * Each family of assertions registers its factory in the constructor of the original assertion.
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ * @param <A> The class of the original assertion (an sub-class of {@link AbstractDbAssert}).
+ * @param <C> The class of the assertion on a column (an sub-class of {@link AbstractColumnAssert}).
+ * @param <CV> The class of the assertion on a value of a column (an sub-class of {@link AbstractColumnValueAssert}).
+ * @param <R> The class of the assertion on a row (an sub-class of {@link AbstractRowAssert}).
+ * @param <RV> The class of the assertion on a value of a row (an sub-class of {@link AbstractRowValueAssert}).
+ */
+interface AssertFactory<A, C, CV, R, RV> {
+
+  /**
+   * Creates an assertion on a column.
+   *
+   * @param origin The original assertion.
+   * @param column The column on which do assertion.
+   * @return The assertion on the column.
+   */
+  C createColumnAssert(A origin, Column column);
+
+  /**
+   * Creates an assertion on a row.
+   *
+   * @param origin The original assertion.
+   * @param row The row on which do assertion.
+   * @return The assertion on the row.
+   */
+  R createRowAssert(A origin, Row row);
+
+  /**
+   * Creates an assertion on a value of a column.
+   *
+   * @param origin The assertion on the column.
+   * @param value The value to assert.
+   * @return The assertion on the value.
+   */
+  CV createColumnValueAssert(C origin, Object value);
+
+  /**
+   * Creates an assertion on a value of a row.
+   *
+   * @param origin The assertion on the row.
+   * @param columnName The column name.
+   * @param value The value to assert.
+   * @return The assertion on the value.
+   */
+  RV createRowValueAssert(R origin, String columnName, Object value);
+}
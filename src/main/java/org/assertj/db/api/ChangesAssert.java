@@ -19,7 +19,7 @@ import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.type.Change;
 import org.assertj.db.type.ChangeType;
 import org.assertj.db.type.Changes;
-import org.assertj.db.util.Values;
+import org.assertj.db.util.ValueMatcher;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -424,6 +424,10 @@ public class ChangesAssert
     }
     Changes changes = this.changes.getChangesOfTable(tableName);
     List<Change> changesList = changes.getChangesList();
+    ValueMatcher[] matchers = new ValueMatcher[pksValues.length];
+    for (int i = 0; i < pksValues.length; i++) {
+      matchers[i] = ValueMatcher.of(pksValues[i]);
+    }
     int index = 0;
     for (Change change : changesList) {
       List<Object> pksValueList = change.getPksValueList();
@@ -432,7 +436,7 @@ public class ChangesAssert
       if (pksValues.length == values.length) {
         equal = true;
         for (int i = 0; i < pksValues.length; i++) {
-          if (!Values.areEqual(values[i], pksValues[i])) {
+          if (!matchers[i].matches(values[i])) {
             equal = false;
           }
         }
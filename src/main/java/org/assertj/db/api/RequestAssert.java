@@ -29,6 +29,6 @@ public class RequestAssert
    * @param request Request on which the assertion is.
    */
   RequestAssert(Request request) {
-    super(request, RequestAssert.class, RequestColumnAssert.class, RequestRowAssert.class);
+    super(request, RequestAssert.class, RequestAssertFactory.INSTANCE);
   }
 }
@@ -0,0 +1,55 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api;
+
+import org.assertj.db.type.Column;
+import org.assertj.db.type.Row;
+
+/**
+ * Factory of the assertions used during the navigation from a {@link RequestAssert}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+enum RequestAssertFactory
+    implements AssertFactory<RequestAssert, RequestColumnAssert, RequestColumnValueAssert, RequestRowAssert, RequestRowValueAssert> {
+
+  /**
+   * The singleton.
+   */
+  INSTANCE;
+
+  /** {@inheritDoc} */
+  @Override
+  public RequestColumnAssert createColumnAssert(RequestAssert origin, Column column) {
+    return new RequestColumnAssert(origin, column);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RequestRowAssert createRowAssert(RequestAssert origin, Row row) {
+    return new RequestRowAssert(origin, row);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RequestColumnValueAssert createColumnValueAssert(RequestColumnAssert origin, Object value) {
+    return new RequestColumnValueAssert(origin, value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RequestRowValueAssert createRowValueAssert(RequestRowAssert origin, String columnName, Object value) {
+    return new RequestRowValueAssert(origin, columnName, value);
+  }
+}
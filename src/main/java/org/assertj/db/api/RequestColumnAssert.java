@@ -31,7 +31,7 @@ public class RequestColumnAssert
    * @param column The column on which do assertion.
    */
   RequestColumnAssert(RequestAssert origin, Column column) {
-    super(origin, RequestColumnAssert.class, RequestColumnValueAssert.class, column);
+    super(origin, RequestColumnAssert.class, column);
   }
 
   /**
@@ -32,7 +32,7 @@ public class RequestRowAssert
    * @param row The row on which do assertion.
    */
   RequestRowAssert(RequestAssert origin, Row row) {
-    super(origin, RequestRowAssert.class, RequestRowValueAssert.class, row);
+    super(origin, RequestRowAssert.class, row);
   }
 
   /**
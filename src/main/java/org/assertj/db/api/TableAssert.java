@@ -29,6 +29,6 @@ public class TableAssert
    * @param table Table on which the assertion is.
    */
   TableAssert(Table table) {
-    super(table, TableAssert.class, TableColumnAssert.class, TableRowAssert.class);
+    super(table, TableAssert.class, TableAssertFactory.INSTANCE);
   }
 }
@@ -0,0 +1,55 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.api;
+
+import org.assertj.db.type.Column;
+import org.assertj.db.type.Row;
+
+/**
+ * Factory of the assertions used during the navigation from a {@link TableAssert}.
+ *
+ * @author Régis Pouiller
+ *
+ */
+enum TableAssertFactory
+    implements AssertFactory<TableAssert, TableColumnAssert, TableColumnValueAssert, TableRowAssert, TableRowValueAssert> {
+
+  /**
+   * The singleton.
+   */
+  INSTANCE;
+
+  /** {@inheritDoc} */
+  @Override
+  public TableColumnAssert createColumnAssert(TableAssert origin, Column column) {
+    return new TableColumnAssert(origin, column);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TableRowAssert createRowAssert(TableAssert origin, Row row) {
+    return new TableRowAssert(origin, row);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TableColumnValueAssert createColumnValueAssert(TableColumnAssert origin, Object value) {
+    return new TableColumnValueAssert(origin, value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public TableRowValueAssert createRowValueAssert(TableRowAssert origin, String columnName, Object value) {
+    return new TableRowValueAssert(origin, columnName, value);
+  }
+}
@@ -31,7 +31,7 @@ public class TableColumnAssert
    * @param column The column on which do assertion.
    */
   TableColumnAssert(TableAssert origin, Column column) {
-    super(origin, TableColumnAssert.class, TableColumnValueAssert.class, column);
+    super(origin, TableColumnAssert.class, column);
   }
 
   /**
@@ -31,7 +31,7 @@ public class TableRowAssert
    * @param row The row on which do assertion.
    */
   TableRowAssert(TableAssert origin, Row row) {
-    super(origin, TableRowAssert.class, TableRowValueAssert.class, row);
+    super(origin, TableRowAssert.class, row);
   }
 
   /**
@@ -19,12 +19,12 @@ import org.assertj.db.type.DateTimeValue;
 import org.assertj.db.type.DateValue;
 import org.assertj.db.type.TimeValue;
 import org.assertj.db.type.ValueType;
+import org.assertj.db.util.ValueMatcher;
 import org.assertj.db.util.Values;
 
 import java.util.List;
 
 import static org.assertj.db.error.ShouldBeEqual.shouldBeEqual;
-import static org.assertj.db.util.Values.areEqual;
 
 /**
  * Implements the assertion methods on the equality of a column.
@@ -61,10 +61,11 @@ public class AssertionsOnColumnEquality {
                                                        List<Object> valuesList, Boolean... expected) {
     AssertionsOnColumnType.isBoolean(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ValueMatcher[] matchers = ValueMatcher.ofEach(expected);
     int index = 0;
     for (Object value : valuesList) {
       Boolean val = (Boolean) value;
-      if (!areEqual(val, expected[index])) {
+      if (!matchers[index].matches(val)) {
         throw failures.failure(info, shouldBeEqual(index, val, expected[index]));
       }
       index++;
@@ -87,10 +88,11 @@ public class AssertionsOnColumnEquality {
                                                        List<Object> valuesList, Number... expected) {
     AssertionsOnColumnType.isNumber(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ValueMatcher[] matchers = ValueMatcher.ofEach(expected);
     int index = 0;
     for (Object value : valuesList) {
       Number val = (Number) value;
-      if (!areEqual(val, expected[index])) {
+      if (!matchers[index].matches(val)) {
         throw failures.failure(info,
                                shouldBeEqual(index,
                                              Values.getRepresentationFromValueInFrontOfExpected(val, expected[index]),
@@ -116,9 +118,10 @@ public class AssertionsOnColumnEquality {
                                                        List<Object> valuesList, byte[]... expected) {
     AssertionsOnColumnType.isBytes(assertion, info, valuesList, true);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ValueMatcher[] matchers = ValueMatcher.ofEach(expected);
     int index = 0;
     for (Object value : valuesList) {
-      if (!areEqual(value, expected[index])) {
+      if (!matchers[index].matches(value)) {
         throw failures.failure(info, shouldBeEqual(index));
       }
       index++;
@@ -142,9 +145,10 @@ public class AssertionsOnColumnEquality {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TEXT, ValueType.NUMBER, ValueType.DATE,
                                          ValueType.TIME, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ValueMatcher[] matchers = ValueMatcher.ofEach(expected);
     int index = 0;
     for (Object value : valuesList) {
-      if (!areEqual(value, expected[index])) {
+      if (!matchers[index].matches(value)) {
         throw failures.failure(info,
                                shouldBeEqual(index, Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
                                              expected[index]));
@@ -170,9 +174,10 @@ public class AssertionsOnColumnEquality {
     AssertionsOnColumnType
             .isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ValueMatcher[] matchers = ValueMatcher.ofEach(expected);
     int index = 0;
     for (Object value : valuesList) {
-      if (!areEqual(value, expected[index])) {
+      if (!matchers[index].matches(value)) {
         throw failures.failure(info,
                                shouldBeEqual(index, Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]), expected[index]));
       }
@@ -196,9 +201,10 @@ public class AssertionsOnColumnEquality {
                                                        List<Object> valuesList, TimeValue... expected) {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.TIME, ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ValueMatcher[] matchers = ValueMatcher.ofEach(expected);
     int index = 0;
     for (Object value : valuesList) {
-      if (!areEqual(value, expected[index])) {
+      if (!matchers[index].matches(value)) {
         throw failures.failure(info,
                                shouldBeEqual(index,
                                              Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
@@ -225,9 +231,10 @@ public class AssertionsOnColumnEquality {
     AssertionsOnColumnType.isOfAnyTypeIn(assertion, info, valuesList, ValueType.DATE, ValueType.DATE_TIME,
                                          ValueType.NOT_IDENTIFIED);
     AssertionsOnNumberOfRows.hasNumberOfRows(assertion, info, valuesList.size(), expected.length);
+    ValueMatcher[] matchers = ValueMatcher.ofEach(expected);
     int index = 0;
     for (Object value : valuesList) {
-      if (!areEqual(value, expected[index])) {
+      if (!matchers[index].matches(value)) {
         throw failures.failure(info,
                                shouldBeEqual(index,
                                              Values.getRepresentationFromValueInFrontOfExpected(value, expected[index]),
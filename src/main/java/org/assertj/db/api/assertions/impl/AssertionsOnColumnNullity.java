@@ -16,8 +16,6 @@ import org.assertj.core.api.WritableAssertionInfo;
 import org.assertj.core.internal.Failures;
 import org.assertj.db.api.AbstractAssert;
 
-import java.util.List;
-
 import static org.assertj.db.error.ShouldContainsOnlyNotNull.shouldContainsOnlyNotNull;
 import static org.assertj.db.error.ShouldContainsOnlyNull.shouldContainsOnlyNull;
 
@@ -47,12 +45,12 @@ public class AssertionsOnColumnNullity {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @return {@code this} assertion object.
    * @throws AssertionError If at least one of the values of the column are not {@code null}.
    */
   public static <A extends AbstractAssert> A hasOnlyNullValues(A assertion, WritableAssertionInfo info,
-                                                               List<Object> valuesList) {
+                                                               Iterable<Object> valuesList) {
     int index = 0;
     for (Object value : valuesList) {
       if (value != null) {
@@ -69,12 +67,12 @@ public class AssertionsOnColumnNullity {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @return {@code this} assertion object.
    * @throws AssertionError If at least one of the values of the column are {@code null}.
    */
   public static <A extends AbstractAssert> A hasOnlyNotNullValues(A assertion, WritableAssertionInfo info,
-                                                                  List<Object> valuesList) {
+                                                                  Iterable<Object> valuesList) {
     int index = 0;
     for (Object value : valuesList) {
       if (value == null) {
@@ -19,6 +19,7 @@ import org.assertj.db.type.DateTimeValue;
 import org.assertj.db.type.DateValue;
 import org.assertj.db.type.TimeValue;
 import org.assertj.db.type.ValueType;
+import org.assertj.db.util.ValueMatcher;
 import org.assertj.db.util.Values;
 
 import static org.assertj.db.error.ShouldBeEqualWithEndPoint.shouldBeEqualWithEndPoint;
@@ -62,10 +63,11 @@ public class AssertionsOnColumnOfChangeEquality {
                                                        Boolean expected) {
 
     AssertionsOnColumnOfChangeType.isBoolean(assertion, info, valueAtStartPoint, valueAtEndPoint, true);
-    if (!areEqual(valueAtStartPoint, expected)) {
+    ValueMatcher matcher = ValueMatcher.of(expected);
+    if (!matcher.matches(valueAtStartPoint)) {
       throw failures.failure(info, shouldBeEqualWithStartPoint(valueAtStartPoint, expected));
     }
-    if (!areEqual(valueAtEndPoint, expected)) {
+    if (!matcher.matches(valueAtEndPoint)) {
       throw failures.failure(info, shouldBeEqualWithEndPoint(valueAtEndPoint, expected));
     }
     return assertion;
@@ -115,11 +117,12 @@ public class AssertionsOnColumnOfChangeEquality {
                                                        Number expected) {
 
     AssertionsOnColumnOfChangeType.isNumber(assertion, info, valueAtStartPoint, valueAtEndPoint, true);
-    if (!areEqual(valueAtStartPoint, expected)) {
+    ValueMatcher matcher = ValueMatcher.of(expected);
+    if (!matcher.matches(valueAtStartPoint)) {
       throw failures.failure(info, shouldBeEqualWithStartPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtStartPoint, expected), expected));
     }
-    if (!areEqual(valueAtEndPoint, expected)) {
+    if (!matcher.matches(valueAtEndPoint)) {
       throw failures.failure(info, shouldBeEqualWithEndPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtEndPoint, expected), expected));
     }
@@ -172,10 +175,11 @@ public class AssertionsOnColumnOfChangeEquality {
                                                        byte[] expected) {
 
     AssertionsOnColumnOfChangeType.isBytes(assertion, info, valueAtStartPoint, valueAtEndPoint, true);
-    if (!areEqual(valueAtStartPoint, expected)) {
+    ValueMatcher matcher = ValueMatcher.of(expected);
+    if (!matcher.matches(valueAtStartPoint)) {
       throw failures.failure(info, shouldBeEqualWithStartPoint());
     }
-    if (!areEqual(valueAtEndPoint, expected)) {
+    if (!matcher.matches(valueAtEndPoint)) {
       throw failures.failure(info, shouldBeEqualWithEndPoint());
     }
     return assertion;
@@ -227,11 +231,12 @@ public class AssertionsOnColumnOfChangeEquality {
     AssertionsOnColumnOfChangeType.isOfAnyTypeIn(assertion, info, valueAtStartPoint, valueAtEndPoint,
                                                  ValueType.TEXT, ValueType.NUMBER, ValueType.DATE,
                                                  ValueType.TIME, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
-    if (!areEqual(valueAtStartPoint, expected)) {
+    ValueMatcher matcher = ValueMatcher.of(expected);
+    if (!matcher.matches(valueAtStartPoint)) {
       throw failures.failure(info, shouldBeEqualWithStartPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtStartPoint, expected), expected));
     }
-    if (!areEqual(valueAtEndPoint, expected)) {
+    if (!matcher.matches(valueAtEndPoint)) {
       throw failures.failure(info, shouldBeEqualWithEndPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtEndPoint, expected), expected));
     }
@@ -287,11 +292,12 @@ public class AssertionsOnColumnOfChangeEquality {
 
     AssertionsOnColumnOfChangeType.isOfAnyTypeIn(assertion, info, valueAtStartPoint, valueAtEndPoint, ValueType.DATE,
                                                  ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
-    if (!areEqual(valueAtStartPoint, expected)) {
+    ValueMatcher matcher = ValueMatcher.of(expected);
+    if (!matcher.matches(valueAtStartPoint)) {
       throw failures.failure(info, shouldBeEqualWithStartPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtStartPoint, expected), expected));
     }
-    if (!areEqual(valueAtEndPoint, expected)) {
+    if (!matcher.matches(valueAtEndPoint)) {
       throw failures.failure(info, shouldBeEqualWithEndPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtEndPoint, expected), expected));
     }
@@ -346,11 +352,12 @@ public class AssertionsOnColumnOfChangeEquality {
 
     AssertionsOnColumnOfChangeType.isOfAnyTypeIn(assertion, info, valueAtStartPoint, valueAtEndPoint, ValueType.TIME,
                                                  ValueType.NOT_IDENTIFIED);
-    if (!areEqual(valueAtStartPoint, expected)) {
+    ValueMatcher matcher = ValueMatcher.of(expected);
+    if (!matcher.matches(valueAtStartPoint)) {
       throw failures.failure(info, shouldBeEqualWithStartPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtStartPoint, expected), expected));
     }
-    if (!areEqual(valueAtEndPoint, expected)) {
+    if (!matcher.matches(valueAtEndPoint)) {
       throw failures.failure(info, shouldBeEqualWithEndPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtEndPoint, expected), expected));
     }
@@ -405,11 +412,12 @@ public class AssertionsOnColumnOfChangeEquality {
 
     AssertionsOnColumnOfChangeType.isOfAnyTypeIn(assertion, info, valueAtStartPoint, valueAtEndPoint,
                                                  ValueType.DATE, ValueType.DATE_TIME, ValueType.NOT_IDENTIFIED);
-    if (!areEqual(valueAtStartPoint, expected)) {
+    ValueMatcher matcher = ValueMatcher.of(expected);
+    if (!matcher.matches(valueAtStartPoint)) {
       throw failures.failure(info, shouldBeEqualWithStartPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtStartPoint, expected), expected));
     }
-    if (!areEqual(valueAtEndPoint, expected)) {
+    if (!matcher.matches(valueAtEndPoint)) {
       throw failures.failure(info, shouldBeEqualWithEndPoint(
               Values.getRepresentationFromValueInFrontOfExpected(valueAtEndPoint, expected), expected));
     }
@@ -18,8 +18,6 @@ import org.assertj.db.api.AbstractAssert;
 import org.assertj.db.error.ShouldBeValueType;
 import org.assertj.db.type.ValueType;
 
-import java.util.List;
-
 import static org.assertj.db.error.ShouldBeValueTypeOfAny.shouldBeValueTypeOfAny;
 
 /**
@@ -50,15 +48,16 @@ public class AssertionsOnColumnType {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @param expected   The expected type to compare to.
    * @param lenient    {@code true} if the test is lenient : if the type of a value is not identified (for example when the
    *                   value is {@code null}), it consider that it is ok.
    * @return {@code this} assertion object.
    * @throws AssertionError If the type of the column is different to the type in parameter.
    */
-  public static <A extends AbstractAssert> A isOfType(A assertion, WritableAssertionInfo info, List<Object> valuesList,
-                                                      ValueType expected, boolean lenient) {
+  public static <A extends AbstractAssert> A isOfType(A assertion, WritableAssertionInfo info,
+                                                      Iterable<Object> valuesList, ValueType expected,
+                                                      boolean lenient) {
     if (lenient) {
       return isOfAnyTypeIn(assertion, info, valuesList, expected, ValueType.NOT_IDENTIFIED);
     }
@@ -81,13 +80,13 @@ public class AssertionsOnColumnType {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @param expected   The expected types to compare to.
    * @return {@code this} assertion object.
    * @throws AssertionError If the type of the column is different to all the types in parameters.
    */
   public static <A extends AbstractAssert> A isOfAnyTypeIn(A assertion, WritableAssertionInfo info,
-                                                           List<Object> valuesList, ValueType... expected) {
+                                                           Iterable<Object> valuesList, ValueType... expected) {
     int index = 0;
     loop:
     for (Object value : valuesList) {
@@ -109,14 +108,14 @@ public class AssertionsOnColumnType {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @param lenient    {@code true} if the test is lenient : if the type of a value is not identified (for example when the
    *                   value is {@code null}), it consider that it is ok.
    * @return {@code this} assertion object.
    * @throws AssertionError If the type of the column is not number.
    */
-  public static <A extends AbstractAssert> A isNumber(A assertion, WritableAssertionInfo info, List<Object> valuesList,
-                                                      boolean lenient) {
+  public static <A extends AbstractAssert> A isNumber(A assertion, WritableAssertionInfo info,
+                                                      Iterable<Object> valuesList, boolean lenient) {
     return isOfType(assertion, info, valuesList, ValueType.NUMBER, lenient);
   }
 
@@ -126,14 +125,14 @@ public class AssertionsOnColumnType {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @param lenient    {@code true} if the test is lenient : if the type of a value is not identified (for example when the
    *                   value is {@code null}), it consider that it is ok.
    * @return {@code this} assertion object.
    * @throws AssertionError If the type of the column is not boolean.
    */
-  public static <A extends AbstractAssert> A isBoolean(A assertion, WritableAssertionInfo info, List<Object> valuesList,
-                                                       boolean lenient) {
+  public static <A extends AbstractAssert> A isBoolean(A assertion, WritableAssertionInfo info,
+                                                       Iterable<Object> valuesList, boolean lenient) {
     return isOfType(assertion, info, valuesList, ValueType.BOOLEAN, lenient);
   }
 
@@ -143,14 +142,14 @@ public class AssertionsOnColumnType {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @param lenient    {@code true} if the test is lenient : if the type of a value is not identified (for example when the
    *                   value is {@code null}), it consider that it is ok.
    * @return {@code this} assertion object.
    * @throws AssertionError If the type of the column is not date.
    */
-  public static <A extends AbstractAssert> A isDate(A assertion, WritableAssertionInfo info, List<Object> valuesList,
-                                                    boolean lenient) {
+  public static <A extends AbstractAssert> A isDate(A assertion, WritableAssertionInfo info,
+                                                    Iterable<Object> valuesList, boolean lenient) {
     return isOfType(assertion, info, valuesList, ValueType.DATE, lenient);
   }
 
@@ -160,14 +159,14 @@ public class AssertionsOnColumnType {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @param lenient    {@code true} if the test is lenient : if the type of a value is not identified (for example when the
    *                   value is {@code null}), it consider that it is ok.
    * @return {@code this} assertion object.
    * @throws AssertionError If the type of the column is not time.
    */
-  public static <A extends AbstractAssert> A isTime(A assertion, WritableAssertionInfo info, List<Object> valuesList,
-                                                    boolean lenient) {
+  public static <A extends AbstractAssert> A isTime(A assertion, WritableAssertionInfo info,
+                                                    Iterable<Object> valuesList, boolean lenient) {
     return isOfType(assertion, info, valuesList, ValueType.TIME, lenient);
   }
 
@@ -177,14 +176,14 @@ public class AssertionsOnColumnType {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @param lenient    {@code true} if the test is lenient : if the type of a value is not identified (for example when the
    *                   value is {@code null}), it consider that it is ok.
    * @return {@code this} assertion object.
    * @throws AssertionError If the type of the column is not date/time.
    */
   public static <A extends AbstractAssert> A isDateTime(A assertion, WritableAssertionInfo info,
-                                                        List<Object> valuesList, boolean lenient) {
+                                                        Iterable<Object> valuesList, boolean lenient) {
     return isOfType(assertion, info, valuesList, ValueType.DATE_TIME, lenient);
   }
 
@@ -194,14 +193,14 @@ public class AssertionsOnColumnType {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @param lenient    {@code true} if the test is lenient : if the type of a value is not identified (for example when the
    *                   value is {@code null}), it consider that it is ok.
    * @return {@code this} assertion object.
    * @throws AssertionError If the type of the column is not array of bytes.
    */
-  public static <A extends AbstractAssert> A isBytes(A assertion, WritableAssertionInfo info, List<Object> valuesList,
-                                                     boolean lenient) {
+  public static <A extends AbstractAssert> A isBytes(A assertion, WritableAssertionInfo info,
+                                                     Iterable<Object> valuesList, boolean lenient) {
     return isOfType(assertion, info, valuesList, ValueType.BYTES, lenient);
   }
 
@@ -211,14 +210,14 @@ public class AssertionsOnColumnType {
    * @param <A>        The type of the assertion which call this method.
    * @param assertion  The assertion which call this method.
    * @param info       Writable information about an assertion.
-   * @param valuesList The list of values.
+   * @param valuesList The values.
    * @param lenient    {@code true} if the test is lenient : if the type of a value is not identified (for example when the
    *                   value is {@code null}), it consider that it is ok.
    * @return {@code this} assertion object.
    * @throws AssertionError If the type of the column is not text.
    */
-  public static <A extends AbstractAssert> A isText(A assertion, WritableAssertionInfo info, List<Object> valuesList,
-                                                    boolean lenient) {
+  public static <A extends AbstractAssert> A isText(A assertion, WritableAssertionInfo info,
+                                                    Iterable<Object> valuesList, boolean lenient) {
     return isOfType(assertion, info, valuesList, ValueType.TEXT, lenient);
   }
 }
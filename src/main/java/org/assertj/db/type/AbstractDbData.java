@@ -16,6 +16,8 @@ import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.util.RowComparator;
 
 import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
 import java.sql.*;
 import java.util.*;
 
@@ -34,7 +36,14 @@ import java.util.*;
  * @param <D> Class of the subclass (an implementation of {@link AbstractDbData}) : useful for the fluent methods
  *          (setters).
  */
-public abstract class AbstractDbData<D extends AbstractDbData<D>> extends AbstractDbElement<D> {
+public abstract class AbstractDbData<D extends AbstractDbData<D>> extends AbstractDbElement<D>
+    implements AutoCloseable {
+
+  /**
+   * The number of rows fetched at once from the database when the values are streamed (if there is no fetch size in
+   * the options of the loading).
+   */
+  private static final int STREAMING_FETCH_SIZE = 1000;
 
   /**
    * The type of the date on which is the change.
@@ -56,6 +65,62 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * Map the columns with their index in key (contains the columns already generated).
    */
   private final Map<Integer, Column> columnsMap = new HashMap<>();
+  /**
+   * Index of the rows with the primary keys values in key (built at the first search by primary keys values).
+   * <p>
+   * Remains {@code null} when it is not built or when the primary keys values can not be indexed.
+   * </p>
+   */
+  private Map<ValuesKey, Row> pksIndex;
+  /**
+   * Indicates if {@link #pksIndex} is built.
+   */
+  private boolean pksIndexBuilt;
+  /**
+   * Indicates for each primary key if all its values in {@link #pksIndex} are {@code String} (or {@code null}).
+   */
+  private boolean[] pksIndexTextValues;
+  /**
+   * The SQL types of the columns (from {@link Types}) of the loaded rows.
+   */
+  private int[] columnsType;
+  /**
+   * Indicates if the rows are sorted after the loading.
+   */
+  private boolean sortingRows = true;
+  /**
+   * The number of rows from which the rows are sorted in parallel.
+   */
+  private int parallelSortThreshold = Integer.MAX_VALUE;
+  /**
+   * The number of threads used to sort the rows in parallel.
+   */
+  private int parallelSortParallelism = Runtime.getRuntime().availableProcessors();
+  /**
+   * Indicates if the values are streamed from the database instead of being loaded in {@link #rowsList}.
+   */
+  private boolean streaming;
+  /**
+   * The directory in which the values of the rows are stored in a temporary file ({@code null} if the values are kept
+   * in memory).
+   */
+  private File spillDirectory;
+  /**
+   * The file in which the values of the loaded rows are stored ({@code null} if the values are in memory).
+   */
+  private RowsFile rowsFile;
+  /**
+   * Indicates if only the description of the data (columns name and primary keys name) is loading.
+   */
+  private boolean descriptionLoading;
+  /**
+   * The cache of the counts computed by the database (the key is the SQL request of the count).
+   */
+  private final Map<String, Integer> countsMap = new HashMap<>();
+  /**
+   * The string used to quote the SQL identifiers (read once from the metadata of the database).
+   */
+  private String identifierQuoteString;
 
   /**
    * Default constructor.
@@ -103,6 +168,150 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     return dataType;
   }
 
+  /**
+   * Returns if the rows are sorted after the loading.
+   * 
+   * @see #setSortingRows(boolean)
+   * @return {@code true} if the rows are sorted, {@code false} otherwise.
+   */
+  public boolean isSortingRows() {
+    return sortingRows;
+  }
+
+  /**
+   * Sets if the rows are sorted after the loading.
+   * <p>
+   * By default, the rows are sorted with the primary keys values and then with all the values. If the SQL request is
+   * already sorted (with an {@code ORDER BY}), the sort can be skipped to keep the order of the request.
+   * </p>
+   * 
+   * @param sortingRows {@code true} if the rows are sorted, {@code false} otherwise.
+   * @return The actual instance.
+   */
+  public D setSortingRows(boolean sortingRows) {
+    this.sortingRows = sortingRows;
+    return myself;
+  }
+
+  /**
+   * Returns the number of rows from which the rows are sorted in parallel.
+   * 
+   * @see #setParallelSortThreshold(int)
+   * @return The number of rows from which the rows are sorted in parallel.
+   */
+  public int getParallelSortThreshold() {
+    return parallelSortThreshold;
+  }
+
+  /**
+   * Sets the number of rows from which the rows are sorted in parallel.
+   * <p>
+   * By default, the rows are sorted on one thread. When the number of loaded rows is greater than or equal to the
+   * threshold, the rows are sorted with a stable merge sort executed in a {@link java.util.concurrent.ForkJoinPool}.
+   * The order of the rows is the same as with the sort on one thread.
+   * </p>
+   * 
+   * @param parallelSortThreshold The number of rows from which the rows are sorted in parallel.
+   * @return The actual instance.
+   * @throws IllegalArgumentException If {@code parallelSortThreshold} is less than {@code 1}.
+   */
+  public D setParallelSortThreshold(int parallelSortThreshold) {
+    if (parallelSortThreshold < 1) {
+      throw new IllegalArgumentException("parallelSortThreshold must be greater than 0");
+    }
+    this.parallelSortThreshold = parallelSortThreshold;
+    return myself;
+  }
+
+  /**
+   * Returns the number of threads used to sort the rows in parallel.
+   * 
+   * @see #setParallelSortParallelism(int)
+   * @return The number of threads used to sort the rows in parallel.
+   */
+  public int getParallelSortParallelism() {
+    return parallelSortParallelism;
+  }
+
+  /**
+   * Sets the number of threads used to sort the rows in parallel (when the number of rows is greater than or equal to
+   * {@link #getParallelSortThreshold()}).
+   * <p>
+   * By default, it is the number of processors. The threads are created for each sort and stopped at the end of it.
+   * </p>
+   * 
+   * @param parallelSortParallelism The number of threads used to sort the rows in parallel.
+   * @return The actual instance.
+   * @throws IllegalArgumentException If {@code parallelSortParallelism} is less than {@code 1}.
+   */
+  public D setParallelSortParallelism(int parallelSortParallelism) {
+    if (parallelSortParallelism < 1) {
+      throw new IllegalArgumentException("parallelSortParallelism must be greater than 0");
+    }
+    this.parallelSortParallelism = parallelSortParallelism;
+    return myself;
+  }
+
+  /**
+   * Returns if the values are streamed from the database.
+   * 
+   * @see #setStreaming(boolean)
+   * @return {@code true} if the values are streamed, {@code false} otherwise.
+   */
+  public boolean isStreaming() {
+    return streaming;
+  }
+
+  /**
+   * Sets if the values are streamed from the database.
+   * <p>
+   * In this mode, the rows are not loaded in memory to get the columns name, the primary keys name, the number of rows
+   * ({@link #getNumberOfRows()}) or a column ({@link #getColumn(int)}) : the values of a column are read with a
+   * forward-only cursor each time they are browsed. It is useful for the assertions which browse the values once
+   * (number of rows, nullity or type of a column) on big tables.<br>
+   * The rows are still loaded (and sorted) when they are accessed with {@link #getRowsList()}, {@link #getRow(int)} or
+   * {@link #getLoadedColumn(int)} or {@link Column#getValuesList()}. In this mode, the values browsed with
+   * {@link Column#getStreamedValues()} are in the order returned by the database : the assertions which depend on the
+   * order of the values use the loaded rows.
+   * </p>
+   * 
+   * @param streaming {@code true} if the values are streamed, {@code false} otherwise.
+   * @return The actual instance.
+   */
+  public D setStreaming(boolean streaming) {
+    this.streaming = streaming;
+    return myself;
+  }
+
+  /**
+   * Returns the directory in which the values of the rows are stored.
+   * 
+   * @see #setSpillDirectory(File)
+   * @return The directory or {@code null} if the values are kept in memory.
+   */
+  public File getSpillDirectory() {
+    return spillDirectory;
+  }
+
+  /**
+   * Sets the directory in which the values of the rows are stored in a temporary file when they are loaded, instead of
+   * being kept in memory.
+   * <p>
+   * The values are written with a compact binary encoding and read from the file when they are needed (the values
+   * read are kept in memory until the garbage collector needs the memory). Only the position of each row in the file
+   * and the primary keys values (when they are used) stay in memory. It allows to load tables bigger than the memory,
+   * for example for a {@link Changes} which keeps the rows at start point and at end point.<br>
+   * The file is deleted when the rows are loaded again and when the data are closed ({@link #close()}).
+   * </p>
+   * 
+   * @param spillDirectory The directory ({@code null} to keep the values in memory).
+   * @return The actual instance.
+   */
+  public D setSpillDirectory(File spillDirectory) {
+    this.spillDirectory = spillDirectory;
+    return myself;
+  }
+
   /**
    * Returns the SQL request.
    * 
@@ -124,14 +333,271 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   private void load() {
     try (Connection connection = getConnection()) {
-      // Call the specific loading depending of Table or Request.
-      loadImpl(connection);
-      Collections.sort(rowsList, RowComparator.INSTANCE);
-      if (pksNameList == null) {
-        pksNameList = new ArrayList<>();
+      load(connection);
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Loads the informations of the data from the database with a {@link Connection} which is not closed.
+   * <p>
+   * This method is used when the same {@link Connection} is used to load several data (for example in a
+   * {@link Changes}).
+   * </p>
+   * 
+   * @param connection The {@link Connection} to the database.
+   * @throws SQLException SQL Exception.
+   */
+  void load(Connection connection) throws SQLException {
+    // Call the specific loading depending of Table or Request.
+    loadImpl(connection);
+    if (sortingRows && rowsList != null) {
+      Comparator<Row> comparator = RowComparator.INSTANCE;
+      if (columnsType != null) {
+        comparator = new TypedRowComparator(Row.getPksIndexes(pksNameList, columnsNameList), columnsType);
+      }
+      if (rowsList.size() >= parallelSortThreshold) {
+        ParallelMergeSort.sort(rowsList, comparator, parallelSortParallelism);
+      } else {
+        Collections.sort(rowsList, comparator);
       }
+    }
+    if (pksNameList == null) {
+      pksNameList = new ArrayList<>();
+    }
+  }
+
+  /**
+   * Loads only the description of the data (the columns name and the primary keys name) from the database.
+   * <p>
+   * The request is executed with at most one row and the rows are not kept.
+   * </p>
+   * 
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private void loadDescription() {
+    descriptionLoading = true;
+    try (Connection connection = getConnection()) {
+      load(connection);
     } catch (SQLException e) {
       throw new AssertJDBException(e);
+    } finally {
+      descriptionLoading = false;
+      rowsList = null;
+      clearPksIndex();
+      closeRowsFile();
+    }
+  }
+
+  /**
+   * Closes the file in which the values of the rows are stored when a spill directory is set
+   * ({@link #setSpillDirectory(File)}) : the file is deleted and the rows are loaded again at the next access (the rows
+   * read before can not be used after).
+   * <p>
+   * This method does nothing if the values of the rows are in memory.
+   * </p>
+   * 
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link IOException} during the closing.
+   */
+  @Override
+  public void close() {
+    if (rowsFile != null) {
+      rowsList = null;
+      columnsMap.clear();
+      clearPksIndex();
+      closeRowsFile();
+    }
+  }
+
+  /**
+   * Returns the file in which the values of the loaded rows are stored.
+   * 
+   * @return The file or {@code null} if the values are in memory.
+   */
+  RowsFile getRowsFile() {
+    return rowsFile;
+  }
+
+  /**
+   * Closes the file in which the values of the rows are stored (if there is one).
+   * 
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link IOException} during the closing.
+   */
+  private void closeRowsFile() {
+    if (rowsFile != null) {
+      try {
+        rowsFile.close();
+      } catch (IOException e) {
+        throw new AssertJDBException(e);
+      } finally {
+        rowsFile = null;
+      }
+    }
+  }
+
+  /**
+   * Applies the options to the {@link Statement} used to load the data.
+   * <p>
+   * This method is called by the implementations of {@link #loadImpl(Connection)} just after the creation of the
+   * {@link Statement}, and by the other paths which read the data (streaming and counts). The options of the loading
+   * ({@link #getLoadingOptions()} or the options of the {@link Source}) are applied.
+   * </p>
+   * 
+   * @param statement The {@link Statement}.
+   * @throws SQLException SQL Exception.
+   */
+  void applyStatementOptions(Statement statement) throws SQLException {
+    LoadingOptions loadingOptions = getLoadingOptionsToApply();
+    if (loadingOptions != null) {
+      loadingOptions.applyTo(statement);
+    }
+    if (descriptionLoading) {
+      statement.setMaxRows(1);
+    }
+  }
+
+  /**
+   * Sets the parameters of the SQL request on the {@link PreparedStatement}.
+   * <p>
+   * There is no parameter by default.
+   * </p>
+   * 
+   * @param statement The {@link PreparedStatement}.
+   * @throws SQLException SQL Exception.
+   */
+  void setParameters(PreparedStatement statement) throws SQLException {
+    // No parameter by default
+  }
+
+  /**
+   * Returns the SQL request which counts the rows of the data from database satisfying a condition.
+   * <p>
+   * By default, the count can not be computed by the database and this method returns {@code null}.
+   * </p>
+   * 
+   * @param condition The SQL condition ({@code null} to count all the rows).
+   * @return The SQL request or {@code null} if the count can not be computed by the database.
+   */
+  String getCountRequest(String condition) {
+    return null;
+  }
+
+  /**
+   * Returns the label of the column as returned by the database (used in the SQL conditions).
+   * <p>
+   * By default, this method returns the name of the column.
+   * </p>
+   * 
+   * @param index The column index.
+   * @return The label of the column.
+   */
+  String getColumnLabel(int index) {
+    return getColumnsNameList().get(index);
+  }
+
+  /**
+   * Returns the number of rows satisfying a condition computed by the database.
+   * <p>
+   * The result is computed once for each request and kept in {@link #countsMap}. If a maximum number of rows is set
+   * in the options of the loading, only the number of all the rows is computed (and limited to this maximum).
+   * </p>
+   * 
+   * @param condition The SQL condition ({@code null} to count all the rows).
+   * @return The number of rows or {@code null} if the count can not be computed by the database.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws SQLException SQL Exception.
+   */
+  private Integer getCountFromDatabase(String condition) throws SQLException {
+    LoadingOptions loadingOptions = getLoadingOptionsToApply();
+    Integer maxRows = loadingOptions == null ? null : loadingOptions.getMaxRows();
+    boolean limited = maxRows != null && maxRows > 0;
+    if (limited && condition != null) {
+      // The rows satisfying the condition can not be counted among the limited rows
+      return null;
+    }
+    String request = getCountRequest(condition);
+    if (request == null) {
+      return null;
+    }
+    Integer count = countsMap.get(request);
+    if (count == null) {
+      try (Connection connection = getConnection();
+          Statement statement = createStatement(connection);
+          ResultSet resultSet = statement.executeQuery(request)) {
+        resultSet.next();
+        count = resultSet.getInt(1);
+      }
+      countsMap.put(request, count);
+    }
+    if (limited) {
+      return Math.min(count, maxRows);
+    }
+    return count;
+  }
+
+  /**
+   * Returns the SQL identifier in parameter quoted with the string of the database
+   * ({@link DatabaseMetaData#getIdentifierQuoteString()}).
+   * 
+   * @param identifier The identifier.
+   * @return The quoted identifier (or the identifier if the database does not support the quoting).
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws SQLException SQL Exception.
+   */
+  private String quoteIdentifier(String identifier) throws SQLException {
+    if (identifierQuoteString == null) {
+      try (Connection connection = getConnection()) {
+        identifierQuoteString = connection.getMetaData().getIdentifierQuoteString().trim();
+      }
+    }
+    if (identifierQuoteString.isEmpty()) {
+      return identifier;
+    }
+    return identifierQuoteString
+        + identifier.replace(identifierQuoteString, identifierQuoteString + identifierQuoteString)
+        + identifierQuoteString;
+  }
+
+  /**
+   * Creates a {@link Statement} with the options of the loading applied.
+   * 
+   * @param connection The {@link Connection}.
+   * @return The {@link Statement}.
+   * @throws SQLException SQL Exception.
+   */
+  Statement createStatement(Connection connection) throws SQLException {
+    Statement statement = connection.createStatement();
+    try {
+      applyStatementOptions(statement);
+    } catch (SQLException | RuntimeException e) {
+      statement.close();
+      throw e;
+    }
+    return statement;
+  }
+
+  /**
+   * Opens a forward-only cursor on the rows of the data from database.
+   * 
+   * @return The cursor (which must be closed).
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws SQLException SQL Exception.
+   */
+  RowsCursor openRowsCursor() throws SQLException {
+    List<String> columnsNameList = getColumnsNameList();
+    Connection connection = getConnection();
+    try {
+      PreparedStatement statement = connection.prepareStatement(getRequest());
+      statement.setFetchSize(STREAMING_FETCH_SIZE);
+      applyStatementOptions(statement);
+      setParameters(statement);
+      ResultSet resultSet = statement.executeQuery();
+      return new RowsCursor(connection, resultSet, columnsNameList);
+    } catch (SQLException | RuntimeException e) {
+      connection.close();
+      throw e;
     }
   }
 
@@ -154,7 +620,11 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * Collects rows from a {@link ResultSet}.
    * <p>
    * This method browse the {@link ResultSet} in parameter to get the data and fill the list of {@link Row} (
-   * {@link #rowsList}) with these data.
+   * {@link #rowsList}) with these data.<br>
+   * The index and the SQL type of each column are resolved once from the {@link ResultSetMetaData} before browsing
+   * the rows, then the values are read by position.<br>
+   * The values are kept by column in a {@link ColumnStorage} and the values of each {@link Row} are a view on these
+   * storages.
    * </p>
    * 
    * @param resultSet The {@link ResultSet}.
@@ -162,36 +632,161 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   protected void collectRowsFromResultSet(ResultSet resultSet) throws SQLException {
     ResultSetMetaData metaData = resultSet.getMetaData();
-    rowsList = new ArrayList<>();
+    int[] columnsIndex = getColumnsIndex(metaData, columnsNameList);
+    columnsType = getColumnsType(metaData, columnsIndex);
+    closeRowsFile();
+    if (spillDirectory != null) {
+      collectRowsInFile(resultSet, columnsIndex);
+      return;
+    }
+
+    ColumnStorage.Builder[] builders = new ColumnStorage.Builder[columnsIndex.length];
+    for (int i = 0; i < builders.length; i++) {
+      builders[i] = new ColumnStorage.Builder();
+    }
+    int numberOfRows = 0;
     while (resultSet.next()) {
-      List<Object> objectsList = new ArrayList<>();
-      for (String columnName : columnsNameList) {
-        // TODO Improve the check of the type
-        int index = -1;
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
-          if (columnName.equalsIgnoreCase(metaData.getColumnLabel(i))) {
-            index = i;
-            break;
-          }
+      for (int i = 0; i < columnsIndex.length; i++) {
+        builders[i].add(getValue(resultSet, columnsIndex[i], columnsType[i]));
+      }
+      numberOfRows++;
+    }
+    ColumnStorage[] columnsStorage = new ColumnStorage[builders.length];
+    for (int i = 0; i < builders.length; i++) {
+      columnsStorage[i] = builders[i].build();
+    }
+
+    int[] pksIndexes = pksNameList == null ? null : Row.getPksIndexes(pksNameList, columnsNameList);
+    rowsList = new ArrayList<>(numberOfRows);
+    clearPksIndex();
+    for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+      rowsList.add(new Row(pksNameList, pksIndexes, columnsNameList, new RowValuesList(columnsStorage, rowIndex)));
+    }
+  }
+
+  /**
+   * Collects rows from a {@link ResultSet} in a temporary {@link RowsFile} in the {@link #spillDirectory}.
+   * 
+   * @param resultSet The {@link ResultSet}.
+   * @param columnsIndex The indexes of the columns in the {@link ResultSet}.
+   * @throws SQLException A SQL Exception.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link IOException} during the writing.
+   */
+  private void collectRowsInFile(ResultSet resultSet, int[] columnsIndex) throws SQLException {
+    RowsFile rowsFile = null;
+    try {
+      rowsFile = new RowsFile(spillDirectory);
+      Object[] values = new Object[columnsIndex.length];
+      while (resultSet.next()) {
+        for (int i = 0; i < columnsIndex.length; i++) {
+          values[i] = getValue(resultSet, columnsIndex[i], columnsType[i]);
         }
-        int type = metaData.getColumnType(index);
-        switch (type) {
-          case Types.DATE:
-            objectsList.add(resultSet.getDate(columnName));
-            break;
-          case Types.TIME:
-            objectsList.add(resultSet.getTime(columnName));
-            break;
-          case Types.TIMESTAMP:
-            objectsList.add(resultSet.getTimestamp(columnName));
-            break;
-
-          default:
-            objectsList.add(resultSet.getObject(columnName));
-            break;
+        rowsFile.add(values);
+      }
+      rowsFile.complete();
+    } catch (IOException e) {
+      closeQuietly(rowsFile);
+      throw new AssertJDBException(e);
+    } catch (SQLException | RuntimeException e) {
+      closeQuietly(rowsFile);
+      throw e;
+    }
+    this.rowsFile = rowsFile;
+
+    int[] pksIndexes = pksNameList == null ? null : Row.getPksIndexes(pksNameList, columnsNameList);
+    rowsList = new ArrayList<>(rowsFile.size());
+    clearPksIndex();
+    for (int rowIndex = 0; rowIndex < rowsFile.size(); rowIndex++) {
+      rowsList.add(new Row(pksNameList, pksIndexes, columnsNameList, new StoredRowValuesList(rowsFile, rowIndex,
+          columnsIndex.length)));
+    }
+  }
+
+  /**
+   * Closes a {@link RowsFile} after an exception (a new exception is ignored).
+   * 
+   * @param rowsFile The {@link RowsFile} ({@code null} if it is not created).
+   */
+  private static void closeQuietly(RowsFile rowsFile) {
+    if (rowsFile != null) {
+      try {
+        rowsFile.close();
+      } catch (IOException e) {
+        // The first exception is more relevant
+      }
+    }
+  }
+
+  /**
+   * Returns the indexes in the {@link ResultSetMetaData} of the columns in the list.
+   * <p>
+   * An index is {@code -1} if the column is not found in the {@link ResultSetMetaData}.
+   * </p>
+   * 
+   * @param metaData The {@link ResultSetMetaData}.
+   * @param columnsNameList The list of the columns name.
+   * @return The indexes of the columns (starting at {@code 1} like in JDBC).
+   * @throws SQLException A SQL Exception.
+   */
+  static int[] getColumnsIndex(ResultSetMetaData metaData, List<String> columnsNameList) throws SQLException {
+    int columnCount = metaData.getColumnCount();
+    String[] labels = new String[columnCount];
+    for (int i = 1; i <= columnCount; i++) {
+      labels[i - 1] = metaData.getColumnLabel(i);
+    }
+
+    int[] columnsIndex = new int[columnsNameList.size()];
+    int index = 0;
+    for (String columnName : columnsNameList) {
+      columnsIndex[index] = -1;
+      for (int i = 0; i < columnCount; i++) {
+        if (columnName.equalsIgnoreCase(labels[i])) {
+          columnsIndex[index] = i + 1;
+          break;
         }
       }
-      rowsList.add(new Row(pksNameList, columnsNameList, objectsList));
+      index++;
+    }
+    return columnsIndex;
+  }
+
+  /**
+   * Returns the SQL types of the columns.
+   * 
+   * @param metaData The {@link ResultSetMetaData}.
+   * @param columnsIndex The indexes of the columns (starting at {@code 1} like in JDBC).
+   * @return The SQL types of the columns (from {@link Types}).
+   * @throws SQLException A SQL Exception.
+   */
+  static int[] getColumnsType(ResultSetMetaData metaData, int[] columnsIndex) throws SQLException {
+    int[] columnsType = new int[columnsIndex.length];
+    for (int i = 0; i < columnsIndex.length; i++) {
+      columnsType[i] = metaData.getColumnType(columnsIndex[i]);
+    }
+    return columnsType;
+  }
+
+  /**
+   * Returns the value at the index in the current row of the {@link ResultSet}, depending of the SQL type (the value is
+   * converted if a {@link ValueConverter} is registered for its class).
+   * 
+   * @param resultSet The {@link ResultSet}.
+   * @param index The index of the column (starting at {@code 1} like in JDBC).
+   * @param type The SQL type of the column (from {@link Types}).
+   * @return The value.
+   * @throws SQLException A SQL Exception.
+   */
+  static Object getValue(ResultSet resultSet, int index, int type) throws SQLException {
+    switch (type) {
+      case Types.DATE:
+        return resultSet.getDate(index);
+      case Types.TIME:
+        return resultSet.getTime(index);
+      case Types.TIMESTAMP:
+        return resultSet.getTimestamp(index);
+
+      default:
+        return ValueType.getConvertedValue(resultSet.getObject(index));
     }
   }
 
@@ -208,7 +803,11 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   public List<String> getColumnsNameList() {
     if (columnsNameList == null) {
-      load();
+      if (streaming) {
+        loadDescription();
+      } else {
+        load();
+      }
     }
     return columnsNameList;
   }
@@ -235,7 +834,11 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    */
   public List<String> getPksNameList() {
     if (pksNameList == null) {
-      load();
+      if (streaming) {
+        loadDescription();
+      } else {
+        load();
+      }
     }
     return pksNameList;
   }
@@ -269,10 +872,12 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
       this.pksNameList.add(pkNameUp);
     }
     if (rowsList != null) {
+      int[] pksIndexes = Row.getPksIndexes(this.pksNameList, columnsNameList);
       for (Row row : rowsList) {
-        row.setPksNameList(this.pksNameList);
+        row.setPksNameList(this.pksNameList, pksIndexes);
       }
     }
+    clearPksIndex();
     controlIfAllThePksNameExistInTheColumns();
   }
 
@@ -294,13 +899,192 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     return rowsList;
   }
 
+  /**
+   * Saves the rows in a snapshot file (the rows are loaded if they are not).
+   * <p>
+   * The snapshot can be used later as the start point of a {@link Changes} with
+   * {@link Changes#setStartPointFrom(File)}, without reading the database.
+   * </p>
+   * 
+   * @param file The file.
+   * @return The actual instance.
+   * @throws AssertJDBException If triggered, this exception wrap a possible exception during the loading or the
+   *           writing.
+   */
+  public D saveTo(File file) {
+    try {
+      SnapshotFile.write(file, Collections.singletonList(this));
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return myself;
+  }
+
+  /**
+   * Returns the SQL types of the columns.
+   * 
+   * @return The SQL types ({@code null} if the rows are not loaded from the database).
+   */
+  int[] getColumnsType() {
+    return columnsType;
+  }
+
+  /**
+   * Sets the rows as loaded (for example when they are read from a snapshot file).
+   * 
+   * @param columnsNameList The list of the columns name.
+   * @param pksNameList The list of the primary keys name.
+   * @param columnsType The SQL types of the columns ({@code null} if they are unknown).
+   * @param rowsList The rows (sorted like when they are loaded).
+   */
+  void setLoadedRows(List<String> columnsNameList, List<String> pksNameList, int[] columnsType, List<Row> rowsList) {
+    closeRowsFile();
+    this.columnsNameList = columnsNameList;
+    this.pksNameList = pksNameList;
+    this.columnsType = columnsType;
+    this.rowsList = rowsList;
+    clearPksIndex();
+  }
+
+  /**
+   * Returns if the rows are loaded.
+   * 
+   * @return {@code true} if the rows are loaded, {@code false} otherwise.
+   */
+  boolean isLoaded() {
+    return rowsList != null;
+  }
+
+  /**
+   * Adds rows to the rows loaded (the rows are sorted after the loading).
+   * 
+   * @param otherRowsList The rows to add (with the same columns and primary keys).
+   */
+  void addRows(List<Row> otherRowsList) {
+    rowsList.addAll(otherRowsList);
+    clearPksIndex();
+  }
+
+  /**
+   * Returns the number of rows of the data from database.
+   * <p>
+   * If the rows are not loaded, the rows are counted by the database when it is possible (for a {@link Table}), or with
+   * a forward-only cursor when the values are streamed. Otherwise this method calls {@link #getRowsList()}.
+   * </p>
+   * 
+   * @return The number of rows.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  public int getNumberOfRows() {
+    if (rowsList == null) {
+      try {
+        Integer count = getCountFromDatabase(null);
+        if (count != null) {
+          return count;
+        }
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+    if (!streaming || rowsList != null) {
+      return getRowsList().size();
+    }
+    try (RowsCursor cursor = openRowsCursor()) {
+      int numberOfRows = 0;
+      while (cursor.next()) {
+        numberOfRows++;
+      }
+      return numberOfRows;
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Returns the number of {@code null} values in the column corresponding to the column index in parameter.
+   * <p>
+   * If the rows are not loaded, the values are counted by the database when it is possible (for a {@link Table}).
+   * Otherwise (or if the count fails) the values of the column are browsed.
+   * </p>
+   * 
+   * @param index The column index.
+   * @return The number of {@code null} values.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  public int getNumberOfNullValues(int index) {
+    return getNumberOfValues(index, true);
+  }
+
+  /**
+   * Returns the number of values which are not {@code null} in the column corresponding to the column index in
+   * parameter.
+   * <p>
+   * If the rows are not loaded, the values are counted by the database when it is possible (for a {@link Table}).
+   * Otherwise (or if the count fails) the values of the column are browsed.
+   * </p>
+   * 
+   * @param index The column index.
+   * @return The number of values which are not {@code null}.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  public int getNumberOfNotNullValues(int index) {
+    return getNumberOfValues(index, false);
+  }
+
+  /**
+   * Returns the number of values which are {@code null} (or not) in the column corresponding to the column index.
+   * 
+   * @param index The column index.
+   * @param nullValues {@code true} to count the {@code null} values, {@code false} to count the other values.
+   * @return The number of values.
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  private int getNumberOfValues(int index, boolean nullValues) {
+    if (rowsList == null) {
+      try {
+        String columnLabel = getColumnLabel(index);
+        Integer count = getCountFromDatabase(quoteIdentifier(columnLabel) + (nullValues ? " IS NULL" : " IS NOT NULL"));
+        if (count != null) {
+          return count;
+        }
+      } catch (SQLException e) {
+        // The condition is not supported by the database : the values are browsed
+      }
+    }
+    Iterable<Object> values = getColumn(index).getStreamedValues();
+    try {
+      int count = 0;
+      for (Object value : values) {
+        if ((value == null) == nullValues) {
+          count++;
+        }
+      }
+      return count;
+    } finally {
+      if (values instanceof StreamedValues) {
+        try {
+          ((StreamedValues) values).close();
+        } catch (SQLException e) {
+          throw new AssertJDBException(e);
+        }
+      }
+    }
+  }
+
   /**
    * Returns the column corresponding to the column index in parameter and the values inside the column.
    * <p>
    * This method calls {@link #getColumnsNameList()} and {@link #getValuesList(int)} which calls {@link #getRowsList()}.
    * <br>
    * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
-   * database by calling the {@link #load()} private method.
+   * database by calling the {@link #load()} private method.<br>
+   * If the values are streamed and the rows are not loaded, the values of the column returned by
+   * {@link Column#getStreamedValues()} are read from the database each time they are browsed (they must be closed if
+   * they are not browsed entirely) and the rows are loaded only when {@link Column#getValuesList()} is called.
    * </p>
    * 
    * @param index The column index.
@@ -309,16 +1093,37 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
   public Column getColumn(int index) {
-    if (columnsMap.containsKey(index)) {
-      return columnsMap.get(index);
+    Column column = columnsMap.get(index);
+    if (column != null && (rowsList == null || !column.isStreamed())) {
+      return column;
     }
     String name = getColumnsNameList().get(index);
-    List<Object> valuesList = getValuesList(index);
-    Column column = new Column(name, valuesList);
+    if (streaming && rowsList == null) {
+      column = new Column(name, new StreamedValues(this, index));
+    } else {
+      column = new Column(name, getValuesList(index));
+    }
     columnsMap.put(index, column);
     return column;
   }
 
+  /**
+   * Returns the column corresponding to the column index in parameter with the values of the loaded rows.
+   * <p>
+   * Unlike {@link #getColumn(int)}, the rows are loaded even if the values are streamed : the values are in the order
+   * of the rows (sorted by primary keys) and they can be accessed by index.
+   * </p>
+   * 
+   * @param index The column index.
+   * @return The column and the values
+   * @throws NullPointerException If the {@link #dataSource} and {@link #source} fields are {@code null}.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
+   */
+  public Column getLoadedColumn(int index) {
+    getRowsList();
+    return getColumn(index);
+  }
+
   /**
    * Returns the row corresponding to the index.
    * <p>
@@ -339,6 +1144,7 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
   /**
    * Returns the values of the column corresponding to the column name.
    * <p>
+   * The values are a view on the rows (they are not copied).<br>
    * This method calls {@link #getColumnsNameList()} and {@link #getRowsList()}.<br>
    * If it is the first call to {@link #getColumnsNameList()} or {@link #getRowsList()}, the data are loaded from
    * database by calling the {@link #load()} private method.
@@ -350,21 +1156,57 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
    * @throws AssertJDBException If triggered, this exception wrap a possible {@link SQLException} during the loading.
    */
   private List<Object> getValuesList(int index) {
-    List<Object> valuesList = new ArrayList<>();
-    for (Row row : getRowsList()) {
-      valuesList.add(row.getColumnValue(index));
-    }
-
-    return valuesList;
+    return new ColumnValuesList(getRowsList(), index);
   }
 
   /**
    * Returns the {@link Row} with the primary keys values in parameter.
+   * <p>
+   * The search uses an index of the rows which is built at the first call. If the key is not found in the index and
+   * if the primary keys values can be compared to other kind of values (a {@code String} which can be compared to a
+   * number for example, unless all the values of this primary key in the rows are {@code String}), all the rows are
+   * browsed.
+   * </p>
    * 
    * @param pksValues The primary keys values.
    * @return The {@link Row} with the same primary keys values.
    */
   public Row getRowFromPksValues(Object... pksValues) {
+    return getRowFromPksValues(pksValues, new ValuesKey(pksValues));
+  }
+
+  /**
+   * Returns the {@link Row} with the same primary keys values as the {@link Row} in parameter.
+   * <p>
+   * The key of the primary keys values of the {@link Row} in parameter is reused for the search in the index.
+   * </p>
+   * 
+   * @param row The {@link Row} (from another data).
+   * @return The {@link Row} with the same primary keys values.
+   */
+  Row getRowWithSamePksValues(Row row) {
+    return getRowFromPksValues(row.getPksValues(), row.getPksKey());
+  }
+
+  /**
+   * Returns the {@link Row} with the primary keys values in parameter.
+   * 
+   * @param pksValues The primary keys values.
+   * @param key The key built with the primary keys values.
+   * @return The {@link Row} with the same primary keys values.
+   */
+  private Row getRowFromPksValues(Object[] pksValues, ValuesKey key) {
+    Map<ValuesKey, Row> index = getPksIndex();
+    if (index != null) {
+      Row row = index.get(key);
+      if (row != null && row.hasPksValuesEqualTo(pksValues)) {
+        return row;
+      }
+      if (row == null && isNotFoundInPksIndexConclusive(pksValues)) {
+        return null;
+      }
+    }
+
     for (Row row : getRowsList()) {
       if (row.hasPksValuesEqualTo(pksValues)) {
         return row;
@@ -372,4 +1214,75 @@ public abstract class AbstractDbData<D extends AbstractDbData<D>> extends Abstra
     }
     return null;
   }
+
+  /**
+   * Returns if the primary keys values which are not found in the index are not equal to the primary keys values of a
+   * row.
+   * <p>
+   * It is the case if each value is exactly represented by its key or if it is a {@code String} and all the values of
+   * the same primary key in the index are {@code String} (a {@code String} can be equal to a number or a date).
+   * </p>
+   * 
+   * @param pksValues The primary keys values.
+   * @return {@code true} if no row has the primary keys values, {@code false} if the rows must be browsed.
+   */
+  private boolean isNotFoundInPksIndexConclusive(Object[] pksValues) {
+    for (int index = 0; index < pksValues.length; index++) {
+      Object value = pksValues[index];
+      if (!ValuesKey.isExactlyRepresented(value)
+          && !(value instanceof String && index < pksIndexTextValues.length && pksIndexTextValues[index])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the index of the rows with the primary keys values in key.
+   * <p>
+   * If it is the first call, the index is built. If two rows have the same primary keys values, the first one is
+   * indexed (like the first one is found when browsing the rows).
+   * </p>
+   * 
+   * @return The index or {@code null} if the primary keys values can not be indexed.
+   */
+  private Map<ValuesKey, Row> getPksIndex() {
+    List<Row> rows = getRowsList();
+    if (!pksIndexBuilt) {
+      Map<ValuesKey, Row> index = new HashMap<>(rows.size() * 4 / 3 + 1);
+      boolean[] textValues = null;
+      for (Row row : rows) {
+        List<Object> pksValueList = row.getPksValueList();
+        if (!ValuesKey.areIndexable(pksValueList)) {
+          index = null;
+          break;
+        }
+        if (textValues == null) {
+          textValues = new boolean[pksValueList.size()];
+          Arrays.fill(textValues, true);
+        }
+        for (int i = 0; i < textValues.length; i++) {
+          Object value = pksValueList.get(i);
+          textValues[i] &= value == null || value instanceof String;
+        }
+        ValuesKey key = row.getPksKey();
+        if (!index.containsKey(key)) {
+          index.put(key, row);
+        }
+      }
+      pksIndex = index;
+      pksIndexTextValues = textValues == null ? new boolean[0] : textValues;
+      pksIndexBuilt = true;
+    }
+    return pksIndex;
+  }
+
+  /**
+   * Clears the index of the rows (the index will be built again at the next search by primary keys values).
+   */
+  private void clearPksIndex() {
+    pksIndex = null;
+    pksIndexTextValues = null;
+    pksIndexBuilt = false;
+  }
 }
@@ -16,7 +16,6 @@ import javax.sql.DataSource;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 /**
@@ -43,6 +42,10 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> {
    * Data source.
    */
   private DataSource dataSource;
+  /**
+   * Options of the loading.
+   */
+  private LoadingOptions loadingOptions;
 
   /**
    * Default constructor.
@@ -128,8 +131,53 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> {
     return myself;
   }
 
+  /**
+   * Returns the options of the loading set on this element.
+   * 
+   * @see #setLoadingOptions(LoadingOptions)
+   * @return The options of the loading ({@code null} if the options of the {@link Source} are used).
+   */
+  public LoadingOptions getLoadingOptions() {
+    return loadingOptions;
+  }
+
+  /**
+   * Sets the options of the loading.
+   * <p>
+   * These options replace the options of the {@link Source}.
+   * </p>
+   * 
+   * @see #getLoadingOptions()
+   * @param loadingOptions The options of the loading ({@code null} to use the options of the {@link Source}).
+   * @return The actual instance.
+   */
+  public D setLoadingOptions(LoadingOptions loadingOptions) {
+    this.loadingOptions = loadingOptions;
+    return myself;
+  }
+
+  /**
+   * Returns the options of the loading to apply : the options of this element or else the options of the
+   * {@link Source}.
+   * 
+   * @return The options of the loading to apply ({@code null} if there are no options).
+   */
+  LoadingOptions getLoadingOptionsToApply() {
+    if (loadingOptions != null) {
+      return loadingOptions;
+    }
+    if (source != null) {
+      return source.getLoadingOptions();
+    }
+    return null;
+  }
+
   /**
    * Returns a {@link Connection} from a {@link DataSource} or from a {@link Source}.
+   * <p>
+   * With a {@link Source}, the connection comes from the {@link SourcePool} if it is enabled. The options of the
+   * loading about the connection (read-only mode) are applied.
+   * </p>
    * 
    * @return A {@link Connection} differently, depending if it is a {@link DataSource} or a {@link Source}.
    * @throws SQLException SQL Exception
@@ -140,11 +188,17 @@ public abstract class AbstractDbElement<D extends AbstractDbElement<D>> {
     }
 
     // Get a Connection differently, depending if it is a DataSource or a Source.
+    Connection connection;
     if (dataSource != null) {
-      return dataSource.getConnection();
+      connection = dataSource.getConnection();
     } else {
-      return DriverManager.getConnection(source.getUrl(), source.getUser(), source.getPassword());
+      connection = SourcePool.getConnection(source);
+    }
+    LoadingOptions loadingOptionsToApply = getLoadingOptionsToApply();
+    if (loadingOptionsToApply != null) {
+      return loadingOptionsToApply.applyTo(connection);
     }
+    return connection;
   }
 
   /**
@@ -16,11 +16,14 @@ import org.assertj.db.exception.AssertJDBException;
 import org.assertj.db.util.ChangeComparator;
 
 import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.assertj.db.type.Change.*;
 
@@ -30,7 +33,7 @@ import static org.assertj.db.type.Change.*;
  * @author Régis Pouiller
  * 
  */
-public class Changes extends AbstractDbElement<Changes> {
+public class Changes extends AbstractDbElement<Changes> implements AutoCloseable {
 
   /**
    * The list of the tables.
@@ -60,6 +63,51 @@ public class Changes extends AbstractDbElement<Changes> {
    * The list of the changes.
    */
   private List<Change> changesList;
+  /**
+   * The maximum number of tables loaded at the same time.
+   */
+  private int parallelism = 1;
+  /**
+   * The executor used to load the tables in parallel ({@code null} to use a pool created for each point).
+   */
+  private ExecutorService executor;
+  /**
+   * The transaction isolation level used to load all the tables in one transaction ({@code null} if the tables are
+   * not loaded in one transaction).
+   */
+  private Integer transactionIsolation;
+  /**
+   * The SQL aggregate expressions used in the fingerprints of the tables (the key is the name of the table in upper
+   * case).
+   */
+  private final Map<String, String> fingerprintExpressionsMap = new HashMap<>();
+  /**
+   * The fingerprints of the tables at start point (the key is the name of the table in upper case).
+   */
+  private Map<String, Fingerprint> fingerprintsAtStartPointMap;
+  /**
+   * The columns used to group the rows in buckets in the fingerprints of the tables (the key is the name of the table
+   * in upper case).
+   */
+  private final Map<String, String> bucketsColumnsMap = new HashMap<>();
+  /**
+   * The sizes of the buckets in the fingerprints of the tables (the key is the name of the table in upper case).
+   */
+  private final Map<String, Integer> bucketsSizesMap = new HashMap<>();
+  /**
+   * The capture of the changes ({@code null} if the changes are found by comparing the tables at start point and at end
+   * point).
+   */
+  private ChangesCapture capture;
+  /**
+   * If the capture of the changes is started.
+   */
+  private boolean captureStarted;
+  /**
+   * The directory in which the values of the rows of the tables are stored ({@code null} if the values are kept in
+   * memory or if it is set on each table).
+   */
+  private File spillDirectory;
 
   /**
    * Constructor.
@@ -115,12 +163,9 @@ public class Changes extends AbstractDbElement<Changes> {
    * @return {@code this} actual instance.
    */
   public Changes setTables(Table... tables) {
+    closeStartPoint();
     request = null;
-    requestAtStartPoint = null;
-    requestAtEndPoint = null;
     tablesList = new ArrayList<>();
-    tablesAtStartPointList = null;
-    tablesAtEndPointList = null;
     changesList = null;
     for (Table table : tables) {
       if (table == null) {
@@ -130,7 +175,7 @@ public class Changes extends AbstractDbElement<Changes> {
       tablesList.add(t);
     }
     if (tables.length > 0) {
-      copyElement(tables[0], this);
+      copySource(tables[0], this);
     }
     return myself;
   }
@@ -153,13 +198,10 @@ public class Changes extends AbstractDbElement<Changes> {
     if (request == null) {
       throw new NullPointerException("The request must be not null");
     }
+    closeStartPoint();
     tablesList = null;
-    tablesAtStartPointList = null;
-    tablesAtEndPointList = null;
     this.request = getDuplicatedRequest(request);
-    copyElement(request, this);
-    requestAtStartPoint = null;
-    requestAtEndPoint = null;
+    copySource(request, this);
     changesList = null;
     return myself;
   }
@@ -213,12 +255,277 @@ public class Changes extends AbstractDbElement<Changes> {
   }
 
   /**
-   * Copy a {@link AbstractDbElement} in parameter on another.
+   * Returns the maximum number of tables loaded at the same time.
+   * 
+   * @return The maximum number of tables loaded at the same time.
+   * @see #setParallelism(int)
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the maximum number of tables loaded at the same time when the start point or the end point is set.
+   * <p>
+   * By default, the tables are loaded one after the other ({@code 1}). Each table loaded at the same time uses its own
+   * connection to the database.
+   * </p>
+   * 
+   * @param parallelism The maximum number of tables loaded at the same time (must be greater than {@code 0}).
+   * @return {@code this} actual instance.
+   * @throws IllegalArgumentException If {@code parallelism} is less than {@code 1}.
+   * @see #setExecutor(ExecutorService)
+   */
+  public Changes setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("parallelism must be greater than 0");
+    }
+    this.parallelism = parallelism;
+    return myself;
+  }
+
+  /**
+   * Returns the executor used to load the tables in parallel.
+   * 
+   * @return The executor or {@code null} if a pool is created for each point.
+   * @see #setExecutor(ExecutorService)
+   */
+  public ExecutorService getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Sets the executor used to load the tables in parallel.
+   * <p>
+   * The executor is only used if the parallelism is greater than {@code 1} and it is not shut down by this instance.
+   * If no executor is set, a pool of threads is created and shut down each time a point is set.
+   * </p>
+   * 
+   * @param executor The executor ({@code null} to use a pool created for each point).
+   * @return {@code this} actual instance.
+   * @see #setParallelism(int)
+   */
+  public Changes setExecutor(ExecutorService executor) {
+    this.executor = executor;
+    return myself;
+  }
+
+  /**
+   * Returns the transaction isolation level used to load all the tables in one transaction.
+   * 
+   * @return The transaction isolation level or {@code null} if the tables are not loaded in one transaction.
+   * @see #setTransactionIsolation(Integer)
+   */
+  public Integer getTransactionIsolation() {
+    return transactionIsolation;
+  }
+
+  /**
+   * Sets the transaction isolation level used to load all the tables in one transaction.
+   * <p>
+   * With a level like {@link Connection#TRANSACTION_REPEATABLE_READ} or {@link Connection#TRANSACTION_SERIALIZABLE}
+   * (depending of the database), the tables are read in a consistent state. In this case, all the tables which use the
+   * same way to connect to the database than {@code this} instance are loaded with the same connection, so the
+   * parallelism is not used.
+   * </p>
+   * 
+   * @param transactionIsolation The transaction isolation level (one of the {@code Connection.TRANSACTION_*}
+   *          constants) or {@code null} to not load the tables in one transaction.
+   * @return {@code this} actual instance.
+   */
+  public Changes setTransactionIsolation(Integer transactionIsolation) {
+    this.transactionIsolation = transactionIsolation;
+    return myself;
+  }
+
+  /**
+   * Returns the SQL aggregate expression used in the fingerprint of a table.
+   * 
+   * @param tableName The name of the table.
+   * @return The SQL aggregate expression or {@code null} if the table has no fingerprint.
+   * @throws NullPointerException If {@code tableName} is {@code null}.
+   * @see #setFingerprintExpression(String, String)
+   */
+  public String getFingerprintExpression(String tableName) {
+    if (tableName == null) {
+      throw new NullPointerException("tableName must be not null");
+    }
+    return fingerprintExpressionsMap.get(tableName.toUpperCase());
+  }
+
+  /**
+   * Sets the SQL aggregate expression used in the fingerprint of a table.
+   * <p>
+   * The fingerprint of a table is its number of rows and the values of the expression evaluated on all its rows (like
+   * {@code MAX(UPDATED_AT)} for a column which is updated at each change or a checksum function of the database). The
+   * fingerprints are computed when the start point and the end point are set : if the fingerprint of the table did not
+   * change, the table is not loaded again at the end point and the table at start point is reused.
+   * </p>
+   * <p>
+   * The expression must change each time the data change in the table (with only the number of rows, the modification
+   * of a row is not detected). The tables without expression are always loaded again at end point.
+   * </p>
+   * 
+   * @param tableName The name of the table.
+   * @param expression The SQL aggregate expression(s) (separated by commas) or {@code null} to remove the fingerprint.
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code tableName} is {@code null}.
+   * @see #setFingerprintBuckets(String, String, int)
+   */
+  public Changes setFingerprintExpression(String tableName, String expression) {
+    if (tableName == null) {
+      throw new NullPointerException("tableName must be not null");
+    }
+    if (expression == null) {
+      fingerprintExpressionsMap.remove(tableName.toUpperCase());
+    } else {
+      fingerprintExpressionsMap.put(tableName.toUpperCase(), expression);
+    }
+    return myself;
+  }
+
+  /**
+   * Returns the name of the column used to group the rows in buckets in the fingerprint of a table.
+   * 
+   * @param tableName The name of the table.
+   * @return The name of the column or {@code null} if the fingerprint has no bucket.
+   * @throws NullPointerException If {@code tableName} is {@code null}.
+   * @see #setFingerprintBuckets(String, String, int)
+   */
+  public String getFingerprintBucketsColumn(String tableName) {
+    if (tableName == null) {
+      throw new NullPointerException("tableName must be not null");
+    }
+    return bucketsColumnsMap.get(tableName.toUpperCase());
+  }
+
+  /**
+   * Returns the number of values of the column in a bucket in the fingerprint of a table.
+   * 
+   * @param tableName The name of the table.
+   * @return The number of values in a bucket or {@code 0} if the fingerprint has no bucket.
+   * @throws NullPointerException If {@code tableName} is {@code null}.
+   * @see #setFingerprintBuckets(String, String, int)
+   */
+  public int getFingerprintBucketSize(String tableName) {
+    if (tableName == null) {
+      throw new NullPointerException("tableName must be not null");
+    }
+    Integer bucketSize = bucketsSizesMap.get(tableName.toUpperCase());
+    return bucketSize == null ? 0 : bucketSize;
+  }
+
+  /**
+   * Sets the buckets in the fingerprint of a table.
+   * <p>
+   * The rows are grouped in buckets by ranges of values of an integer column (normally the primary key) : the bucket of
+   * a row is {@code FLOOR(column / bucketSize)}. The number of rows and the SQL aggregate expression of the fingerprint
+   * are evaluated on each bucket by the database. At end point, only the rows of the buckets which changed are loaded
+   * from the database, the rows of the other buckets are taken from the table at start point. If more than the half of
+   * the buckets changed, all the rows are loaded.
+   * </p>
+   * 
+   * @param tableName The name of the table.
+   * @param columnName The name of the integer column or {@code null} to remove the buckets.
+   * @param bucketSize The number of values of the column in a bucket (must be greater than {@code 0}).
+   * @return {@code this} actual instance.
+   * @throws NullPointerException If {@code tableName} is {@code null}.
+   * @throws IllegalArgumentException If {@code bucketSize} is less than {@code 1}.
+   * @see #setFingerprintExpression(String, String)
+   */
+  public Changes setFingerprintBuckets(String tableName, String columnName, int bucketSize) {
+    if (tableName == null) {
+      throw new NullPointerException("tableName must be not null");
+    }
+    if (columnName == null) {
+      bucketsColumnsMap.remove(tableName.toUpperCase());
+      bucketsSizesMap.remove(tableName.toUpperCase());
+      return myself;
+    }
+    if (bucketSize < 1) {
+      throw new IllegalArgumentException("bucketSize must be greater than 0");
+    }
+    bucketsColumnsMap.put(tableName.toUpperCase(), columnName.toUpperCase());
+    bucketsSizesMap.put(tableName.toUpperCase(), bucketSize);
+    return myself;
+  }
+
+  /**
+   * Returns the directory in which the values of the rows of the tables at start point and at end point are stored.
+   * 
+   * @return The directory or {@code null} if it is not set.
+   * @see #setSpillDirectory(File)
+   */
+  public File getSpillDirectory() {
+    return spillDirectory;
+  }
+
+  /**
+   * Sets the directory in which the values of the rows of the tables at start point and at end point are stored in
+   * temporary files instead of being kept in memory (the directory set on a table with
+   * {@link AbstractDbData#setSpillDirectory(File)} is used if this one is not set).
+   * <p>
+   * The rows are sorted by primary keys values when they are loaded and the changes are found by reading the rows at
+   * start point and at end point together, so two big snapshots of a table can be compared with a small memory.
+   * </p>
+   * 
+   * @param spillDirectory The directory ({@code null} to use the directory of each table).
+   * @return {@code this} actual instance.
+   */
+  public Changes setSpillDirectory(File spillDirectory) {
+    this.spillDirectory = spillDirectory;
+    return myself;
+  }
+
+  /**
+   * Returns the capture of the changes.
+   * 
+   * @return The capture or {@code null} if the changes are found by comparing the tables at start point and at end
+   *         point.
+   * @see #setCapture(ChangesCapture)
+   */
+  public ChangesCapture getCapture() {
+    return capture;
+  }
+
+  /**
+   * Sets the capture of the changes on the tables.
+   * <p>
+   * With a capture, the tables are not loaded at start point and at end point : the capture starts when the start point
+   * is set and the changes are those captured when the end point is set (so the lists of the tables at start point and
+   * at end point are {@code null}). The capture is done with one connection on the database of {@code this} instance.
+   * The capture is not used for the changes on a request.
+   * </p>
+   * 
+   * @param capture The capture ({@code null} to compare the tables at start point and at end point).
+   * @return {@code this} actual instance.
+   * @see H2ChangesCapture
+   */
+  public Changes setCapture(ChangesCapture capture) {
+    this.capture = capture;
+    return myself;
+  }
+
+  /**
+   * Copy a {@link AbstractDbElement} in parameter on another (the source and the options of the loading).
    * 
    * @param elementToCopy The {@link AbstractDbElement} to copy
    * @param element The {@link AbstractDbElement} on which is the copy
    */
   private static void copyElement(AbstractDbElement<?> elementToCopy, AbstractDbElement<?> element) {
+    copySource(elementToCopy, element);
+    if (elementToCopy.getLoadingOptions() != null) {
+      element.setLoadingOptions(elementToCopy.getLoadingOptions());
+    }
+  }
+
+  /**
+   * Copy the source (or the data source) of a {@link AbstractDbElement} in parameter on another.
+   * 
+   * @param elementToCopy The {@link AbstractDbElement} to copy
+   * @param element The {@link AbstractDbElement} on which is the copy
+   */
+  private static void copySource(AbstractDbElement<?> elementToCopy, AbstractDbElement<?> element) {
     if (elementToCopy.getSource() != null) {
       element.setSource(elementToCopy.getSource());
     }
@@ -250,7 +557,378 @@ public class Changes extends AbstractDbElement<Changes> {
     Table t = new Table();
     copyElement(table, t);
     return t.setName(table.getName()).setColumnsToCheck(table.getColumnsToCheck())
-        .setColumnsToExclude(table.getColumnsToExclude());
+        .setColumnsToExclude(table.getColumnsToExclude()).setSpillDirectory(table.getSpillDirectory());
+  }
+
+  /**
+   * Returns the list of all the tables of the database.
+   * 
+   * @param connection The {@link Connection} to the database.
+   * @return The list of the tables.
+   * @throws SQLException SQL Exception.
+   */
+  private List<Table> getTablesListFromDatabase(Connection connection) throws SQLException {
+    List<Table> tablesList = new LinkedList<>();
+    for (String tableName : MetadataCache.getTablesName(this, connection)) {
+      Table t = new Table().setName(tableName);
+      copyElement(this, t);
+      tablesList.add(t);
+    }
+    return tablesList;
+  }
+
+  /**
+   * Returns if the table uses the same way to connect to the database than {@code this} instance.
+   * 
+   * @param table The table.
+   * @return {@code true} if the table uses the same {@link Source} or the same {@link DataSource}.
+   */
+  private boolean hasSameConnection(Table table) {
+    return table.getSource() == getSource() && table.getDataSource() == getDataSource();
+  }
+
+  /**
+   * Returns duplications of the tables which are loaded (all the tables of the database are listed before if no
+   * table is set).
+   * <p>
+   * The tables are loaded in parallel if the parallelism is greater than {@code 1} and if no transaction isolation
+   * level is set. Otherwise one connection is opened for the listing of the tables and the loading of all the tables
+   * which use the same way to connect to the database than {@code this} instance (a session), and this connection is
+   * closed at the end.
+   * </p>
+   * 
+   * @param preparedTablesMap The tables prepared from the tables at start point (the key is the name of the table in
+   *          upper case).
+   * @return The list of the loaded tables (in the same order than {@link #tablesList}).
+   * @throws AssertJDBException If triggered, this exception wrap a possible exception during the loading.
+   */
+  private List<Table> getLoadedTables(Map<String, Table> preparedTablesMap) {
+    boolean inParallel = parallelism > 1 && transactionIsolation == null;
+    boolean inSession = !inParallel && tablesList == null;
+    if (!inParallel && tablesList != null) {
+      for (Table table : tablesList) {
+        if (hasSameConnection(table)) {
+          inSession = true;
+          break;
+        }
+      }
+    }
+
+    if (inSession) {
+      try (Connection connection = getConnection()) {
+        if (tablesList == null) {
+          tablesList = getTablesListFromDatabase(connection);
+        }
+        List<Table> tables = getDuplicatedTables(preparedTablesMap);
+        loadTables(getTablesToLoad(tables), connection);
+        return tables;
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+
+    if (tablesList == null) {
+      try (Connection connection = getConnection()) {
+        tablesList = getTablesListFromDatabase(connection);
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+    List<Table> tables = getDuplicatedTables(preparedTablesMap);
+    List<Table> tablesToLoad = getTablesToLoad(tables);
+    if (inParallel && tablesToLoad.size() > 1) {
+      loadTablesInParallel(tablesToLoad);
+    } else {
+      for (Table table : tablesToLoad) {
+        table.getRowsList();
+      }
+    }
+    return tables;
+  }
+
+  /**
+   * Returns duplications of the tables (or the tables prepared from the tables at start point).
+   * 
+   * @param preparedTablesMap The tables prepared from the tables at start point (the key is the name of the table in
+   *          upper case).
+   * @return The list of the duplicated tables (in the same order than {@link #tablesList}).
+   */
+  private List<Table> getDuplicatedTables(Map<String, Table> preparedTablesMap) {
+    List<Table> tables = new LinkedList<>();
+    for (Table table : tablesList) {
+      Table preparedTable = preparedTablesMap.get(table.getName().toUpperCase());
+      if (preparedTable != null) {
+        tables.add(preparedTable);
+      } else {
+        Table duplicatedTable = getDuplicatedTable(table);
+        if (spillDirectory != null) {
+          duplicatedTable.setSpillDirectory(spillDirectory);
+        }
+        applyLoadingOptions(duplicatedTable);
+        tables.add(duplicatedTable);
+      }
+    }
+    return tables;
+  }
+
+  /**
+   * Applies the options of the loading of {@code this} instance on data which has no options of the loading.
+   * 
+   * @param data The data.
+   * @param <D> The class of the data.
+   * @return The data.
+   */
+  private <D extends AbstractDbData<D>> D applyLoadingOptions(D data) {
+    if (data.getLoadingOptions() == null && getLoadingOptions() != null) {
+      data.setLoadingOptions(getLoadingOptions());
+    }
+    return data;
+  }
+
+  /**
+   * Returns the tables to load : the tables which are not already loaded (the tables at start point which are reused
+   * are already loaded).
+   * 
+   * @param tables The tables.
+   * @return The list of the tables to load.
+   */
+  private static List<Table> getTablesToLoad(List<Table> tables) {
+    List<Table> tablesToLoad = new ArrayList<>();
+    for (Table table : tables) {
+      if (!table.isLoaded()) {
+        tablesToLoad.add(table);
+      }
+    }
+    return tablesToLoad;
+  }
+
+  /**
+   * Returns the fingerprints of the tables which have a SQL aggregate expression (all the tables of the database are
+   * listed before if no table is set).
+   * <p>
+   * One connection is opened for the fingerprints of all the tables which use the same way to connect to the database
+   * than {@code this} instance.
+   * </p>
+   * 
+   * @return The fingerprints (the key is the name of the table in upper case).
+   * @throws AssertJDBException If triggered, this exception wrap a possible exception during the computing.
+   * @see #setFingerprintExpression(String, String)
+   */
+  private Map<String, Fingerprint> getFingerprints() {
+    Map<String, Fingerprint> fingerprintsMap = new HashMap<>();
+    if (fingerprintExpressionsMap.isEmpty()) {
+      return fingerprintsMap;
+    }
+
+    boolean inSession = tablesList == null;
+    if (!inSession) {
+      for (Table table : tablesList) {
+        if (hasSameConnection(table) && getFingerprintExpression(table.getName()) != null) {
+          inSession = true;
+          break;
+        }
+      }
+    }
+
+    try (Connection connection = inSession ? getConnection() : null) {
+      if (tablesList == null) {
+        tablesList = getTablesListFromDatabase(connection);
+      }
+      for (Table table : tablesList) {
+        String expression = getFingerprintExpression(table.getName());
+        if (expression != null) {
+          String columnName = getFingerprintBucketsColumn(table.getName());
+          int bucketSize = getFingerprintBucketSize(table.getName());
+          Fingerprint fingerprint;
+          if (hasSameConnection(table)) {
+            fingerprint = table.getFingerprint(connection, expression, columnName, bucketSize);
+          } else {
+            try (Connection tableConnection = table.getConnection()) {
+              fingerprint = table.getFingerprint(tableConnection, expression, columnName, bucketSize);
+            }
+          }
+          fingerprintsMap.put(table.getName().toUpperCase(), fingerprint);
+        }
+      }
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+    return fingerprintsMap;
+  }
+
+  /**
+   * Returns the tables prepared from the tables at start point by comparing the fingerprints at start point and now :
+   * the tables which did not change are reused and the tables with buckets which changed are prepared for a partial
+   * loading of these buckets.
+   * 
+   * @return The prepared tables (the key is the name of the table in upper case).
+   * @throws AssertJDBException If triggered, this exception wrap a possible exception during the computing.
+   */
+  private Map<String, Table> getPreparedTables() {
+    Map<String, Table> preparedTablesMap = new HashMap<>();
+    if (fingerprintsAtStartPointMap == null || fingerprintsAtStartPointMap.isEmpty()) {
+      return preparedTablesMap;
+    }
+
+    Map<String, Fingerprint> fingerprintsMap = getFingerprints();
+    for (Table table : tablesAtStartPointList) {
+      String key = table.getName().toUpperCase();
+      Fingerprint fingerprintAtStartPoint = fingerprintsAtStartPointMap.get(key);
+      Fingerprint fingerprint = fingerprintsMap.get(key);
+      if (fingerprintAtStartPoint == null || fingerprint == null
+          || !fingerprintAtStartPoint.isComparableTo(fingerprint)) {
+        continue;
+      }
+
+      Set<Long> changedBucketsSet = fingerprintAtStartPoint.getChangedBuckets(fingerprint);
+      if (changedBucketsSet.isEmpty()) {
+        preparedTablesMap.put(key, table);
+      } else if (fingerprint.getColumnName() != null
+          && changedBucketsSet.size() * 2 <= Math.max(fingerprint.getNumberOfBuckets(),
+              fingerprintAtStartPoint.getNumberOfBuckets())) {
+        List<Row> rowsList = getRowsOutOfBuckets(table, fingerprint, changedBucketsSet);
+        if (rowsList != null) {
+          Table preparedTable = getDuplicatedTable(table);
+          preparedTable.setPartialLoading(fingerprint.getCondition(changedBucketsSet), rowsList);
+          preparedTablesMap.put(key, preparedTable);
+        }
+      }
+    }
+    return preparedTablesMap;
+  }
+
+  /**
+   * Returns the rows of a table which are not in the buckets.
+   * 
+   * @param table The table.
+   * @param fingerprint The fingerprint with the buckets.
+   * @param bucketsSet The buckets.
+   * @return The rows which are not in the buckets or {@code null} if the bucket of a row is unknown (the column is not
+   *         in the table or a value is not a number).
+   */
+  private static List<Row> getRowsOutOfBuckets(Table table, Fingerprint fingerprint, Set<Long> bucketsSet) {
+    int index = table.getColumnsNameList().indexOf(fingerprint.getColumnName());
+    if (index == -1) {
+      return null;
+    }
+    List<Row> rowsList = new ArrayList<>();
+    for (Row row : table.getRowsList()) {
+      Object value = row.getColumnValue(index);
+      if (value != null && !(value instanceof Number)) {
+        return null;
+      }
+      if (!bucketsSet.contains(fingerprint.getBucket(value))) {
+        rowsList.add(row);
+      }
+    }
+    return rowsList;
+  }
+
+  /**
+   * Loads the tables with the connection in parameter (the tables which use another way to connect to the database
+   * are loaded with their own connection).
+   * <p>
+   * If a transaction isolation level is set, the tables are loaded in one transaction with this level. The transaction
+   * is only used to read, so it is rolled back at the end. The auto-commit mode and the transaction isolation level of
+   * the connection are restored.
+   * </p>
+   * 
+   * @param tables The tables to load.
+   * @param connection The {@link Connection} to the database.
+   * @throws SQLException SQL Exception.
+   */
+  private void loadTables(List<Table> tables, Connection connection) throws SQLException {
+    if (transactionIsolation == null) {
+      loadTablesWithConnection(tables, connection);
+      return;
+    }
+
+    boolean autoCommit = connection.getAutoCommit();
+    int isolation = connection.getTransactionIsolation();
+    try {
+      connection.setTransactionIsolation(transactionIsolation);
+      connection.setAutoCommit(false);
+      loadTablesWithConnection(tables, connection);
+      connection.rollback();
+    } finally {
+      connection.setAutoCommit(autoCommit);
+      connection.setTransactionIsolation(isolation);
+    }
+  }
+
+  /**
+   * Loads the tables which use the same way to connect to the database than {@code this} instance with the connection
+   * in parameter, and the other tables with their own connection.
+   * 
+   * @param tables The tables to load.
+   * @param connection The {@link Connection} to the database.
+   * @throws SQLException SQL Exception.
+   */
+  private void loadTablesWithConnection(List<Table> tables, Connection connection) throws SQLException {
+    for (Table table : tables) {
+      if (hasSameConnection(table)) {
+        table.load(connection);
+      } else {
+        table.getRowsList();
+      }
+    }
+  }
+
+  /**
+   * Loads the tables in parallel.
+   * <p>
+   * A number of tasks equal to the parallelism (or to the number of tables if it is less) take the tables to load
+   * from a queue, so no more tables than the parallelism are loaded at the same time.
+   * </p>
+   * 
+   * @param tables The tables to load.
+   * @throws AssertJDBException If triggered, this exception wrap a possible exception during the loading.
+   */
+  private void loadTablesInParallel(List<Table> tables) {
+    int numberOfTasks = Math.min(parallelism, tables.size());
+    ExecutorService executorService = executor;
+    if (executorService == null) {
+      executorService = Executors.newFixedThreadPool(numberOfTasks);
+    }
+
+    try {
+      final Queue<Table> tablesQueue = new ConcurrentLinkedQueue<>(tables);
+      List<Future<?>> futuresList = new ArrayList<>();
+      for (int i = 0; i < numberOfTasks; i++) {
+        futuresList.add(executorService.submit(new Runnable() {
+          @Override
+          public void run() {
+            try {
+              Table table = tablesQueue.poll();
+              while (table != null) {
+                table.getRowsList();
+                table = tablesQueue.poll();
+              }
+            } catch (RuntimeException e) {
+              // Stop the other tasks
+              tablesQueue.clear();
+              throw e;
+            }
+          }
+        }));
+      }
+      for (Future<?> future : futuresList) {
+        future.get();
+      }
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof AssertJDBException) {
+        throw (AssertJDBException) cause;
+      }
+      throw new AssertJDBException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertJDBException(e);
+    } finally {
+      if (executor == null) {
+        executorService.shutdown();
+      }
+    }
   }
 
   /**
@@ -259,35 +937,107 @@ public class Changes extends AbstractDbElement<Changes> {
    * @return {@code this} actual instance.
    */
   public Changes setStartPointNow() {
-    if (request == null && tablesList == null) {
+    closeStartPoint();
+    if (request != null) {
+      tablesAtStartPointList = null;
+      fingerprintsAtStartPointMap = null;
+      requestAtStartPoint = applyLoadingOptions(getDuplicatedRequest(request));
+      requestAtStartPoint.getRowsList();
+    } else if (capture != null) {
+      requestAtStartPoint = null;
+      tablesAtStartPointList = null;
+      fingerprintsAtStartPointMap = null;
       try (Connection connection = getConnection()) {
-        tablesList = new LinkedList<>();
-        DatabaseMetaData metaData = connection.getMetaData();
-        ResultSet resultSet = metaData.getTables(getCatalog(connection), getSchema(connection), null,
-            new String[] { "TABLE" });
-        while (resultSet.next()) {
-          String tableName = resultSet.getString("TABLE_NAME");
-          Table t = new Table().setName(tableName);
-          copyElement(this, t);
-          tablesList.add(t);
+        if (tablesList == null) {
+          tablesList = getTablesListFromDatabase(connection);
         }
+        capture.start(connection, tablesList);
       } catch (SQLException e) {
         throw new AssertJDBException(e);
       }
+      captureStarted = true;
+    } else {
+      requestAtStartPoint = null;
+      // The fingerprints are computed before the loading : a change between them is detected at the end point
+      fingerprintsAtStartPointMap = getFingerprints();
+      tablesAtStartPointList = getLoadedTables(Collections.<String, Table>emptyMap());
     }
+    tablesAtEndPointList = null;
+    requestAtEndPoint = null;
+    changesList = null;
 
+    return myself;
+  }
+
+  /**
+   * Sets the start point for comparison from a snapshot file (instead of reading the database).
+   * <p>
+   * The file is written with {@link #saveStartPointTo(File)} or with {@link AbstractDbData#saveTo(File)}. Each table
+   * (or the request with the same parameters) must be in the file with the same columns than at end point. If no table is set, the tables are
+   * those in the file.
+   * </p>
+   * 
+   * @param file The snapshot file.
+   * @return {@code this} actual instance.
+   * @throws AssertJDBException If the file can not be read, if a table or the request is not in the file or if a
+   *           capture is set.
+   */
+  public Changes setStartPointFrom(File file) {
+    if (capture != null) {
+      throw new AssertJDBException("The start point can not be read from a file with a capture");
+    }
+    List<AbstractDbData<?>> dataList;
+    try {
+      dataList = SnapshotFile.read(file);
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+
+    closeStartPoint();
+    fingerprintsAtStartPointMap = null;
     if (request != null) {
       tablesAtStartPointList = null;
-      requestAtStartPoint = getDuplicatedRequest(request);
-      requestAtStartPoint.getRowsList();
+      requestAtStartPoint = null;
+      for (AbstractDbData<?> data : dataList) {
+        if (data instanceof Request && request.getRequest().equals(data.getRequest())
+            && haveSameParameters(request, (Request) data)) {
+          requestAtStartPoint = (Request) data;
+          copyElement(request, requestAtStartPoint);
+          break;
+        }
+      }
+      if (requestAtStartPoint == null) {
+        throw new AssertJDBException("The request %s is not in the snapshot %s", request.getRequest(), file);
+      }
     } else {
       requestAtStartPoint = null;
-      tablesAtStartPointList = new LinkedList<>();
+      if (tablesList == null) {
+        tablesList = new LinkedList<>();
+        for (AbstractDbData<?> data : dataList) {
+          if (data instanceof Table) {
+            Table t = new Table().setName(((Table) data).getName());
+            copyElement(this, t);
+            tablesList.add(t);
+          }
+        }
+      }
+      List<Table> tables = new LinkedList<>();
       for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtStartPointList.add(t);
+        Table tableAtStartPoint = null;
+        for (AbstractDbData<?> data : dataList) {
+          if (data instanceof Table && table.getName().equalsIgnoreCase(((Table) data).getName())) {
+            tableAtStartPoint = (Table) data;
+            break;
+          }
+        }
+        if (tableAtStartPoint == null) {
+          throw new AssertJDBException("The table %s is not in the snapshot %s", table.getName(), file);
+        }
+        copyElement(table, tableAtStartPoint);
+        tables.add(tableAtStartPoint.setName(table.getName()).setColumnsToCheck(table.getColumnsToCheck())
+            .setColumnsToExclude(table.getColumnsToExclude()));
       }
+      tablesAtStartPointList = tables;
     }
     tablesAtEndPointList = null;
     requestAtEndPoint = null;
@@ -296,6 +1046,45 @@ public class Changes extends AbstractDbElement<Changes> {
     return myself;
   }
 
+  /**
+   * Returns if two requests have the same parameters (no parameter is the same as an empty array of parameters).
+   *
+   * @param request The first request.
+   * @param other The other request.
+   * @return {@code true} if the parameters are equal, {@code false} otherwise.
+   */
+  private static boolean haveSameParameters(Request request, Request other) {
+    Object[] parameters = request.getParameters();
+    Object[] otherParameters = other.getParameters();
+    if (parameters == null || parameters.length == 0) {
+      return otherParameters == null || otherParameters.length == 0;
+    }
+    return Arrays.equals(parameters, otherParameters);
+  }
+
+  /**
+   * Saves the start point in a snapshot file to reuse it later with {@link #setStartPointFrom(File)}.
+   * 
+   * @param file The snapshot file.
+   * @return {@code this} actual instance.
+   * @throws AssertJDBException If the start point is not set or if the file can not be written.
+   */
+  public Changes saveStartPointTo(File file) {
+    if (requestAtStartPoint == null && tablesAtStartPointList == null) {
+      throw new AssertJDBException("Start point must be set before");
+    }
+    try {
+      if (requestAtStartPoint != null) {
+        SnapshotFile.write(file, Collections.singletonList(requestAtStartPoint));
+      } else {
+        SnapshotFile.write(file, tablesAtStartPointList);
+      }
+    } catch (IOException e) {
+      throw new AssertJDBException(e);
+    }
+    return myself;
+  }
+
   /**
    * Sets the end point for comparison.
    * 
@@ -303,26 +1092,134 @@ public class Changes extends AbstractDbElement<Changes> {
    * @throws AssertJDBException If the start point is not set
    */
   public Changes setEndPointNow() {
-    if (requestAtStartPoint == null && tablesAtStartPointList == null) {
+    if (requestAtStartPoint == null && tablesAtStartPointList == null && !captureStarted) {
       throw new AssertJDBException("Start point must be set before");
     }
 
+    closeEndPoint();
     if (requestAtStartPoint != null) {
-      requestAtEndPoint = getDuplicatedRequest(request);
+      requestAtEndPoint = applyLoadingOptions(getDuplicatedRequest(request));
       requestAtEndPoint.getRowsList();
-    } else {
-      tablesAtEndPointList = new LinkedList<>();
-      for (Table table : tablesList) {
-        Table t = getDuplicatedTable(table);
-        t.getRowsList();
-        tablesAtEndPointList.add(t);
+    } else if (captureStarted) {
+      tablesAtEndPointList = null;
+      try (Connection connection = getConnection()) {
+        captureStarted = false;
+        changesList = new ArrayList<>(capture.stop(connection, tablesList));
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
       }
+      return myself;
+    } else {
+      tablesAtEndPointList = getLoadedTables(getPreparedTables());
     }
     changesList = null;
 
     return myself;
   }
 
+  /**
+   * Closes the data at start point and at end point (the files in which the values are stored when a spill directory is
+   * set, see {@link AbstractDbData#close()}) and aborts the capture if it is started ({@link #abortCapture()}).
+   * <p>
+   * The changes found before can not be used after : a start point must be set again.
+   * </p>
+   * 
+   * @throws AssertJDBException If triggered, this exception wrap a possible exception during the closing.
+   */
+  @Override
+  public void close() {
+    try {
+      abortCapture();
+    } finally {
+      closeStartPoint();
+      changesList = null;
+    }
+  }
+
+  /**
+   * Closes the data at start point (and at end point) and removes them.
+   */
+  private void closeStartPoint() {
+    try {
+      closeEndPoint();
+    } finally {
+      List<Table> tables = tablesAtStartPointList;
+      Request requestToClose = requestAtStartPoint;
+      tablesAtStartPointList = null;
+      requestAtStartPoint = null;
+      closeData(requestToClose, tables, null);
+    }
+  }
+
+  /**
+   * Closes the data at end point and removes them (the tables which are also at start point are not closed).
+   */
+  private void closeEndPoint() {
+    List<Table> tables = tablesAtEndPointList;
+    Request requestToClose = requestAtEndPoint;
+    tablesAtEndPointList = null;
+    requestAtEndPoint = null;
+    closeData(requestToClose, tables, tablesAtStartPointList);
+  }
+
+  /**
+   * Closes a request and tables.
+   * 
+   * @param request The request ({@code null} if there is no request).
+   * @param tables The tables ({@code null} if there are no tables).
+   * @param tablesToKeep The tables which are not closed ({@code null} if all the tables are closed).
+   */
+  private static void closeData(Request request, List<Table> tables, List<Table> tablesToKeep) {
+    if (request != null) {
+      request.close();
+    }
+    if (tables != null) {
+      for (Table table : tables) {
+        if (tablesToKeep == null || !containsSameInstance(tablesToKeep, table)) {
+          table.close();
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns if a list contains an instance (compared with {@code ==}).
+   * 
+   * @param list The list.
+   * @param instance The instance.
+   * @return {@code true} if the instance is in the list, {@code false} otherwise.
+   */
+  private static boolean containsSameInstance(List<?> list, Object instance) {
+    for (Object element : list) {
+      if (element == instance) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Aborts the capture of the changes started by {@link #setStartPointNow()} : the capture stops without building the
+   * changes. It is the way to remove what the capture installs in the database (for example the triggers and the journal
+   * table of {@link H2ChangesCapture}) when the end point will not be set, for example when a test fails.
+   * <p>
+   * This method does nothing if the capture is not started.
+   * </p>
+   * 
+   * @return {@code this} actual instance.
+   */
+  public Changes abortCapture() {
+    if (captureStarted) {
+      captureStarted = false;
+      try (Connection connection = getConnection()) {
+        capture.abort(connection, tablesList);
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+    return myself;
+  }
+
   /**
    * Returns the list of changes for the data when there have primary keys.
    * 
@@ -338,14 +1235,14 @@ public class Changes extends AbstractDbElement<Changes> {
 
     // List the created rows : the row is not present at the start point
     for (Row row : dataAtEndPoint.getRowsList()) {
-      Row rowAtStartPoint = dataAtStartPoint.getRowFromPksValues(row.getPksValues());
+      Row rowAtStartPoint = dataAtStartPoint.getRowWithSamePksValues(row);
       if (rowAtStartPoint == null) {
         Change change = createCreationChange(dataAtEndPoint.getDataType(), dataName, row);
         changesList.add(change);
       }
     }
     for (Row row : dataAtStartPoint.getRowsList()) {
-      Row rowAtEndPoint = dataAtEndPoint.getRowFromPksValues(row.getPksValues());
+      Row rowAtEndPoint = dataAtEndPoint.getRowWithSamePksValues(row);
       if (rowAtEndPoint == null) {
         // List the deleted rows : the row is not present at the end point
         Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, row);
@@ -364,60 +1261,237 @@ public class Changes extends AbstractDbElement<Changes> {
   }
 
   /**
-   * Returns the list of changes for the data when there is no primary key.
+   * Returns the list of changes for the data when there have primary keys and when the rows at start point and at end
+   * point are sorted by primary keys values.
+   * <p>
+   * The two lists of rows are browsed together in one pass (like in a merge join).
+   * </p>
    * 
    * @param dataName The name of the data.
    * @param dataAtStartPoint The data at start point.
    * @param dataAtEndPoint The data at end point.
    * @return The list of changes for the data.
+   * @see #areSortedByComparablePks(List, List)
    */
-  private List<Change> getChangesListWithoutPks(String dataName, AbstractDbData<?> dataAtStartPoint,
+  private List<Change> getChangesListWithSortedPks(String dataName, AbstractDbData<?> dataAtStartPoint,
       AbstractDbData<?> dataAtEndPoint) {
 
     List<Change> changesList = new ArrayList<>();
 
-    // List the created rows : the row is not present at the start point
-    List<Row> rowsAtStartPointList = new ArrayList<>(dataAtStartPoint.getRowsList());
-    for (Row rowAtEndPoint : dataAtEndPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtStartPoint : rowsAtStartPointList) {
-        if (rowAtEndPoint.hasValues(rowAtStartPoint)) {
-          index = index1;
-          break;
-        }
-        index1++;
+    List<Row> rowsAtStartPointList = dataAtStartPoint.getRowsList();
+    List<Row> rowsAtEndPointList = dataAtEndPoint.getRowsList();
+    int indexAtStartPoint = 0;
+    int indexAtEndPoint = 0;
+    while (indexAtStartPoint < rowsAtStartPointList.size() || indexAtEndPoint < rowsAtEndPointList.size()) {
+      Row rowAtStartPoint = null;
+      Row rowAtEndPoint = null;
+      if (indexAtStartPoint < rowsAtStartPointList.size()) {
+        rowAtStartPoint = rowsAtStartPointList.get(indexAtStartPoint);
+      }
+      if (indexAtEndPoint < rowsAtEndPointList.size()) {
+        rowAtEndPoint = rowsAtEndPointList.get(indexAtEndPoint);
       }
-      if (index == -1) {
-        Change change = createCreationChange(dataAtStartPoint.getDataType(), dataName, rowAtEndPoint);
+
+      int compare;
+      if (rowAtStartPoint == null) {
+        compare = 1;
+      } else if (rowAtEndPoint == null) {
+        compare = -1;
+      } else {
+        compare = comparePksValues(rowAtStartPoint.getPksValueList(), rowAtEndPoint.getPksValueList());
+      }
+
+      if (compare < 0) {
+        // The row is not present at the end point : deleted row
+        Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint);
+        changesList.add(change);
+        indexAtStartPoint++;
+      } else if (compare > 0) {
+        // The row is not present at the start point : created row
+        Change change = createCreationChange(dataAtEndPoint.getDataType(), dataName, rowAtEndPoint);
         changesList.add(change);
+        indexAtEndPoint++;
       } else {
-        rowsAtStartPointList.remove(index);
+        // If at least one value in the rows is different, add the change
+        if (!rowAtStartPoint.hasValues(rowAtEndPoint)) {
+          Change change = createModificationChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint,
+              rowAtEndPoint);
+          changesList.add(change);
+        }
+        indexAtStartPoint++;
+        indexAtEndPoint++;
       }
     }
-    // List the deleted rows : the row is not present at the end point
-    List<Row> rowsAtEndPointList = new ArrayList<>(dataAtEndPoint.getRowsList());
-    for (Row rowAtStartPoint : dataAtStartPoint.getRowsList()) {
-      int index = -1;
-      int index1 = 0;
-      for (Row rowAtEndPoint : rowsAtEndPointList) {
-        if (rowAtStartPoint.hasValues(rowAtEndPoint)) {
-          index = index1;
-          break;
+
+    return changesList;
+  }
+
+  /**
+   * Returns if the rows at start point and at end point can be compared by browsing them together in one pass.
+   * <p>
+   * That is the case if in the two lists, the primary keys values are not {@code null}, are of the same class (for
+   * each primary key), can be compared in a way coherent with the equality (numbers and texts) and are strictly
+   * increasing (the rows are sorted by primary keys values when loaded).
+   * </p>
+   * 
+   * @param rowsAtStartPointList The rows at start point.
+   * @param rowsAtEndPointList The rows at end point.
+   * @return {@code true} if the rows can be compared in one pass, {@code false} otherwise.
+   */
+  private static boolean areSortedByComparablePks(List<Row> rowsAtStartPointList, List<Row> rowsAtEndPointList) {
+    Class<?>[] pksClasses = null;
+    if (!rowsAtStartPointList.isEmpty()) {
+      pksClasses = getPksClasses(rowsAtStartPointList.get(0));
+    } else if (!rowsAtEndPointList.isEmpty()) {
+      pksClasses = getPksClasses(rowsAtEndPointList.get(0));
+    }
+    return pksClasses != null && areSortedByComparablePks(rowsAtStartPointList, pksClasses)
+        && areSortedByComparablePks(rowsAtEndPointList, pksClasses);
+  }
+
+  /**
+   * Returns if the primary keys values of the rows are of the classes in parameter and are strictly increasing.
+   * 
+   * @param rowsList The rows.
+   * @param pksClasses The classes of the primary keys values.
+   * @return {@code true} if the primary keys values are of the classes and are strictly increasing.
+   */
+  private static boolean areSortedByComparablePks(List<Row> rowsList, Class<?>[] pksClasses) {
+    List<Object> previousPksValueList = null;
+    for (Row row : rowsList) {
+      List<Object> pksValueList = row.getPksValueList();
+      if (pksValueList.size() != pksClasses.length) {
+        return false;
+      }
+      for (int index = 0; index < pksClasses.length; index++) {
+        Object value = pksValueList.get(index);
+        if (value == null || value.getClass() != pksClasses[index]) {
+          return false;
         }
-        index1++;
       }
-      if (index == -1) {
-        Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint);
-        changesList.add(change);
-      } else {
-        rowsAtEndPointList.remove(index);
+      if (previousPksValueList != null && comparePksValues(previousPksValueList, pksValueList) >= 0) {
+        return false;
       }
+      previousPksValueList = pksValueList;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the classes of the primary keys values of a row if they can be compared in a way coherent with the
+   * equality.
+   * 
+   * @param row The row.
+   * @return The classes or {@code null} if at least one of the primary keys values can not be compared.
+   */
+  private static Class<?>[] getPksClasses(Row row) {
+    List<Object> pksValueList = row.getPksValueList();
+    Class<?>[] pksClasses = new Class<?>[pksValueList.size()];
+    for (int index = 0; index < pksClasses.length; index++) {
+      Object value = pksValueList.get(index);
+      if (!(value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+          || value instanceof BigInteger || value instanceof BigDecimal || value instanceof String)) {
+        return null;
+      }
+      pksClasses[index] = value.getClass();
+    }
+    return pksClasses;
+  }
+
+  /**
+   * Compares primary keys values (the values are {@code Comparable} and of the same class).
+   * 
+   * @param pksValueList1 The first primary keys values.
+   * @param pksValueList2 The second primary keys values.
+   * @return The result of the comparison.
+   * @see java.util.Comparator#compare(Object, Object)
+   */
+  @SuppressWarnings("unchecked")
+  private static int comparePksValues(List<Object> pksValueList1, List<Object> pksValueList2) {
+    for (int index = 0; index < pksValueList1.size(); index++) {
+      int compare = ((Comparable<Object>) pksValueList1.get(index)).compareTo(pksValueList2.get(index));
+      if (compare != 0) {
+        return compare;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the list of changes for the data when there is no primary key.
+   * <p>
+   * A row is created (or deleted) if there is no row with equal values at the start point (or at the end point).
+   * When several rows have the same values, each row at a point can only be equal to one row at the other point.
+   * </p>
+   * 
+   * @param dataName The name of the data.
+   * @param dataAtStartPoint The data at start point.
+   * @param dataAtEndPoint The data at end point.
+   * @return The list of changes for the data.
+   */
+  private List<Change> getChangesListWithoutPks(String dataName, AbstractDbData<?> dataAtStartPoint,
+      AbstractDbData<?> dataAtEndPoint) {
+
+    List<Change> changesList = new ArrayList<>();
+
+    // List the created rows : the row is not present at the start point
+    for (Row rowAtEndPoint : getRowsWithoutEqualRow(dataAtEndPoint.getRowsList(), dataAtStartPoint.getRowsList())) {
+      Change change = createCreationChange(dataAtStartPoint.getDataType(), dataName, rowAtEndPoint);
+      changesList.add(change);
+    }
+    // List the deleted rows : the row is not present at the end point
+    for (Row rowAtStartPoint : getRowsWithoutEqualRow(dataAtStartPoint.getRowsList(), dataAtEndPoint.getRowsList())) {
+      Change change = createDeletionChange(dataAtStartPoint.getDataType(), dataName, rowAtStartPoint);
+      changesList.add(change);
     }
 
     return changesList;
   }
 
+  /**
+   * Returns the rows of a list which have no row with equal values in another list.
+   * <p>
+   * The other rows are grouped by their values in a multiset (the values are normalized in a {@link ValuesKey}), so
+   * each row is only compared to the rows with the same key. A row of the other list can only be equal to one row.
+   * </p>
+   * 
+   * @param rowsList The list of the rows.
+   * @param otherRowsList The other list of rows to search into.
+   * @return The rows without equal row (in the order of {@code rowsList}).
+   */
+  private static List<Row> getRowsWithoutEqualRow(List<Row> rowsList, List<Row> otherRowsList) {
+    Map<ValuesKey, LinkedList<Row>> otherRowsMultiset = new HashMap<>(otherRowsList.size() * 4 / 3 + 1);
+    for (Row otherRow : otherRowsList) {
+      ValuesKey key = new ValuesKey(otherRow.getValuesList().toArray());
+      LinkedList<Row> bucket = otherRowsMultiset.get(key);
+      if (bucket == null) {
+        bucket = new LinkedList<>();
+        otherRowsMultiset.put(key, bucket);
+      }
+      bucket.add(otherRow);
+    }
+
+    List<Row> rowsWithoutEqualRowList = new ArrayList<>();
+    for (Row row : rowsList) {
+      boolean found = false;
+      LinkedList<Row> bucket = otherRowsMultiset.get(new ValuesKey(row.getValuesList().toArray()));
+      if (bucket != null) {
+        Iterator<Row> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+          if (row.hasValues(iterator.next())) {
+            iterator.remove();
+            found = true;
+            break;
+          }
+        }
+      }
+      if (!found) {
+        rowsWithoutEqualRowList.add(row);
+      }
+    }
+    return rowsWithoutEqualRowList;
+  }
+
   /**
    * Returns the list of changes for the data.
    * 
@@ -425,11 +1499,19 @@ public class Changes extends AbstractDbElement<Changes> {
    * @param dataAtStartPoint The data at start point.
    * @param dataAtEndPoint The data at end point.
    * @return The list of changes for the data.
+   * @throws AssertJDBException If the columns are not the same at start point and at end point.
    */
   private List<Change> getChangesList(String dataName, AbstractDbData<?> dataAtStartPoint,
       AbstractDbData<?> dataAtEndPoint) {
 
+    if (!dataAtStartPoint.getColumnsNameList().equals(dataAtEndPoint.getColumnsNameList())) {
+      throw new AssertJDBException("The columns of %s are not the same at start point and at end point", dataName);
+    }
+
     if (dataAtStartPoint.getPksNameList().size() > 0) {
+      if (areSortedByComparablePks(dataAtStartPoint.getRowsList(), dataAtEndPoint.getRowsList())) {
+        return getChangesListWithSortedPks(dataName, dataAtStartPoint, dataAtEndPoint);
+      }
       return getChangesListWithPks(dataName, dataAtStartPoint, dataAtEndPoint);
     } else {
       return getChangesListWithoutPks(dataName, dataAtStartPoint, dataAtEndPoint);
@@ -458,7 +1540,10 @@ public class Changes extends AbstractDbElement<Changes> {
         while (iteratorAtStartPoint.hasNext()) {
           Table tableAtStartPoint = iteratorAtStartPoint.next();
           Table tableAtEndPoint = iteratorAtEndPoint.next();
-          changesList.addAll(getChangesList(tableAtStartPoint.getName(), tableAtStartPoint, tableAtEndPoint));
+          if (tableAtStartPoint != tableAtEndPoint) {
+            // The table at start point is reused at end point if it did not change
+            changesList.addAll(getChangesList(tableAtStartPoint.getName(), tableAtStartPoint, tableAtEndPoint));
+          }
         }
       }
     }
@@ -0,0 +1,64 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Strategy to capture the changes in the database between the start point and the end point of a {@link Changes},
+ * instead of comparing two snapshots of the tables.
+ * <p>
+ * With a capture (for example with triggers writing in a journal), the cost depends of the number of changes and not of
+ * the size of the tables. The {@link ChangesJournal} can be used to build the changes from the captured operations.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * @see Changes#setCapture(ChangesCapture)
+ * @see H2ChangesCapture
+ */
+public interface ChangesCapture {
+
+  /**
+   * Starts the capture of the changes on the tables (called when the start point is set).
+   * 
+   * @param connection The {@link Connection} to the database.
+   * @param tablesList The tables on which the changes are captured.
+   * @throws SQLException SQL Exception.
+   */
+  void start(Connection connection, List<Table> tablesList) throws SQLException;
+
+  /**
+   * Stops the capture of the changes on the tables (called when the end point is set).
+   * 
+   * @param connection The {@link Connection} to the database.
+   * @param tablesList The tables on which the changes are captured.
+   * @return The list of the changes captured since the start.
+   * @throws SQLException SQL Exception.
+   */
+  List<Change> stop(Connection connection, List<Table> tablesList) throws SQLException;
+
+  /**
+   * Aborts the capture of the changes on the tables : removes what is installed by the start without building the
+   * changes (called by {@link Changes#abortCapture()}, for example when the end point will not be set).
+   * <p>
+   * This method does nothing if the capture is not started.
+   * </p>
+   * 
+   * @param connection The {@link Connection} to the database.
+   * @param tablesList The tables on which the changes are captured.
+   * @throws SQLException SQL Exception.
+   */
+  void abort(Connection connection, List<Table> tablesList) throws SQLException;
+}
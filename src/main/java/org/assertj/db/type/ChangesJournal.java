@@ -0,0 +1,307 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.util.*;
+
+import static org.assertj.db.type.Change.*;
+
+/**
+ * Journal of the operations on the rows of the tables (insertions, modifications and deletions in the order of their
+ * execution) which gives the changes between the state before the first operation and the state after the last one.
+ * <p>
+ * For a table with primary keys, the operations on the same row are merged : for example a row inserted then modified
+ * gives one creation with the last values, and a row inserted then deleted gives no change. For a table without
+ * primary key, a modification is a deletion followed by a creation (like when comparing two snapshots).
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * @see ChangesCapture
+ */
+public class ChangesJournal {
+
+  /**
+   * The journals of the tables (the key is the name of the table in upper case).
+   */
+  private final Map<String, TableJournal> tablesJournalsMap = new LinkedHashMap<>();
+
+  /**
+   * Adds a table in the journal.
+   * 
+   * @param tableName The name of the table.
+   * @param columnsNameList The list of the columns name (in the order of the values of the operations).
+   * @param pksNameList The list of the primary keys name (empty if the table has no primary key).
+   * @return {@code this} journal.
+   * @throws NullPointerException If one of the parameters is {@code null}.
+   */
+  public ChangesJournal addTable(String tableName, List<String> columnsNameList, List<String> pksNameList) {
+    if (tableName == null) {
+      throw new NullPointerException("tableName must be not null");
+    }
+    if (columnsNameList == null) {
+      throw new NullPointerException("columnsNameList must be not null");
+    }
+    if (pksNameList == null) {
+      throw new NullPointerException("pksNameList must be not null");
+    }
+    tablesJournalsMap.put(tableName.toUpperCase(), new TableJournal(tableName, columnsNameList, pksNameList));
+    return this;
+  }
+
+  /**
+   * Adds the insertion of a row.
+   * 
+   * @param tableName The name of the table.
+   * @param values The values of the row inserted.
+   * @return {@code this} journal.
+   * @throws IllegalArgumentException If the table is not in the journal.
+   */
+  public ChangesJournal addInsertion(String tableName, Object... values) {
+    getTableJournal(tableName).insert(values);
+    return this;
+  }
+
+  /**
+   * Adds the modification of a row.
+   * 
+   * @param tableName The name of the table.
+   * @param oldValues The values of the row before the modification.
+   * @param newValues The values of the row after the modification.
+   * @return {@code this} journal.
+   * @throws IllegalArgumentException If the table is not in the journal.
+   */
+  public ChangesJournal addModification(String tableName, Object[] oldValues, Object[] newValues) {
+    getTableJournal(tableName).update(oldValues, newValues);
+    return this;
+  }
+
+  /**
+   * Adds the deletion of a row.
+   * 
+   * @param tableName The name of the table.
+   * @param values The values of the row deleted.
+   * @return {@code this} journal.
+   * @throws IllegalArgumentException If the table is not in the journal.
+   */
+  public ChangesJournal addDeletion(String tableName, Object... values) {
+    getTableJournal(tableName).delete(values);
+    return this;
+  }
+
+  /**
+   * Returns the list of the changes.
+   * 
+   * @return The list of the changes (in the order of the tables).
+   */
+  public List<Change> getChangesList() {
+    List<Change> changesList = new ArrayList<>();
+    for (TableJournal tableJournal : tablesJournalsMap.values()) {
+      tableJournal.addChanges(changesList);
+    }
+    return changesList;
+  }
+
+  /**
+   * Returns the journal of a table.
+   * 
+   * @param tableName The name of the table.
+   * @return The journal of the table.
+   * @throws IllegalArgumentException If the table is not in the journal.
+   */
+  private TableJournal getTableJournal(String tableName) {
+    TableJournal tableJournal = tableName == null ? null : tablesJournalsMap.get(tableName.toUpperCase());
+    if (tableJournal == null) {
+      throw new IllegalArgumentException("Table " + tableName + " is not in the journal");
+    }
+    return tableJournal;
+  }
+
+  /**
+   * The journal of a table.
+   */
+  private static final class TableJournal {
+
+    /**
+     * The name of the table.
+     */
+    private final String tableName;
+    /**
+     * The list of the columns name.
+     */
+    private final List<String> columnsNameList;
+    /**
+     * The list of the primary keys name.
+     */
+    private final List<String> pksNameList;
+    /**
+     * The indexes of the primary keys in the columns.
+     */
+    private final int[] pksIndexes;
+    /**
+     * The rows before and after the operations (the key is the primary keys values) for a table with primary keys.
+     * The row before is {@code null} if the row is created and the row after is {@code null} if the row is deleted.
+     */
+    private final Map<ValuesKey, Row[]> rowsMap = new LinkedHashMap<>();
+    /**
+     * The rows created for a table without primary key.
+     */
+    private final List<Row> createdRowsList = new ArrayList<>();
+    /**
+     * The rows deleted for a table without primary key.
+     */
+    private final List<Row> deletedRowsList = new ArrayList<>();
+
+    /**
+     * Constructor.
+     * 
+     * @param tableName The name of the table.
+     * @param columnsNameList The list of the columns name.
+     * @param pksNameList The list of the primary keys name.
+     */
+    private TableJournal(String tableName, List<String> columnsNameList, List<String> pksNameList) {
+      this.tableName = tableName;
+      this.columnsNameList = new ArrayList<>();
+      for (String columnName : columnsNameList) {
+        this.columnsNameList.add(columnName.toUpperCase());
+      }
+      this.pksNameList = new ArrayList<>();
+      for (String pkName : pksNameList) {
+        this.pksNameList.add(pkName.toUpperCase());
+      }
+      pksIndexes = Row.getPksIndexes(this.pksNameList, this.columnsNameList);
+    }
+
+    /**
+     * Creates a row from the values.
+     * 
+     * @param values The values.
+     * @return The row.
+     * @throws IllegalArgumentException If the number of values is not the number of columns.
+     */
+    private Row createRow(Object[] values) {
+      if (values == null || values.length != columnsNameList.size()) {
+        throw new IllegalArgumentException("The number of values of a row of " + tableName + " must be "
+            + columnsNameList.size());
+      }
+      return new Row(pksNameList, pksIndexes, columnsNameList, Arrays.asList(values.clone()));
+    }
+
+    /**
+     * Inserts a row.
+     * 
+     * @param values The values of the row.
+     */
+    private void insert(Object[] values) {
+      Row row = createRow(values);
+      if (pksNameList.isEmpty()) {
+        if (!removeRowWithValues(deletedRowsList, row)) {
+          createdRowsList.add(row);
+        }
+        return;
+      }
+      Row[] rows = rowsMap.get(row.getPksKey());
+      if (rows == null) {
+        rowsMap.put(row.getPksKey(), new Row[] { null, row });
+      } else {
+        rows[1] = row;
+      }
+    }
+
+    /**
+     * Updates a row.
+     * 
+     * @param oldValues The values of the row before.
+     * @param newValues The values of the row after.
+     */
+    private void update(Object[] oldValues, Object[] newValues) {
+      Row oldRow = createRow(oldValues);
+      Row newRow = createRow(newValues);
+      if (pksNameList.isEmpty() || !oldRow.getPksKey().equals(newRow.getPksKey())) {
+        // Without primary key or if the primary keys change : the row is deleted and another is created
+        delete(oldValues);
+        insert(newValues);
+        return;
+      }
+      Row[] rows = rowsMap.get(oldRow.getPksKey());
+      if (rows == null) {
+        rowsMap.put(oldRow.getPksKey(), new Row[] { oldRow, newRow });
+      } else {
+        rows[1] = newRow;
+      }
+    }
+
+    /**
+     * Deletes a row.
+     * 
+     * @param values The values of the row.
+     */
+    private void delete(Object[] values) {
+      Row row = createRow(values);
+      if (pksNameList.isEmpty()) {
+        if (!removeRowWithValues(createdRowsList, row)) {
+          deletedRowsList.add(row);
+        }
+        return;
+      }
+      Row[] rows = rowsMap.get(row.getPksKey());
+      if (rows == null) {
+        rowsMap.put(row.getPksKey(), new Row[] { row, null });
+      } else {
+        rows[1] = null;
+      }
+    }
+
+    /**
+     * Removes the first row of the list which has the same values than a row.
+     * 
+     * @param rowsList The list of rows.
+     * @param row The row.
+     * @return {@code true} if a row is removed, {@code false} otherwise.
+     */
+    private static boolean removeRowWithValues(List<Row> rowsList, Row row) {
+      Iterator<Row> iterator = rowsList.iterator();
+      while (iterator.hasNext()) {
+        if (iterator.next().hasValues(row)) {
+          iterator.remove();
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Adds the changes of the table in the list.
+     * 
+     * @param changesList The list of the changes.
+     */
+    private void addChanges(List<Change> changesList) {
+      for (Row[] rows : rowsMap.values()) {
+        if (rows[0] == null) {
+          if (rows[1] != null) {
+            changesList.add(createCreationChange(DataType.TABLE, tableName, rows[1]));
+          }
+        } else if (rows[1] == null) {
+          changesList.add(createDeletionChange(DataType.TABLE, tableName, rows[0]));
+        } else if (!rows[0].hasValues(rows[1])) {
+          changesList.add(createModificationChange(DataType.TABLE, tableName, rows[0], rows[1]));
+        }
+      }
+      for (Row row : createdRowsList) {
+        changesList.add(createCreationChange(DataType.TABLE, tableName, row));
+      }
+      for (Row row : deletedRowsList) {
+        changesList.add(createDeletionChange(DataType.TABLE, tableName, row));
+      }
+    }
+  }
+}
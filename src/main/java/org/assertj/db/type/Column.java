@@ -34,9 +34,13 @@ public class Column {
    */
   private final String name;
   /**
-   * The values of the column.
+   * The values of the column ({@code null} if the values are streamed).
    */
   private final List<Object> valuesList;
+  /**
+   * The values of the column read from the database ({@code null} if the values are not streamed).
+   */
+  private final StreamedValues streamedValues;
 
   /**
    * Constructor of the column with visibility in the package.
@@ -47,6 +51,19 @@ public class Column {
   Column(String name, List<Object> valuesList) {
     this.name = name;
     this.valuesList = valuesList;
+    this.streamedValues = null;
+  }
+
+  /**
+   * Constructor of the column with streamed values with visibility in the package.
+   * 
+   * @param name The name of the column.
+   * @param streamedValues The values in the column which are read from the database.
+   */
+  Column(String name, StreamedValues streamedValues) {
+    this.name = name;
+    this.valuesList = null;
+    this.streamedValues = streamedValues;
   }
 
   /**
@@ -60,13 +77,45 @@ public class Column {
 
   /**
    * Returns the values of the column.
+   * <p>
+   * The values are in the order of the rows : if the values are streamed, the rows are loaded.
+   * </p>
    * 
    * @return The values of the column.
    */
   public List<Object> getValuesList() {
+    if (streamedValues != null) {
+      return streamedValues.getLoadedValuesList();
+    }
     return valuesList;
   }
 
+  /**
+   * Returns the values of the column to browse them once.
+   * <p>
+   * If the values are streamed, they are read from the database in the order it returns them without loading the rows
+   * (the values returned are {@link AutoCloseable} and must be closed if they are not browsed entirely). Otherwise, the
+   * values are the same as {@link #getValuesList()}.
+   * </p>
+   * 
+   * @return The values of the column.
+   */
+  public Iterable<Object> getStreamedValues() {
+    if (streamedValues != null) {
+      return streamedValues;
+    }
+    return valuesList;
+  }
+
+  /**
+   * Returns if the values are streamed.
+   * 
+   * @return {@code true} if the values are streamed, {@code false} otherwise.
+   */
+  boolean isStreamed() {
+    return streamedValues != null;
+  }
+
   /**
    * Returns the value corresponding to the row index.
    * 
@@ -74,6 +123,6 @@ public class Column {
    * @return The value
    */
   public Object getRowValue(int index) {
-    return valuesList.get(index);
+    return getValuesList().get(index);
   }
 }
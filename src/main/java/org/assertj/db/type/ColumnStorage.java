@@ -0,0 +1,496 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Storage of the values of a column loaded from the database.
+ * <p>
+ * The values are stored by column : the {@code Integer}, {@code Long} and {@code Double} values are stored in arrays of
+ * primitives (with a bitmap for the {@code null} values) and the {@code String} values are encoded with a dictionary.
+ * The other values are stored in an array of objects.<br>
+ * The values are returned with the same class as the values added in the storage.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+abstract class ColumnStorage {
+
+  /**
+   * The initial capacity of a storage.
+   */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * The number of values.
+   */
+  protected int size;
+
+  /**
+   * Returns the number of values.
+   * 
+   * @return The number of values.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the value at the index.
+   * 
+   * @param index The index of the value.
+   * @return The value.
+   */
+  abstract Object get(int index);
+
+  /**
+   * Compares the values at two indexes : the {@code null} values are after the other values.
+   * <p>
+   * By default, the values which are not {@code null} are compared with the comparator. The storages of primitives and
+   * of {@code String} values compare the stored values without boxing them (like the comparison of the values by
+   * {@code compareTo}).
+   * </p>
+   * 
+   * @param index1 The index of the first value.
+   * @param index2 The index of the second value.
+   * @param comparator The comparator of the values which are not {@code null}.
+   * @return The result of the comparison.
+   */
+  int compareAt(int index1, int index2, Comparator<Object> comparator) {
+    Object value1 = get(index1);
+    Object value2 = get(index2);
+    if (value1 == null || value2 == null) {
+      return compareNulls(value1 == null, value2 == null);
+    }
+    return comparator.compare(value1, value2);
+  }
+
+  /**
+   * Compares two values when at least one of them is {@code null} : the {@code null} values are after the other values.
+   * 
+   * @param null1 {@code true} if the first value is {@code null}.
+   * @param null2 {@code true} if the second value is {@code null}.
+   * @return The result of the comparison.
+   */
+  private static int compareNulls(boolean null1, boolean null2) {
+    if (null1) {
+      return null2 ? 0 : 1;
+    }
+    return -1;
+  }
+
+  /**
+   * Adds a value at the end of the storage if the value can be stored.
+   * 
+   * @param value The value.
+   * @return {@code true} if the value is added, {@code false} if the value can not be stored in this storage.
+   */
+  abstract boolean add(Object value);
+
+  /**
+   * Trims the capacity of the storage to the number of values.
+   */
+  abstract void trimToSize();
+
+  /**
+   * Returns the new capacity of an array to add a value.
+   * 
+   * @param capacity The current capacity.
+   * @return The new capacity.
+   */
+  private static int grow(int capacity) {
+    return capacity + (capacity >> 1) + 1;
+  }
+
+  /**
+   * Creates a storage adapted to the class of the value.
+   * 
+   * @param value The value (not {@code null}).
+   * @return The storage.
+   */
+  private static ColumnStorage createFor(Object value) {
+    if (value instanceof Integer) {
+      return new IntStorage();
+    }
+    if (value instanceof Long) {
+      return new LongStorage();
+    }
+    if (value instanceof Double) {
+      return new DoubleStorage();
+    }
+    if (value instanceof String) {
+      return new StringStorage();
+    }
+    return new ObjectStorage();
+  }
+
+  /**
+   * Builder of a storage.
+   * <p>
+   * The kind of storage is chosen with the first value which is not {@code null}. If a value can not be stored in this
+   * storage (a column with values of different classes), the values are copied in a storage of objects.
+   * </p>
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  static final class Builder {
+
+    /**
+     * The storage ({@code null} until the first value which is not {@code null}).
+     */
+    private ColumnStorage storage;
+    /**
+     * The number of {@code null} values before the first value which is not {@code null}.
+     */
+    private int leadingNulls;
+
+    /**
+     * Adds a value.
+     * 
+     * @param value The value.
+     */
+    void add(Object value) {
+      if (storage == null) {
+        if (value == null) {
+          leadingNulls++;
+          return;
+        }
+        storage = createFor(value);
+        for (int i = 0; i < leadingNulls; i++) {
+          storage.add(null);
+        }
+      }
+      if (!storage.add(value)) {
+        ObjectStorage objectStorage = new ObjectStorage();
+        for (int i = 0; i < storage.size(); i++) {
+          objectStorage.add(storage.get(i));
+        }
+        objectStorage.add(value);
+        storage = objectStorage;
+      }
+    }
+
+    /**
+     * Builds the storage.
+     * 
+     * @return The storage.
+     */
+    ColumnStorage build() {
+      if (storage == null) {
+        storage = new ObjectStorage();
+        for (int i = 0; i < leadingNulls; i++) {
+          storage.add(null);
+        }
+      }
+      storage.trimToSize();
+      return storage;
+    }
+  }
+
+  /**
+   * Storage of {@code Integer} values.
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  private static final class IntStorage extends ColumnStorage {
+
+    /**
+     * The values.
+     */
+    private int[] values = new int[INITIAL_CAPACITY];
+    /**
+     * The indexes of the {@code null} values.
+     */
+    private final BitSet nulls = new BitSet();
+
+    /** {@inheritDoc} */
+    @Override
+    Object get(int index) {
+      return nulls.get(index) ? null : values[index];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    int compareAt(int index1, int index2, Comparator<Object> comparator) {
+      boolean null1 = nulls.get(index1);
+      boolean null2 = nulls.get(index2);
+      if (null1 || null2) {
+        return compareNulls(null1, null2);
+      }
+      return Integer.compare(values[index1], values[index2]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    boolean add(Object value) {
+      if (value != null && !(value instanceof Integer)) {
+        return false;
+      }
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(size));
+      }
+      if (value == null) {
+        nulls.set(size);
+      } else {
+        values[size] = (Integer) value;
+      }
+      size++;
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void trimToSize() {
+      values = Arrays.copyOf(values, size);
+    }
+  }
+
+  /**
+   * Storage of {@code Long} values.
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  private static final class LongStorage extends ColumnStorage {
+
+    /**
+     * The values.
+     */
+    private long[] values = new long[INITIAL_CAPACITY];
+    /**
+     * The indexes of the {@code null} values.
+     */
+    private final BitSet nulls = new BitSet();
+
+    /** {@inheritDoc} */
+    @Override
+    Object get(int index) {
+      return nulls.get(index) ? null : values[index];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    int compareAt(int index1, int index2, Comparator<Object> comparator) {
+      boolean null1 = nulls.get(index1);
+      boolean null2 = nulls.get(index2);
+      if (null1 || null2) {
+        return compareNulls(null1, null2);
+      }
+      return Long.compare(values[index1], values[index2]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    boolean add(Object value) {
+      if (value != null && !(value instanceof Long)) {
+        return false;
+      }
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(size));
+      }
+      if (value == null) {
+        nulls.set(size);
+      } else {
+        values[size] = (Long) value;
+      }
+      size++;
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void trimToSize() {
+      values = Arrays.copyOf(values, size);
+    }
+  }
+
+  /**
+   * Storage of {@code Double} values.
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  private static final class DoubleStorage extends ColumnStorage {
+
+    /**
+     * The values.
+     */
+    private double[] values = new double[INITIAL_CAPACITY];
+    /**
+     * The indexes of the {@code null} values.
+     */
+    private final BitSet nulls = new BitSet();
+
+    /** {@inheritDoc} */
+    @Override
+    Object get(int index) {
+      return nulls.get(index) ? null : values[index];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    int compareAt(int index1, int index2, Comparator<Object> comparator) {
+      boolean null1 = nulls.get(index1);
+      boolean null2 = nulls.get(index2);
+      if (null1 || null2) {
+        return compareNulls(null1, null2);
+      }
+      return Double.compare(values[index1], values[index2]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    boolean add(Object value) {
+      if (value != null && !(value instanceof Double)) {
+        return false;
+      }
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(size));
+      }
+      if (value == null) {
+        nulls.set(size);
+      } else {
+        values[size] = (Double) value;
+      }
+      size++;
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void trimToSize() {
+      values = Arrays.copyOf(values, size);
+    }
+  }
+
+  /**
+   * Storage of {@code String} values encoded with a dictionary (each distinct value is kept once).
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  private static final class StringStorage extends ColumnStorage {
+
+    /**
+     * The codes of the values in the dictionary ({@code -1} for a {@code null} value).
+     */
+    private int[] codes = new int[INITIAL_CAPACITY];
+    /**
+     * The dictionary of the distinct values.
+     */
+    private final ArrayList<String> dictionary = new ArrayList<>();
+    /**
+     * The codes of the distinct values (only used when adding values).
+     */
+    private Map<String, Integer> codesMap = new HashMap<>();
+
+    /** {@inheritDoc} */
+    @Override
+    Object get(int index) {
+      int code = codes[index];
+      return code == -1 ? null : dictionary.get(code);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    int compareAt(int index1, int index2, Comparator<Object> comparator) {
+      int code1 = codes[index1];
+      int code2 = codes[index2];
+      if (code1 == code2) {
+        return 0;
+      }
+      if (code1 == -1 || code2 == -1) {
+        return compareNulls(code1 == -1, code2 == -1);
+      }
+      return dictionary.get(code1).compareTo(dictionary.get(code2));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    boolean add(Object value) {
+      if (codesMap == null || (value != null && !(value instanceof String))) {
+        return false;
+      }
+      if (size == codes.length) {
+        codes = Arrays.copyOf(codes, grow(size));
+      }
+      if (value == null) {
+        codes[size] = -1;
+      } else {
+        Integer code = codesMap.get(value);
+        if (code == null) {
+          code = dictionary.size();
+          dictionary.add((String) value);
+          codesMap.put((String) value, code);
+        }
+        codes[size] = code;
+      }
+      size++;
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void trimToSize() {
+      codes = Arrays.copyOf(codes, size);
+      dictionary.trimToSize();
+      codesMap = null;
+    }
+  }
+
+  /**
+   * Storage of values of any class.
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  private static final class ObjectStorage extends ColumnStorage {
+
+    /**
+     * The values.
+     */
+    private Object[] values = new Object[INITIAL_CAPACITY];
+
+    /** {@inheritDoc} */
+    @Override
+    Object get(int index) {
+      return values[index];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    boolean add(Object value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, grow(size));
+      }
+      values[size] = value;
+      size++;
+      return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void trimToSize() {
+      values = Arrays.copyOf(values, size);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of the values of a {@link Column} which is a view on the list of the {@link Row}s (without copying the values).
+ * <p>
+ * The list is not modifiable.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+final class ColumnValuesList extends AbstractList<Object> implements RandomAccess {
+
+  /**
+   * The list of the rows.
+   */
+  private final List<Row> rowsList;
+  /**
+   * The index of the column.
+   */
+  private final int index;
+
+  /**
+   * Constructor.
+   * 
+   * @param rowsList The list of the rows.
+   * @param index The index of the column.
+   */
+  ColumnValuesList(List<Row> rowsList, int index) {
+    this.rowsList = rowsList;
+    this.index = index;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object get(int index) {
+    return rowsList.get(index).getColumnValue(this.index);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return rowsList.size();
+  }
+}
@@ -0,0 +1,143 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+/**
+ * Utility methods to read the formats of the {@code String} representations of {@link DateValue} ({@code yyyy-mm-dd}),
+ * {@link TimeValue} ({@code hh:mm}, {@code hh:mm:ss} or {@code hh:mm:ss.nnnnnnnnn}) and {@link DateTimeValue}.
+ * <p>
+ * The characters are read at their positions (without regular expression and without sub-strings).
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+final class DateTimeFormats {
+
+  /**
+   * Length of a date ({@code yyyy-mm-dd}).
+   */
+  static final int DATE_LENGTH = 10;
+  /**
+   * Length of a time without seconds ({@code hh:mm}).
+   */
+  static final int TIME_LENGTH = 5;
+  /**
+   * Length of a time with seconds ({@code hh:mm:ss}).
+   */
+  static final int TIME_WITH_SECONDS_LENGTH = 8;
+  /**
+   * Length of a time with nanoseconds ({@code hh:mm:ss.nnnnnnnnn}).
+   */
+  static final int TIME_WITH_NANO_LENGTH = 18;
+
+  /**
+   * Private constructor.
+   */
+  private DateTimeFormats() {
+    // Empty
+  }
+
+  /**
+   * Returns if the characters at the positions are ASCII digits.
+   *
+   * @param string The {@code String}.
+   * @param start Index of the first character.
+   * @param length Number of characters.
+   * @return {@code true} if the characters are digits, {@code false} otherwise.
+   */
+  private static boolean areDigits(String string, int start, int length) {
+    for (int index = start; index < start + length; index++) {
+      char character = string.charAt(index);
+      if (character < '0' || character > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the number represented by the digits at the positions (the digits must be checked before).
+   *
+   * @param string The {@code String}.
+   * @param start Index of the first digit.
+   * @param length Number of digits.
+   * @return The number.
+   */
+  static int getNumber(String string, int start, int length) {
+    int number = 0;
+    for (int index = start; index < start + length; index++) {
+      number = number * 10 + (string.charAt(index) - '0');
+    }
+    return number;
+  }
+
+  /**
+   * Returns if there is a date in format {@code yyyy-mm-dd} at the position (the {@code String} must contain at least
+   * {@link #DATE_LENGTH} characters from {@code start}).
+   *
+   * @param string The {@code String}.
+   * @param start Index of the beginning of the date.
+   * @return {@code true} if the date respects the format, {@code false} otherwise.
+   */
+  static boolean isDate(String string, int start) {
+    return string.charAt(start + 4) == '-' && string.charAt(start + 7) == '-'
+        && areDigits(string, start, 4) && areDigits(string, start + 5, 2) && areDigits(string, start + 8, 2);
+  }
+
+  /**
+   * Returns if the end of the {@code String} from the position is a time in format {@code hh:mm}, {@code hh:mm:ss} or
+   * {@code hh:mm:ss.nnnnnnnnn}.
+   *
+   * @param string The {@code String}.
+   * @param start Index of the beginning of the time.
+   * @return {@code true} if the time respects one of the formats, {@code false} otherwise.
+   */
+  static boolean isTime(String string, int start) {
+    int length = string.length() - start;
+    if (length != TIME_LENGTH && length != TIME_WITH_SECONDS_LENGTH && length != TIME_WITH_NANO_LENGTH) {
+      return false;
+    }
+    if (string.charAt(start + 2) != ':' || !areDigits(string, start, 2) || !areDigits(string, start + 3, 2)) {
+      return false;
+    }
+    if (length == TIME_LENGTH) {
+      return true;
+    }
+    if (string.charAt(start + 5) != ':' || !areDigits(string, start + 6, 2)) {
+      return false;
+    }
+    if (length == TIME_WITH_SECONDS_LENGTH) {
+      return true;
+    }
+    return string.charAt(start + 8) == '.' && areDigits(string, start + 9, 9);
+  }
+
+  /**
+   * Returns the time in format {@code hh:mm}, {@code hh:mm:ss} or {@code hh:mm:ss.nnnnnnnnn} at the end of the
+   * {@code String} from the position (the format must be checked before with {@link #isTime(String, int)}).
+   *
+   * @param string The {@code String}.
+   * @param start Index of the beginning of the time.
+   * @return An array with the hour, the minutes, the seconds and the nanoseconds.
+   */
+  static int[] getTime(String string, int start) {
+    int length = string.length() - start;
+    return new int[] {
+        getNumber(string, start, 2),
+        getNumber(string, start + 3, 2),
+        length > TIME_LENGTH ? getNumber(string, start + 6, 2) : 0,
+        length > TIME_WITH_SECONDS_LENGTH ? getNumber(string, start + 9, 9) : 0
+    };
+  }
+}
@@ -32,24 +32,6 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
    * The time part.
    */
   private final TimeValue time;
-  /**
-   * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
-   */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
-  /**
-   * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with seconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with nanoseconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d\\d\\d-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
 
   /**
    * Makes an instance of date/time value from a date with time at 00:00AM.
@@ -129,14 +111,20 @@ public class DateTimeValue implements Comparable<DateTimeValue>, DateValueContai
       throw new NullPointerException("date/time should be not null");
     }
 
-    if (dateTime.matches(DATE_FORMAT)) {
-      date = DateValue.parse(dateTime);
-      time = new TimeValue(0, 0);
-    } else if (dateTime.matches(TIME_FORMAT) || dateTime.matches(TIME_FORMAT_WITH_SECONDS)
-        || dateTime.matches(TIME_FORMAT_WITH_NANO)) {
-
-      date = DateValue.parse(dateTime.substring(0, 10));
-      time = TimeValue.parse(dateTime.substring(11));
+    int length = dateTime.length();
+    if (length >= DateTimeFormats.DATE_LENGTH && DateTimeFormats.isDate(dateTime, 0)
+        && (length == DateTimeFormats.DATE_LENGTH
+            || (dateTime.charAt(DateTimeFormats.DATE_LENGTH) == 'T'
+                && DateTimeFormats.isTime(dateTime, DateTimeFormats.DATE_LENGTH + 1)))) {
+
+      date = new DateValue(DateTimeFormats.getNumber(dateTime, 0, 4), DateTimeFormats.getNumber(dateTime, 5, 2),
+          DateTimeFormats.getNumber(dateTime, 8, 2));
+      if (length == DateTimeFormats.DATE_LENGTH) {
+        time = new TimeValue(0, 0);
+      } else {
+        int[] values = DateTimeFormats.getTime(dateTime, DateTimeFormats.DATE_LENGTH + 1);
+        time = new TimeValue(values[0], values[1], values[2], values[3]);
+      }
     } else {
       throw new ParseException("date/time must respect yyyy-mm-dd, yyyy-mm-ddThh:mm, "
           + "yyyy-mm-ddThh:mm:ss or yyyy-mm-ddThh:mm:ss.nnnnnnnnn format", dateTime.length());
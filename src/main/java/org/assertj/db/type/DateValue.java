@@ -36,10 +36,6 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
    * Year.
    */
   private final int year;
-  /**
-   * Indicates where there are the digits in the {@code String} for {@link DateValue#DateValue(String)}.
-   */
-  private static final String DATE_FORMAT = "\\d\\d\\d\\d-\\d\\d-\\d\\d";
 
   /**
    * Makes an instance of date value from a day of month, a month and an year.
@@ -101,10 +97,10 @@ public class DateValue implements Comparable<DateValue>, DateValueContainer {
       throw new NullPointerException("date should be not null");
     }
 
-    if (date.matches(DATE_FORMAT)) {
-      year = Integer.parseInt(date.substring(0, 4));
-      month = Integer.parseInt(date.substring(5, 7));
-      dayOfTheMonth = Integer.parseInt(date.substring(8));
+    if (date.length() == DateTimeFormats.DATE_LENGTH && DateTimeFormats.isDate(date, 0)) {
+      year = DateTimeFormats.getNumber(date, 0, 4);
+      month = DateTimeFormats.getNumber(date, 5, 2);
+      dayOfTheMonth = DateTimeFormats.getNumber(date, 8, 2);
     } else {
       throw new ParseException("date must respect yyyy-mm-dd format", date.length());
     }
@@ -0,0 +1,229 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * This class represents the fingerprint of a table : the number of rows and the values of SQL aggregate expressions
+ * evaluated on the rows.
+ * <p>
+ * The fingerprint is computed on all the rows of the table, or by bucket : the rows are grouped by ranges of values of
+ * an integer column (normally the primary key) with {@code FLOOR(column / bucketSize)} and the aggregates are evaluated
+ * on each group by the database. Comparing the buckets of two fingerprints gives the ranges of rows which changed, like
+ * in a Merkle tree with one level.
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+final class Fingerprint {
+
+  /**
+   * Comparator of the buckets with {@code null} first.
+   */
+  private static final Comparator<Long> NULL_FIRST_COMPARATOR = new Comparator<Long>() {
+    @Override
+    public int compare(Long bucket1, Long bucket2) {
+      if (bucket1 == null) {
+        return bucket2 == null ? 0 : -1;
+      }
+      if (bucket2 == null) {
+        return 1;
+      }
+      return bucket1.compareTo(bucket2);
+    }
+  };
+
+  /**
+   * The SQL aggregate expression(s).
+   */
+  private final String expression;
+  /**
+   * The name of the column used to group the rows in buckets ({@code null} if there is no bucket).
+   */
+  private final String columnName;
+  /**
+   * The number of values of the column in a bucket ({@code 0} if there is no bucket).
+   */
+  private final int bucketSize;
+  /**
+   * The number of rows and the values of the expressions for each bucket (the key is the number of the bucket,
+   * {@code null} for the rows with a {@code null} value in the column).
+   */
+  private final Map<Long, List<Object>> bucketsMap = new HashMap<>();
+
+  /**
+   * Constructor.
+   *
+   * @param expression The SQL aggregate expression(s).
+   * @param columnName The name of the column used to group the rows in buckets ({@code null} if there is no bucket).
+   * @param bucketSize The number of values of the column in a bucket (ignored if there is no bucket).
+   */
+  Fingerprint(String expression, String columnName, int bucketSize) {
+    this.expression = expression;
+    this.columnName = columnName;
+    this.bucketSize = columnName == null ? 0 : bucketSize;
+  }
+
+  /**
+   * Returns the name of the column used to group the rows in buckets.
+   *
+   * @return The name of the column ({@code null} if there is no bucket).
+   */
+  String getColumnName() {
+    return columnName;
+  }
+
+  /**
+   * Returns the number of buckets.
+   *
+   * @return The number of buckets.
+   */
+  int getNumberOfBuckets() {
+    return bucketsMap.size();
+  }
+
+  /**
+   * Returns the SQL request which computes the fingerprint of a table.
+   *
+   * @param tableName The name of the table.
+   * @return The SQL request.
+   */
+  String getRequest(String tableName) {
+    if (columnName == null) {
+      return "SELECT 0, COUNT(*), " + expression + " FROM " + tableName;
+    }
+    // The division by a decimal gives the same bucket than in Java for the negative values
+    String bucketExpression = "FLOOR(" + columnName + " / " + bucketSize + ".0)";
+    return "SELECT " + bucketExpression + ", COUNT(*), " + expression + " FROM " + tableName + " GROUP BY "
+        + bucketExpression;
+  }
+
+  /**
+   * Collects the buckets from the {@link ResultSet} of the request.
+   *
+   * @param resultSet The {@link ResultSet}.
+   * @throws SQLException SQL Exception.
+   * @see #getRequest(String)
+   */
+  void collectBuckets(ResultSet resultSet) throws SQLException {
+    int columnCount = resultSet.getMetaData().getColumnCount();
+    while (resultSet.next()) {
+      Object bucket = resultSet.getObject(1);
+      List<Object> valuesList = new ArrayList<>(columnCount - 1);
+      for (int index = 2; index <= columnCount; index++) {
+        valuesList.add(resultSet.getObject(index));
+      }
+      bucketsMap.put(bucket == null ? null : ((Number) bucket).longValue(), valuesList);
+    }
+  }
+
+  /**
+   * Returns if the fingerprint can be compared to another : the expressions and the buckets are the same.
+   *
+   * @param fingerprint The other fingerprint.
+   * @return {@code true} if the fingerprints can be compared, {@code false} otherwise.
+   */
+  boolean isComparableTo(Fingerprint fingerprint) {
+    return expression.equals(fingerprint.expression) && bucketSize == fingerprint.bucketSize
+        && (columnName == null ? fingerprint.columnName == null : columnName.equalsIgnoreCase(fingerprint.columnName));
+  }
+
+  /**
+   * Returns the buckets which are different in another fingerprint (including the buckets which are only in one of the
+   * fingerprints).
+   *
+   * @param fingerprint The other fingerprint (must be comparable).
+   * @return The buckets which changed (empty if the fingerprints are equal).
+   */
+  Set<Long> getChangedBuckets(Fingerprint fingerprint) {
+    Set<Long> bucketsSet = new TreeSet<>(NULL_FIRST_COMPARATOR);
+    for (Map.Entry<Long, List<Object>> entry : bucketsMap.entrySet()) {
+      if (!entry.getValue().equals(fingerprint.bucketsMap.get(entry.getKey()))) {
+        bucketsSet.add(entry.getKey());
+      }
+    }
+    for (Long bucket : fingerprint.bucketsMap.keySet()) {
+      if (!bucketsMap.containsKey(bucket)) {
+        bucketsSet.add(bucket);
+      }
+    }
+    return bucketsSet;
+  }
+
+  /**
+   * Returns the bucket of a value of the column.
+   *
+   * @param value The value.
+   * @return The number of the bucket ({@code null} if the value is {@code null}).
+   * @throws IllegalArgumentException If the value is not a number.
+   */
+  Long getBucket(Object value) {
+    if (value == null) {
+      return null;
+    }
+    if (!(value instanceof Number)) {
+      throw new IllegalArgumentException(value + " is not a number");
+    }
+    BigDecimal bigDecimal = new BigDecimal(value.toString());
+    return bigDecimal.divide(BigDecimal.valueOf(bucketSize), 0, RoundingMode.FLOOR).longValue();
+  }
+
+  /**
+   * Returns the SQL condition satisfied by the rows in the buckets (the consecutive buckets are grouped in one range).
+   *
+   * @param bucketsSet The buckets (sorted with {@code null} first).
+   * @return The SQL condition.
+   */
+  String getCondition(Set<Long> bucketsSet) {
+    StringBuilder stringBuilder = new StringBuilder();
+    Long firstBucket = null;
+    Long lastBucket = null;
+    for (Long bucket : bucketsSet) {
+      if (bucket == null) {
+        stringBuilder.append(columnName).append(" IS NULL");
+      } else if (lastBucket != null && bucket == lastBucket + 1) {
+        lastBucket = bucket;
+      } else {
+        appendRange(stringBuilder, firstBucket, lastBucket);
+        firstBucket = bucket;
+        lastBucket = bucket;
+      }
+    }
+    appendRange(stringBuilder, firstBucket, lastBucket);
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Appends the SQL condition satisfied by the rows in a range of buckets.
+   *
+   * @param stringBuilder The {@code StringBuilder} in which the condition is appended.
+   * @param firstBucket The first bucket of the range ({@code null} if there is no range).
+   * @param lastBucket The last bucket of the range.
+   */
+  private void appendRange(StringBuilder stringBuilder, Long firstBucket, Long lastBucket) {
+    if (firstBucket == null) {
+      return;
+    }
+    if (stringBuilder.length() > 0) {
+      stringBuilder.append(" OR ");
+    }
+    stringBuilder.append("(").append(columnName).append(" >= ").append(firstBucket * bucketSize).append(" AND ")
+        .append(columnName).append(" < ").append((lastBucket + 1) * bucketSize).append(")");
+  }
+}
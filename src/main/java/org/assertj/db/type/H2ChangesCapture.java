@@ -0,0 +1,368 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.h2.api.Trigger;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Capture of the changes with triggers for a H2 database.
+ * <p>
+ * When the capture starts, a journal table is created and a trigger is created on each table : the trigger writes the
+ * values of the rows inserted, updated or deleted in the journal. When the capture stops, the triggers are dropped and
+ * the changes are built from the journal (with a {@link ChangesJournal}), then the journal table is dropped.
+ * </p>
+ * <p>
+ * The journal table and the triggers are permanent objects of the database (the operations are done by other
+ * connections than the one of the capture) : they are removed when the capture stops, when the start fails and when
+ * the capture is aborted ({@link Changes#abortCapture()}). The triggers and the journal table left by a capture which
+ * is not stopped are replaced when a capture starts.<br>
+ * The names of the tables are quoted : a name which is not quoted is in upper case (like an unquoted identifier in
+ * H2). The name can be qualified with the schema : the journal contains the schema and the name of the table.
+ * </p>
+ * <p>
+ * The dependency on H2 is optional : this class is the only one which uses the classes of H2, so the H2 driver is only
+ * needed in the classpath to use this capture.
+ * </p>
+ * <p>
+ * The values are those of all the columns of the table : the columns to check and the columns to exclude of the tables
+ * are applied when the changes are built. The operations of the transactions which are rolled back are not in the
+ * journal.
+ * </p>
+ * <p>Example :</p>
+ * <pre><code class='java'>
+ * Changes changes = new Changes(source).setCapture(new H2ChangesCapture());
+ * changes.setStartPointNow();
+ * // Do something
+ * changes.setEndPointNow();
+ * </code></pre>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class H2ChangesCapture implements ChangesCapture {
+
+  /**
+   * The name of the journal table.
+   */
+  static final String JOURNAL_TABLE_NAME = "ASSERTJ_DB_JOURNAL";
+  /**
+   * The prefix of the name of the triggers.
+   */
+  static final String TRIGGER_NAME_PREFIX = "ASSERTJ_DB_TRIGGER_";
+
+  /** {@inheritDoc} */
+  @Override
+  public void start(Connection connection, List<Table> tablesList) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.executeUpdate("DROP TABLE IF EXISTS " + quoteName(JOURNAL_TABLE_NAME));
+      statement.executeUpdate("CREATE TABLE " + quoteName(JOURNAL_TABLE_NAME)
+          + "(ID IDENTITY, SCHEMA_NAME VARCHAR, TABLE_NAME VARCHAR, OLD_VALUES ARRAY, NEW_VALUES ARRAY)");
+      for (Table table : tablesList) {
+        if (!isJournal(table)) {
+          String triggerName = getTriggerName(table);
+          statement.executeUpdate("DROP TRIGGER IF EXISTS " + triggerName);
+          statement.executeUpdate("CREATE TRIGGER " + triggerName + " AFTER INSERT, UPDATE, DELETE ON "
+              + quoteName(table.getName()) + " FOR EACH ROW CALL \"" + JournalTrigger.class.getName() + "\"");
+        }
+      }
+    } catch (SQLException | RuntimeException e) {
+      abortAfterFailure(connection, tablesList, e);
+      throw e;
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Change> stop(Connection connection, List<Table> tablesList) throws SQLException {
+    ChangesJournal changesJournal = new ChangesJournal();
+    List<int[]> columnsIndexesList = new ArrayList<>();
+    List<String> qualifiedNamesList = new ArrayList<>();
+    try (Statement statement = connection.createStatement()) {
+      dropTriggers(statement, tablesList);
+      for (Table table : tablesList) {
+        columnsIndexesList.add(addTable(changesJournal, connection, table));
+        qualifiedNamesList.add(isJournal(table) ? null : getQualifiedName(connection, table));
+      }
+
+      try (ResultSet resultSet = statement.executeQuery("SELECT SCHEMA_NAME, TABLE_NAME, OLD_VALUES, NEW_VALUES FROM "
+          + quoteName(JOURNAL_TABLE_NAME) + " ORDER BY ID")) {
+        while (resultSet.next()) {
+          int index = qualifiedNamesList.indexOf(resultSet.getString(1) + "." + resultSet.getString(2));
+          if (index != -1) {
+            String tableName = tablesList.get(index).getName();
+            int[] columnsIndexes = columnsIndexesList.get(index);
+            Object[] oldValues = getValues((Object[]) resultSet.getObject(3), columnsIndexes);
+            Object[] newValues = getValues((Object[]) resultSet.getObject(4), columnsIndexes);
+            if (oldValues == null) {
+              changesJournal.addInsertion(tableName, newValues);
+            } else if (newValues == null) {
+              changesJournal.addDeletion(tableName, oldValues);
+            } else {
+              changesJournal.addModification(tableName, oldValues, newValues);
+            }
+          }
+        }
+      }
+      statement.executeUpdate("DROP TABLE IF EXISTS " + quoteName(JOURNAL_TABLE_NAME));
+    } catch (SQLException | RuntimeException e) {
+      abortAfterFailure(connection, tablesList, e);
+      throw e;
+    }
+    return changesJournal.getChangesList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void abort(Connection connection, List<Table> tablesList) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      dropTriggers(statement, tablesList);
+      statement.executeUpdate("DROP TABLE IF EXISTS " + quoteName(JOURNAL_TABLE_NAME));
+    }
+  }
+
+  /**
+   * Aborts the capture after a failure of the start or of the stop : the exception of the abort is added to the
+   * exception of the failure.
+   * 
+   * @param connection The {@link Connection} to the database.
+   * @param tablesList The tables on which the changes are captured.
+   * @param exception The exception of the failure.
+   */
+  private void abortAfterFailure(Connection connection, List<Table> tablesList, Exception exception) {
+    try {
+      abort(connection, tablesList);
+    } catch (SQLException | RuntimeException e) {
+      exception.addSuppressed(e);
+    }
+  }
+
+  /**
+   * Drops the triggers on the tables (if they exist).
+   * 
+   * @param statement The {@link Statement}.
+   * @param tablesList The tables on which the changes are captured.
+   * @throws SQLException SQL Exception.
+   */
+  private static void dropTriggers(Statement statement, List<Table> tablesList) throws SQLException {
+    for (Table table : tablesList) {
+      if (!isJournal(table)) {
+        statement.executeUpdate("DROP TRIGGER IF EXISTS " + getTriggerName(table));
+      }
+    }
+  }
+
+  /**
+   * Returns a name quoted for H2 : each part of the name (separated by a dot) which is not quoted is quoted in upper
+   * case.
+   * 
+   * @param name The name.
+   * @return The quoted name.
+   */
+  static String quoteName(String name) {
+    StringBuilder quotedName = new StringBuilder();
+    for (String part : name.split("\\.")) {
+      if (quotedName.length() > 0) {
+        quotedName.append('.');
+      }
+      if (part.length() > 1 && part.startsWith("\"") && part.endsWith("\"")) {
+        quotedName.append(part);
+      } else {
+        quotedName.append('"').append(part.toUpperCase().replace("\"", "\"\"")).append('"');
+      }
+    }
+    return quotedName.toString();
+  }
+
+  /**
+   * Returns if the table is the journal table.
+   * 
+   * @param table The table.
+   * @return {@code true} if the table is the journal table, {@code false} otherwise.
+   */
+  private static boolean isJournal(Table table) {
+    return JOURNAL_TABLE_NAME.equalsIgnoreCase(table.getName());
+  }
+
+  /**
+   * Returns the quoted name of the trigger on a table (qualified with the schema of the table if there is one).
+   * 
+   * @param table The table.
+   * @return The quoted name of the trigger.
+   */
+  private static String getTriggerName(Table table) {
+    String name = table.getName();
+    String triggerName = quoteName(TRIGGER_NAME_PREFIX + name.toUpperCase().replace(".", "_").replace("\"", ""));
+    int index = name.lastIndexOf('.');
+    if (index == -1) {
+      return triggerName;
+    }
+    // The trigger is in the schema of the table
+    return quoteName(name.substring(0, index)) + "." + triggerName;
+  }
+
+  /**
+   * Returns the name of a table qualified with its schema, as resolved by the database (the names given to the
+   * triggers).
+   * 
+   * @param connection The {@link Connection} to the database.
+   * @param table The table.
+   * @return The qualified name of the table ({@code SCHEMA.TABLE}).
+   * @throws SQLException SQL Exception.
+   */
+  private static String getQualifiedName(Connection connection, Table table) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT * FROM " + quoteName(table.getName()) + " WHERE 1 = 0")) {
+      ResultSetMetaData metaData = resultSet.getMetaData();
+      return metaData.getSchemaName(1) + "." + metaData.getTableName(1);
+    }
+  }
+
+  /**
+   * Adds a table in the journal with the columns to check (and not to exclude) and the primary keys among them.
+   * 
+   * @param changesJournal The journal.
+   * @param connection The {@link Connection} to the database.
+   * @param table The table.
+   * @return The indexes of the columns kept in the values of the rows (starting at {@code 0}).
+   * @throws SQLException SQL Exception.
+   */
+  private static int[] addTable(ChangesJournal changesJournal, Connection connection, Table table)
+      throws SQLException {
+
+    List<String> columnsToCheckList = null;
+    if (table.getColumnsToCheck() != null) {
+      columnsToCheckList = toUpperCase(table.getColumnsToCheck());
+    }
+    List<String> columnsToExcludeList = null;
+    if (table.getColumnsToExclude() != null) {
+      columnsToExcludeList = toUpperCase(table.getColumnsToExclude());
+    }
+
+    List<String> columnsNameList = new ArrayList<>();
+    List<Integer> columnsIndexesList = new ArrayList<>();
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT * FROM " + quoteName(table.getName()) + " WHERE 1 = 0")) {
+      ResultSetMetaData metaData = resultSet.getMetaData();
+      for (int index = 1; index <= metaData.getColumnCount(); index++) {
+        String columnName = metaData.getColumnLabel(index).toUpperCase();
+        if ((columnsToCheckList == null || columnsToCheckList.contains(columnName))
+            && (columnsToExcludeList == null || !columnsToExcludeList.contains(columnName))) {
+          columnsNameList.add(columnName);
+          columnsIndexesList.add(index - 1);
+        }
+      }
+    }
+
+    List<String> pksNameList = new ArrayList<>();
+    for (String pkName : MetadataCache.getPksName(table, connection, table.getName().toUpperCase())) {
+      if (columnsNameList.contains(pkName)) {
+        pksNameList.add(pkName);
+      }
+    }
+
+    changesJournal.addTable(table.getName(), columnsNameList, pksNameList);
+    int[] columnsIndexes = new int[columnsIndexesList.size()];
+    for (int index = 0; index < columnsIndexes.length; index++) {
+      columnsIndexes[index] = columnsIndexesList.get(index);
+    }
+    return columnsIndexes;
+  }
+
+  /**
+   * Returns an array of {@code String} in upper case in a list.
+   * 
+   * @param strings The array of {@code String}.
+   * @return The list in upper case.
+   */
+  private static List<String> toUpperCase(String[] strings) {
+    List<String> list = new ArrayList<>();
+    for (String string : strings) {
+      list.add(string.toUpperCase());
+    }
+    return list;
+  }
+
+  /**
+   * Returns the values of the columns kept.
+   * 
+   * @param values All the values of a row ({@code null} if there is no row).
+   * @param columnsIndexes The indexes of the columns kept.
+   * @return The values of the columns kept ({@code null} if there is no row).
+   */
+  private static Object[] getValues(Object[] values, int[] columnsIndexes) {
+    if (values == null) {
+      return null;
+    }
+    Object[] keptValues = new Object[columnsIndexes.length];
+    for (int index = 0; index < columnsIndexes.length; index++) {
+      keptValues[index] = ValueType.getConvertedValue(values[columnsIndexes[index]]);
+    }
+    return keptValues;
+  }
+
+  /**
+   * The trigger which writes the values of the rows in the journal table.
+   * <p>
+   * This class is public because it is instantiated by the H2 database.
+   * </p>
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  public static class JournalTrigger implements Trigger {
+
+    /**
+     * The name of the schema of the table.
+     */
+    private String schemaName;
+    /**
+     * The name of the table.
+     */
+    private String tableName;
+
+    /** {@inheritDoc} */
+    @Override
+    public void init(Connection connection, String schemaName, String triggerName, String tableName, boolean before,
+        int type) {
+      this.schemaName = schemaName;
+      this.tableName = tableName;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void fire(Connection connection, Object[] oldRow, Object[] newRow) throws SQLException {
+      try (PreparedStatement statement = connection.prepareStatement("INSERT INTO " + quoteName(JOURNAL_TABLE_NAME)
+          + "(SCHEMA_NAME, TABLE_NAME, OLD_VALUES, NEW_VALUES) VALUES (?, ?, ?, ?)")) {
+        statement.setString(1, schemaName);
+        statement.setString(2, tableName);
+        statement.setObject(3, oldRow);
+        statement.setObject(4, newRow);
+        statement.executeUpdate();
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove() {
+    }
+  }
+}
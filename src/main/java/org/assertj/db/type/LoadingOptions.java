@@ -0,0 +1,252 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Options used when loading the data from the database.
+ * <p>
+ * The options are set on a {@link Source} (for all the elements using this source) or on an element ({@link Table},
+ * {@link Request} or {@link Changes}). An option which is not set keeps the default of the JDBC driver.
+ * </p>
+ * <p>Example of a fetch size of 500 rows and a query timeout of 30 seconds :</p>
+ * <pre><code class='java'>
+ * LoadingOptions loadingOptions = new LoadingOptions().setFetchSize(500).setQueryTimeout(30);
+ * Table table = new Table(source, "movie").setLoadingOptions(loadingOptions);
+ * </code></pre>
+ * <p>
+ * Note : some drivers (PostgreSQL for example) only use the fetch size when the auto-commit is disabled.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class LoadingOptions {
+
+  /**
+   * The number of rows fetched at once from the database ({@code null} for the default of the driver).
+   */
+  private Integer fetchSize;
+  /**
+   * The timeout of the queries in seconds ({@code null} for the default of the driver).
+   */
+  private Integer queryTimeout;
+  /**
+   * The maximum number of rows loaded ({@code null} for no limit).
+   */
+  private Integer maxRows;
+  /**
+   * Indicates if the connection is set in read-only mode during the loading.
+   */
+  private boolean readOnly;
+
+  /**
+   * Returns the number of rows fetched at once from the database.
+   * 
+   * @see #setFetchSize(Integer)
+   * @return The number of rows fetched at once ({@code null} for the default of the driver).
+   */
+  public Integer getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * Sets the number of rows fetched at once from the database.
+   * 
+   * @see #getFetchSize()
+   * @param fetchSize The number of rows fetched at once ({@code null} for the default of the driver).
+   * @return The actual instance.
+   * @throws IllegalArgumentException If {@code fetchSize} is less than {@code 0}.
+   */
+  public LoadingOptions setFetchSize(Integer fetchSize) {
+    checkNotNegative(fetchSize, "fetchSize");
+    this.fetchSize = fetchSize;
+    return this;
+  }
+
+  /**
+   * Returns the timeout of the queries in seconds.
+   * 
+   * @see #setQueryTimeout(Integer)
+   * @return The timeout of the queries ({@code null} for the default of the driver).
+   */
+  public Integer getQueryTimeout() {
+    return queryTimeout;
+  }
+
+  /**
+   * Sets the timeout of the queries in seconds.
+   * 
+   * @see #getQueryTimeout()
+   * @param queryTimeout The timeout of the queries ({@code null} for the default of the driver, {@code 0} for no
+   *          limit).
+   * @return The actual instance.
+   * @throws IllegalArgumentException If {@code queryTimeout} is less than {@code 0}.
+   */
+  public LoadingOptions setQueryTimeout(Integer queryTimeout) {
+    checkNotNegative(queryTimeout, "queryTimeout");
+    this.queryTimeout = queryTimeout;
+    return this;
+  }
+
+  /**
+   * Returns the maximum number of rows loaded.
+   * 
+   * @see #setMaxRows(Integer)
+   * @return The maximum number of rows ({@code null} for no limit).
+   */
+  public Integer getMaxRows() {
+    return maxRows;
+  }
+
+  /**
+   * Sets the maximum number of rows loaded (the other rows are silently dropped by the driver).
+   * 
+   * @see #getMaxRows()
+   * @param maxRows The maximum number of rows ({@code null} or {@code 0} for no limit).
+   * @return The actual instance.
+   * @throws IllegalArgumentException If {@code maxRows} is less than {@code 0}.
+   */
+  public LoadingOptions setMaxRows(Integer maxRows) {
+    checkNotNegative(maxRows, "maxRows");
+    this.maxRows = maxRows;
+    return this;
+  }
+
+  /**
+   * Returns if the connection is set in read-only mode during the loading.
+   * 
+   * @see #setReadOnly(boolean)
+   * @return {@code true} if the connection is set in read-only mode, {@code false} otherwise.
+   */
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  /**
+   * Sets if the connection is set in read-only mode during the loading (the previous mode is restored when the
+   * connection is closed).
+   * 
+   * @see #isReadOnly()
+   * @param readOnly {@code true} if the connection is set in read-only mode, {@code false} otherwise.
+   * @return The actual instance.
+   */
+  public LoadingOptions setReadOnly(boolean readOnly) {
+    this.readOnly = readOnly;
+    return this;
+  }
+
+  /**
+   * Checks that a value is not negative.
+   * 
+   * @param value The value (can be {@code null}).
+   * @param name The name of the value.
+   * @throws IllegalArgumentException If {@code value} is less than {@code 0}.
+   */
+  private static void checkNotNegative(Integer value, String name) {
+    if (value != null && value < 0) {
+      throw new IllegalArgumentException(name + " must be greater than or equal to 0");
+    }
+  }
+
+  /**
+   * Applies the options to a {@link Statement}.
+   * 
+   * @param statement The {@link Statement}.
+   * @throws SQLException SQL Exception.
+   */
+  void applyTo(Statement statement) throws SQLException {
+    if (fetchSize != null) {
+      statement.setFetchSize(fetchSize);
+    }
+    if (queryTimeout != null) {
+      statement.setQueryTimeout(queryTimeout);
+    }
+    if (maxRows != null) {
+      statement.setMaxRows(maxRows);
+    }
+  }
+
+  /**
+   * Applies the options to a {@link Connection}.
+   * <p>
+   * If the read-only mode is asked and the connection is not already in read-only mode, the connection is set in
+   * read-only mode and the returned connection restores the previous mode when it is closed.
+   * </p>
+   * 
+   * @param connection The {@link Connection}.
+   * @return The {@link Connection} to use.
+   * @throws SQLException SQL Exception.
+   */
+  Connection applyTo(Connection connection) throws SQLException {
+    if (!readOnly || connection.isReadOnly()) {
+      return connection;
+    }
+    try {
+      connection.setReadOnly(true);
+    } catch (SQLException | RuntimeException e) {
+      connection.close();
+      throw e;
+    }
+    return (Connection) Proxy.newProxyInstance(LoadingOptions.class.getClassLoader(),
+        new Class<?>[] { Connection.class }, new ReadOnlyConnectionHandler(connection));
+  }
+
+  /**
+   * Handler of a {@link Connection} in read-only mode which restores the previous mode when the connection is closed.
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  private static final class ReadOnlyConnectionHandler implements InvocationHandler {
+
+    /**
+     * The real connection.
+     */
+    private final Connection connection;
+
+    /**
+     * Constructor.
+     * 
+     * @param connection The real connection.
+     */
+    private ReadOnlyConnectionHandler(Connection connection) {
+      this.connection = connection;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if ("close".equals(method.getName()) && method.getParameterTypes().length == 0) {
+        try (Connection connection = this.connection) {
+          if (!connection.isClosed()) {
+            connection.setReadOnly(false);
+          }
+        }
+        return null;
+      }
+      try {
+        return method.invoke(connection, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
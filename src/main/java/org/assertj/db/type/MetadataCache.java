@@ -0,0 +1,300 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cache of the metadata of the database (catalog and schema, names of the tables and names of the primary keys).
+ * <p>
+ * By default, the metadata are read from the database each time the data are loaded. When the cache is enabled, the
+ * metadata are kept by {@link Source} (two sources with the same url, user and password share the same metadata) or
+ * by {@link DataSource}, and by catalog and schema, during the time to live.
+ * </p>
+ * <p>Example of use in a test :</p>
+ * <pre><code class='java'>
+ * &#64;BeforeClass
+ * public static void enableMetadataCache() {
+ *   MetadataCache.enable(60000);
+ * }
+ *
+ * &#64;AfterClass
+ * public static void disableMetadataCache() {
+ *   MetadataCache.disable();
+ * }
+ * </code></pre>
+ * <p>
+ * The metadata must be invalidated (with {@link #invalidate(Source)}, {@link #invalidate(DataSource)} or
+ * {@link #invalidateAll()}) when the structure of the database changes during the time to live (for example when a
+ * table is created).
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+public final class MetadataCache {
+
+  /**
+   * The cached metadata (the first element of the key is the {@link Source} or the {@link DataSource}).
+   */
+  private static final Map<List<Object>, CachedValue> VALUES = new HashMap<>();
+  /**
+   * Indicates if the cache is enabled.
+   */
+  private static boolean enabled;
+  /**
+   * The time to live of the metadata in milliseconds.
+   */
+  private static long timeToLive;
+
+  /**
+   * Private constructor.
+   */
+  private MetadataCache() {
+    // Empty
+  }
+
+  /**
+   * Enables the cache of the metadata.
+   *
+   * @param timeToLive The time in milliseconds during which the metadata are kept (must be greater than {@code 0}).
+   * @throws IllegalArgumentException If {@code timeToLive} is less than {@code 1}.
+   */
+  public static synchronized void enable(long timeToLive) {
+    if (timeToLive < 1) {
+      throw new IllegalArgumentException("timeToLive must be greater than 0");
+    }
+    MetadataCache.timeToLive = timeToLive;
+    enabled = true;
+  }
+
+  /**
+   * Disables the cache of the metadata and invalidates all the metadata.
+   */
+  public static synchronized void disable() {
+    enabled = false;
+    invalidateAll();
+  }
+
+  /**
+   * Returns if the cache of the metadata is enabled.
+   *
+   * @return {@code true} if the cache is enabled, {@code false} otherwise.
+   */
+  public static synchronized boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Invalidates all the metadata (the cache stays enabled).
+   */
+  public static synchronized void invalidateAll() {
+    VALUES.clear();
+  }
+
+  /**
+   * Invalidates the metadata of a {@link Source}.
+   *
+   * @param source The {@link Source}.
+   */
+  public static void invalidate(Source source) {
+    invalidateKey(source);
+  }
+
+  /**
+   * Invalidates the metadata of a {@link DataSource}.
+   *
+   * @param dataSource The {@link DataSource}.
+   */
+  public static void invalidate(DataSource dataSource) {
+    invalidateKey(dataSource);
+  }
+
+  /**
+   * Invalidates the metadata of a {@link Source} or a {@link DataSource}.
+   *
+   * @param sourceKey The {@link Source} or the {@link DataSource}.
+   */
+  private static synchronized void invalidateKey(Object sourceKey) {
+    Iterator<List<Object>> iterator = VALUES.keySet().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().get(0).equals(sourceKey)) {
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns the key of the way to connect of an element.
+   *
+   * @param element The element.
+   * @return The {@link Source} or the {@link DataSource} of the element.
+   */
+  private static Object getSourceKey(AbstractDbElement<?> element) {
+    if (element.getSource() != null) {
+      return element.getSource();
+    }
+    return element.getDataSource();
+  }
+
+  /**
+   * Returns the value in the cache if it is enabled and the value is not expired.
+   *
+   * @param key The key.
+   * @return The value or {@code null}.
+   */
+  private static synchronized Object get(List<Object> key) {
+    if (!enabled) {
+      return null;
+    }
+    CachedValue cachedValue = VALUES.get(key);
+    if (cachedValue == null) {
+      return null;
+    }
+    if (System.currentTimeMillis() - cachedValue.time > timeToLive) {
+      VALUES.remove(key);
+      return null;
+    }
+    return cachedValue.value;
+  }
+
+  /**
+   * Puts a value in the cache if it is enabled.
+   *
+   * @param key The key.
+   * @param value The value.
+   */
+  private static synchronized void put(List<Object> key, Object value) {
+    if (enabled) {
+      VALUES.put(key, new CachedValue(value, System.currentTimeMillis()));
+    }
+  }
+
+  /**
+   * Returns the catalog and the schema of the connection.
+   *
+   * @param element The element which uses the connection.
+   * @param connection The connection.
+   * @return An array with the catalog and the schema.
+   * @throws SQLException SQL Exception.
+   */
+  private static String[] getCatalogAndSchema(AbstractDbElement<?> element, Connection connection)
+      throws SQLException {
+    List<Object> key = Arrays.asList(getSourceKey(element), "CATALOG_AND_SCHEMA");
+    String[] catalogAndSchema = (String[]) get(key);
+    if (catalogAndSchema == null) {
+      catalogAndSchema = new String[] { AbstractDbElement.getCatalog(connection),
+          AbstractDbElement.getSchema(connection) };
+      put(key, catalogAndSchema);
+    }
+    return catalogAndSchema;
+  }
+
+  /**
+   * Returns the names of the tables of the database.
+   *
+   * @param element The element which uses the connection.
+   * @param connection The connection.
+   * @return The names of the tables (not modifiable).
+   * @throws SQLException SQL Exception.
+   */
+  @SuppressWarnings("unchecked")
+  static List<String> getTablesName(AbstractDbElement<?> element, Connection connection) throws SQLException {
+    String[] catalogAndSchema = getCatalogAndSchema(element, connection);
+    List<Object> key = Arrays.asList(getSourceKey(element), "TABLES", catalogAndSchema[0], catalogAndSchema[1]);
+    List<String> tablesName = (List<String>) get(key);
+    if (tablesName == null) {
+      List<String> list = new ArrayList<>();
+      DatabaseMetaData metaData = connection.getMetaData();
+      try (ResultSet resultSet = metaData.getTables(catalogAndSchema[0], catalogAndSchema[1], null,
+          new String[] { "TABLE" })) {
+        while (resultSet.next()) {
+          list.add(resultSet.getString("TABLE_NAME"));
+        }
+      }
+      tablesName = Collections.unmodifiableList(list);
+      put(key, tablesName);
+    }
+    return tablesName;
+  }
+
+  /**
+   * Returns the names of the primary keys of a table.
+   *
+   * @param element The element which uses the connection.
+   * @param connection The connection.
+   * @param tableName The name of the table.
+   * @return The names of the primary keys (not modifiable).
+   * @throws SQLException SQL Exception.
+   */
+  @SuppressWarnings("unchecked")
+  static List<String> getPksName(AbstractDbElement<?> element, Connection connection, String tableName)
+      throws SQLException {
+    String[] catalogAndSchema = getCatalogAndSchema(element, connection);
+    List<Object> key = Arrays.asList(getSourceKey(element), "PRIMARY_KEYS", catalogAndSchema[0], catalogAndSchema[1],
+        tableName);
+    List<String> pksName = (List<String>) get(key);
+    if (pksName == null) {
+      List<String> list = new ArrayList<>();
+      DatabaseMetaData metaData = connection.getMetaData();
+      try (ResultSet resultSet = metaData.getPrimaryKeys(catalogAndSchema[0], catalogAndSchema[1], tableName)) {
+        while (resultSet.next()) {
+          list.add(resultSet.getString("COLUMN_NAME"));
+        }
+      }
+      pksName = Collections.unmodifiableList(list);
+      put(key, pksName);
+    }
+    return pksName;
+  }
+
+  /**
+   * A value in the cache.
+   *
+   * @author Régis Pouiller
+   *
+   */
+  private static final class CachedValue {
+
+    /**
+     * The value.
+     */
+    private final Object value;
+    /**
+     * The time when the value was read from the database.
+     */
+    private final long time;
+
+    /**
+     * Constructor.
+     *
+     * @param value The value.
+     * @param time The time when the value was read from the database.
+     */
+    private CachedValue(Object value, long time) {
+      this.value = value;
+      this.time = time;
+    }
+  }
+}
@@ -0,0 +1,164 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Stable merge sort of a list executed in a {@link ForkJoinPool}.
+ * <p>
+ * Each sort uses its own pool (with the parallelism in parameter) which is shut down at the end of the sort : no thread
+ * is kept between the loadings.
+ * </p>
+ * <p>
+ * The parts of the list are sorted in parallel with {@link Arrays#sort(Object[], int, int, Comparator)} and then
+ * merged. Like {@link java.util.Collections#sort(List, Comparator)}, the sort is stable : the result is the same as
+ * with a sort on one thread.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+final class ParallelMergeSort {
+
+  /**
+   * The size under which a part of the list is sorted on one thread.
+   */
+  private static final int SEQUENTIAL_THRESHOLD = 8192;
+
+  /**
+   * Private constructor.
+   */
+  private ParallelMergeSort() {
+    // Empty
+  }
+
+  /**
+   * Sorts the list.
+   * 
+   * @param list The list to sort.
+   * @param comparator The comparator (which must be usable from several threads).
+   * @param parallelism The number of threads used to sort.
+   * @param <T> The class of the elements.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> void sort(List<T> list, Comparator<? super T> comparator, int parallelism) {
+    Object[] array = list.toArray();
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      pool.invoke(new SortTask(array, new Object[array.length], 0, array.length, (Comparator<Object>) comparator));
+    } finally {
+      pool.shutdown();
+    }
+    ListIterator<T> iterator = list.listIterator();
+    for (Object element : array) {
+      iterator.next();
+      iterator.set((T) element);
+    }
+  }
+
+  /**
+   * Task which sorts a part of an array.
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  private static final class SortTask extends RecursiveAction {
+
+    /**
+     * Serial version UID of the class.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The array to sort.
+     */
+    private final Object[] array;
+    /**
+     * The buffer used to merge (same length as the array).
+     */
+    private final Object[] buffer;
+    /**
+     * The index of the first element to sort (inclusive).
+     */
+    private final int from;
+    /**
+     * The index of the last element to sort (exclusive).
+     */
+    private final int to;
+    /**
+     * The comparator.
+     */
+    private final Comparator<Object> comparator;
+
+    /**
+     * Constructor.
+     * 
+     * @param array The array to sort.
+     * @param buffer The buffer used to merge.
+     * @param from The index of the first element to sort (inclusive).
+     * @param to The index of the last element to sort (exclusive).
+     * @param comparator The comparator.
+     */
+    private SortTask(Object[] array, Object[] buffer, int from, int to, Comparator<Object> comparator) {
+      this.array = array;
+      this.buffer = buffer;
+      this.from = from;
+      this.to = to;
+      this.comparator = comparator;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void compute() {
+      if (to - from <= SEQUENTIAL_THRESHOLD) {
+        Arrays.sort(array, from, to, comparator);
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new SortTask(array, buffer, from, middle, comparator),
+          new SortTask(array, buffer, middle, to, comparator));
+      if (comparator.compare(array[middle - 1], array[middle]) <= 0) {
+        // The two parts are already in order
+        return;
+      }
+      merge(middle);
+    }
+
+    /**
+     * Merges the two sorted parts of the array (an element of the first part is before an equal element of the second
+     * part to keep the sort stable).
+     * 
+     * @param middle The index of the first element of the second part.
+     */
+    private void merge(int middle) {
+      System.arraycopy(array, from, buffer, from, middle - from);
+      int left = from;
+      int right = middle;
+      int index = from;
+      while (left < middle && right < to) {
+        if (comparator.compare(buffer[left], array[right]) <= 0) {
+          array[index++] = buffer[left++];
+        } else {
+          array[index++] = array[right++];
+        }
+      }
+      System.arraycopy(buffer, left, array, index, middle - left);
+    }
+  }
+}
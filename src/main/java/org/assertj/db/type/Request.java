@@ -183,6 +183,19 @@ public class Request extends AbstractDbData<Request> {
     controlIfAllThePksNameExistInTheColumns();
   }
 
+  /**
+   * Sets the parameters of the SQL request on the {@link PreparedStatement}.
+   * 
+   * @param statement The {@link PreparedStatement}.
+   * @throws SQLException SQL Exception.
+   */
+  @Override
+  void setParameters(PreparedStatement statement) throws SQLException {
+    for (int i = 0; i < parameters.length; i++) {
+      statement.setObject(i + 1, parameters[i]);
+    }
+  }
+
   /**
    * Specific implementation of the loading for a {@code Request}.
    * 
@@ -198,9 +211,8 @@ public class Request extends AbstractDbData<Request> {
     }
 
     try (PreparedStatement statement = connection.prepareStatement(request)) {
-      for (int i = 0; i < parameters.length; i++) {
-        statement.setObject(i + 1, parameters[i]);
-      }
+      applyStatementOptions(statement);
+      setParameters(statement);
       try (ResultSet resultSet = statement.executeQuery()) {
         collectColumnsNameFromResultSet(resultSet);
         collectRowsFromResultSet(resultSet);
@@ -14,7 +14,8 @@ package org.assertj.db.type;
 
 import org.assertj.db.util.Values;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -45,6 +46,19 @@ public class Row {
    * The list of value.
    */
   private final List<Object> valuesList;
+  /**
+   * The indexes of the primary keys in the columns (shared by the rows of a {@link AbstractDbData}, computed when
+   * needed if {@code null}).
+   */
+  private int[] pksIndexes;
+  /**
+   * The list of the primary keys value (computed once).
+   */
+  private List<Object> pksValueList;
+  /**
+   * The key built with the primary keys values (computed once).
+   */
+  private ValuesKey pksKey;
 
   /**
    * Constructor of the row with visibility in the package.
@@ -54,11 +68,42 @@ public class Row {
    * @param valuesList The values in the row.
    */
   Row(List<String> pksNameList, List<String> columnsNameList, List<Object> valuesList) {
+    this(pksNameList, null, columnsNameList, valuesList);
+  }
+
+  /**
+   * Constructor of the row with visibility in the package.
+   * 
+   * @param pksNameList The list of the primary keys name.
+   * @param pksIndexes The indexes of the primary keys in the columns ({@code null} to compute them when needed).
+   * @param columnsNameList The list of the columns name.
+   * @param valuesList The values in the row.
+   */
+  Row(List<String> pksNameList, int[] pksIndexes, List<String> columnsNameList, List<Object> valuesList) {
     this.pksNameList = pksNameList;
+    this.pksIndexes = pksIndexes;
     this.columnsNameList = columnsNameList;
     this.valuesList = valuesList;
   }
 
+  /**
+   * Returns the indexes of the primary keys in the columns.
+   * 
+   * @param pksNameList The list of the primary keys name.
+   * @param columnsNameList The list of the columns name.
+   * @return The indexes of the primary keys (empty if the list of the primary keys name is {@code null}).
+   */
+  static int[] getPksIndexes(List<String> pksNameList, List<String> columnsNameList) {
+    if (pksNameList == null) {
+      return new int[0];
+    }
+    int[] pksIndexes = new int[pksNameList.size()];
+    for (int i = 0; i < pksIndexes.length; i++) {
+      pksIndexes[i] = columnsNameList.indexOf(pksNameList.get(i));
+    }
+    return pksIndexes;
+  }
+
   /**
    * Return the list of the primary keys name.
    * 
@@ -70,26 +115,58 @@ public class Row {
 
   /**
    * Return the list of the primary keys value.
+   * <p>
+   * The list is computed once and is not modifiable.
+   * </p>
    *
    * @return The list of the primary keys value.
    */
   public List<Object> getPksValueList() {
-    List<Object> pksValueList = new ArrayList<>();
-    for (String name : pksNameList) {
-      int index = columnsNameList.indexOf(name);
-      Object value = valuesList.get(index);
-      pksValueList.add(value);
+    if (pksValueList == null) {
+      if (pksIndexes == null) {
+        pksIndexes = getPksIndexes(pksNameList, columnsNameList);
+      }
+      Object[] pksValues = new Object[pksIndexes.length];
+      for (int i = 0; i < pksValues.length; i++) {
+        pksValues[i] = valuesList.get(pksIndexes[i]);
+      }
+      pksValueList = Collections.unmodifiableList(Arrays.asList(pksValues));
     }
     return pksValueList;
   }
 
+  /**
+   * Returns the key built with the primary keys values (computed once).
+   * 
+   * @return The key.
+   */
+  ValuesKey getPksKey() {
+    if (pksKey == null) {
+      pksKey = new ValuesKey(getPksValueList().toArray());
+    }
+    return pksKey;
+  }
+
   /**
    * Sets the list of the primary keys name.
    *
    * @param pksNameList The list of the primary keys name.
    */
   void setPksNameList(List<String> pksNameList) {
+    setPksNameList(pksNameList, null);
+  }
+
+  /**
+   * Sets the list of the primary keys name and the indexes of these primary keys in the columns.
+   *
+   * @param pksNameList The list of the primary keys name.
+   * @param pksIndexes The indexes of the primary keys in the columns ({@code null} to compute them when needed).
+   */
+  void setPksNameList(List<String> pksNameList, int[] pksIndexes) {
     this.pksNameList = pksNameList;
+    this.pksIndexes = pksIndexes;
+    pksValueList = null;
+    pksKey = null;
   }
 
   /**
@@ -112,19 +189,14 @@ public class Row {
 
   /**
    * Returns the primary keys value.
+   * <p>
+   * The array is a copy of {@link #getPksValueList()}.
+   * </p>
    * 
    * @return The primary keys value.
    */
   public Object[] getPksValues() {
-    List<Object> pksValuesList = new ArrayList<>();
-    if (pksNameList != null) {
-      for (String pkName : pksNameList) {
-        int index = columnsNameList.indexOf(pkName);
-        Object value = valuesList.get(index);
-        pksValuesList.add(value);
-      }
-    }
-    return pksValuesList.toArray(new Object[pksValuesList.size()]);
+    return getPksValueList().toArray();
   }
 
   /**
@@ -134,10 +206,10 @@ public class Row {
    * @return If the values of the primary keys are equal.
    */
   public boolean hasPksValuesEqualTo(Object[] pksValues) {
-    Object[] pksValues1 = getPksValues();
-    if (pksValues1.length != 0 && pksValues1.length == pksValues.length) {
-      for (int index = 0; index < pksValues1.length; index++) {
-        if (!Values.areEqual(pksValues1[index], pksValues[index])) {
+    List<Object> pksValueList = getPksValueList();
+    if (pksValueList.size() != 0 && pksValueList.size() == pksValues.length) {
+      for (int index = 0; index < pksValues.length; index++) {
+        if (!Values.areEqual(pksValueList.get(index), pksValues[index])) {
           return false;
         }
       }
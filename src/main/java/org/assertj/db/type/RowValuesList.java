@@ -0,0 +1,78 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * List of the values of a {@link Row} which is a view on the storages of the columns.
+ * <p>
+ * The list is not modifiable.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+final class RowValuesList extends AbstractList<Object> implements RandomAccess {
+
+  /**
+   * The storages of the columns.
+   */
+  private final ColumnStorage[] columnsStorage;
+  /**
+   * The index of the row in the storages.
+   */
+  private final int rowIndex;
+
+  /**
+   * Constructor.
+   * 
+   * @param columnsStorage The storages of the columns.
+   * @param rowIndex The index of the row in the storages.
+   */
+  RowValuesList(ColumnStorage[] columnsStorage, int rowIndex) {
+    this.columnsStorage = columnsStorage;
+    this.rowIndex = rowIndex;
+  }
+
+  /**
+   * Returns the storages of the columns.
+   * 
+   * @return The storages of the columns.
+   */
+  ColumnStorage[] getColumnsStorage() {
+    return columnsStorage;
+  }
+
+  /**
+   * Returns the index of the row in the storages.
+   * 
+   * @return The index of the row in the storages.
+   */
+  int getRowIndex() {
+    return rowIndex;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object get(int index) {
+    return columnsStorage[index].get(rowIndex);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return columnsStorage.length;
+  }
+}
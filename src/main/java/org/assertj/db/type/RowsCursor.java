@@ -0,0 +1,105 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Forward-only cursor on the rows of a {@link AbstractDbData} read from the database.
+ * <p>
+ * The values are read like during the loading of the rows, but without keeping them in memory.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+final class RowsCursor implements AutoCloseable {
+
+  /**
+   * The connection used by the cursor.
+   */
+  private final Connection connection;
+  /**
+   * The {@link ResultSet}.
+   */
+  private final ResultSet resultSet;
+  /**
+   * The indexes in the {@link ResultSet} of the columns.
+   */
+  private final int[] columnsIndex;
+  /**
+   * The SQL types of the columns.
+   */
+  private final int[] columnsType;
+
+  /**
+   * Constructor.
+   * 
+   * @param connection The connection used by the cursor (closed with the cursor).
+   * @param resultSet The {@link ResultSet} (closed with the cursor).
+   * @param columnsNameList The list of the columns name.
+   * @throws SQLException SQL Exception.
+   */
+  RowsCursor(Connection connection, ResultSet resultSet, List<String> columnsNameList) throws SQLException {
+    this.connection = connection;
+    this.resultSet = resultSet;
+    columnsIndex = AbstractDbData.getColumnsIndex(resultSet.getMetaData(), columnsNameList);
+    columnsType = AbstractDbData.getColumnsType(resultSet.getMetaData(), columnsIndex);
+  }
+
+  /**
+   * Moves the cursor to the next row.
+   * 
+   * @return {@code true} if there is a next row, {@code false} otherwise.
+   * @throws SQLException SQL Exception.
+   */
+  boolean next() throws SQLException {
+    return resultSet.next();
+  }
+
+  /**
+   * Returns the value of the column at the index in the current row.
+   * 
+   * @param index The index of the column (in the list of the columns name).
+   * @return The value.
+   * @throws SQLException SQL Exception.
+   */
+  Object getValue(int index) throws SQLException {
+    return AbstractDbData.getValue(resultSet, columnsIndex[index], columnsType[index]);
+  }
+
+  /**
+   * Closes the {@link ResultSet}, its {@link Statement} and the {@link Connection}.
+   * 
+   * @throws SQLException SQL Exception.
+   */
+  @Override
+  public void close() throws SQLException {
+    try {
+      Statement statement = resultSet.getStatement();
+      try {
+        resultSet.close();
+      } finally {
+        if (statement != null) {
+          statement.close();
+        }
+      }
+    } finally {
+      connection.close();
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Temporary file in which the values of the rows are stored instead of the memory.
+ * <p>
+ * The rows are written one after the other with the compact binary encoding of {@link ValuesEncoding} (the Java
+ * serialization is allowed because the file is only read by its writer), then the file is only read : the values of
+ * a row are read with a positional read on a {@link FileChannel} (which can be done by several threads at the same
+ * time). Only the position of each row in the file is kept in memory.
+ * </p>
+ * <p>
+ * The file is deleted as soon as it is opened for reading (the opened channel keeps it readable) and when it is closed
+ * (if the system does not allow to delete an opened file). The file must be closed by its owner.
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+final class RowsFile {
+
+  /**
+   * The file.
+   */
+  private final File file;
+  /**
+   * The stream used to write the rows ({@code null} when the writing is completed).
+   */
+  private DataOutputStream outputStream;
+  /**
+   * The channel used to read the rows ({@code null} while the rows are written).
+   */
+  private FileChannel channel;
+  /**
+   * The position of each row in the file (the position after the last row is at the index of the number of rows).
+   */
+  private long[] positions = new long[16];
+  /**
+   * The number of rows.
+   */
+  private int numberOfRows;
+  /**
+   * Buffer used to encode a row.
+   */
+  private final ByteArrayOutputStream rowBuffer = new ByteArrayOutputStream();
+  /**
+   * Indicates if the file is closed.
+   */
+  private boolean closed;
+
+  /**
+   * Constructor : creates the temporary file.
+   *
+   * @param directory The directory of the file.
+   * @throws IOException IO Exception.
+   */
+  RowsFile(File directory) throws IOException {
+    file = File.createTempFile("assertj-db-", ".rows", directory);
+    outputStream = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+  }
+
+  /**
+   * Returns the number of rows.
+   *
+   * @return The number of rows.
+   */
+  int size() {
+    return numberOfRows;
+  }
+
+  /**
+   * Returns if the file is closed.
+   *
+   * @return {@code true} if the file is closed, {@code false} otherwise.
+   */
+  boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Adds a row at the end of the file.
+   *
+   * @param values The values of the row.
+   * @throws IOException IO Exception.
+   * @throws IllegalStateException If the writing is completed.
+   */
+  void add(Object[] values) throws IOException {
+    if (outputStream == null) {
+      throw new IllegalStateException("The writing is completed");
+    }
+    rowBuffer.reset();
+    DataOutputStream rowOutputStream = new DataOutputStream(rowBuffer);
+    for (Object value : values) {
+      ValuesEncoding.writeValue(rowOutputStream, value, true);
+    }
+    rowBuffer.writeTo(outputStream);
+
+    if (numberOfRows + 1 == positions.length) {
+      positions = Arrays.copyOf(positions, positions.length * 2);
+    }
+    positions[numberOfRows + 1] = positions[numberOfRows] + rowBuffer.size();
+    numberOfRows++;
+  }
+
+  /**
+   * Completes the writing : the file is opened for reading.
+   *
+   * @throws IOException IO Exception.
+   */
+  @SuppressWarnings("resource")
+  void complete() throws IOException {
+    outputStream.close();
+    outputStream = null;
+    channel = new RandomAccessFile(file, "r").getChannel();
+    // The file stays readable with the opened channel on most systems
+    file.delete();
+  }
+
+  /**
+   * Closes the file if it is not already closed.
+   *
+   * @throws IOException IO Exception.
+   */
+  void close() throws IOException {
+    closed = true;
+    if (outputStream != null) {
+      outputStream.close();
+      outputStream = null;
+    }
+    if (channel != null) {
+      channel.close();
+      channel = null;
+    }
+    file.delete();
+  }
+
+  /**
+   * Reads the values of a row.
+   *
+   * @param rowIndex The index of the row.
+   * @param numberOfValues The number of values in the row.
+   * @return The values.
+   * @throws IOException IO Exception.
+   * @throws IllegalStateException If the writing is not completed or if the file is closed.
+   */
+  Object[] read(int rowIndex, int numberOfValues) throws IOException {
+    if (closed) {
+      throw new IllegalStateException("The file is closed");
+    }
+    if (channel == null) {
+      throw new IllegalStateException("The writing is not completed");
+    }
+    long position = positions[rowIndex];
+    ByteBuffer buffer = ByteBuffer.allocate((int) (positions[rowIndex + 1] - position));
+    while (buffer.hasRemaining()) {
+      int read = channel.read(buffer, position + buffer.position());
+      if (read < 0) {
+        throw new EOFException();
+      }
+    }
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.array()));
+    Object[] values = new Object[numberOfValues];
+    for (int index = 0; index < numberOfValues; index++) {
+      values[index] = ValuesEncoding.readValue(input, true);
+    }
+    return values;
+  }
+}
@@ -0,0 +1,237 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * File in which snapshots of data ({@link Table} or {@link Request}) are saved to be reused later (for example as the
+ * start point of a {@link Changes}).
+ * <p>
+ * The file is compressed with GZIP. It begins with a magic number and the version of the format, then for each data :
+ * the type of data, the name of the table (or the SQL request and its parameters), the columns name, the primary keys name, the SQL types
+ * of the columns and the rows (the values are encoded with {@link ValuesEncoding}, without the Java serialization :
+ * the data with values of other classes can not be written).
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+final class SnapshotFile {
+
+  /**
+   * The magic number at the beginning of the file ("ADBS").
+   */
+  private static final int MAGIC_NUMBER = 0x41444253;
+  /**
+   * The version of the format.
+   */
+  private static final int VERSION = 2;
+
+  /**
+   * Private constructor.
+   */
+  private SnapshotFile() {
+    // Empty
+  }
+
+  /**
+   * Writes the data in a file (the data are loaded if they are not).
+   *
+   * @param file The file.
+   * @param dataList The list of the data.
+   * @throws IOException IO Exception.
+   */
+  static void write(File file, List<? extends AbstractDbData<?>> dataList) throws IOException {
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(
+        new FileOutputStream(file))))) {
+
+      output.writeInt(MAGIC_NUMBER);
+      output.writeInt(VERSION);
+      output.writeInt(dataList.size());
+      for (AbstractDbData<?> data : dataList) {
+        List<Row> rowsList = data.getRowsList();
+        output.writeUTF(data.getDataType().name());
+        if (data instanceof Table) {
+          ValuesEncoding.writeValue(output, ((Table) data).getName(), false);
+        } else {
+          ValuesEncoding.writeValue(output, data.getRequest(), false);
+          writeParameters(output, ((Request) data).getParameters());
+        }
+        writeStrings(output, data.getColumnsNameList());
+        writeStrings(output, data.getPksNameList());
+        int[] columnsType = data.getColumnsType();
+        output.writeBoolean(columnsType != null);
+        if (columnsType != null) {
+          for (int columnType : columnsType) {
+            output.writeInt(columnType);
+          }
+        }
+        output.writeInt(rowsList.size());
+        for (Row row : rowsList) {
+          for (Object value : row.getValuesList()) {
+            ValuesEncoding.writeValue(output, value, false);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads the data in a file.
+   *
+   * @param file The file.
+   * @return The list of the data (loaded with the rows of the file and without way to connect to the database).
+   * @throws IOException IO Exception (for example if the file is not a snapshot file or if the version of the format is
+   *           not supported).
+   */
+  static List<AbstractDbData<?>> read(File file) throws IOException {
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(
+        new FileInputStream(file))))) {
+
+      if (input.readInt() != MAGIC_NUMBER) {
+        throw new IOException(file + " is not a snapshot file");
+      }
+      int version = input.readInt();
+      if (version != VERSION) {
+        throw new IOException("The version " + version + " of the snapshot file " + file + " is not supported");
+      }
+      int numberOfData = input.readInt();
+      List<AbstractDbData<?>> dataList = new ArrayList<>(numberOfData);
+      for (int index = 0; index < numberOfData; index++) {
+        dataList.add(readData(input));
+      }
+      return dataList;
+    }
+  }
+
+  /**
+   * Reads a data.
+   *
+   * @param input The input.
+   * @return The data.
+   * @throws IOException IO Exception.
+   */
+  private static AbstractDbData<?> readData(DataInputStream input) throws IOException {
+    DataType dataType = DataType.valueOf(input.readUTF());
+    String name = (String) ValuesEncoding.readValue(input, false);
+    AbstractDbData<?> data;
+    if (dataType == DataType.TABLE) {
+      data = new Table().setName(name);
+    } else {
+      data = new Request().setRequest(name).setParameters(readParameters(input));
+    }
+    List<String> columnsNameList = readStrings(input);
+    List<String> pksNameList = readStrings(input);
+    int[] columnsType = null;
+    if (input.readBoolean()) {
+      columnsType = new int[columnsNameList.size()];
+      for (int index = 0; index < columnsType.length; index++) {
+        columnsType[index] = input.readInt();
+      }
+    }
+
+    int numberOfRows = input.readInt();
+    ColumnStorage.Builder[] builders = new ColumnStorage.Builder[columnsNameList.size()];
+    for (int i = 0; i < builders.length; i++) {
+      builders[i] = new ColumnStorage.Builder();
+    }
+    for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+      for (ColumnStorage.Builder builder : builders) {
+        builder.add(ValuesEncoding.readValue(input, false));
+      }
+    }
+    ColumnStorage[] columnsStorage = new ColumnStorage[builders.length];
+    for (int i = 0; i < builders.length; i++) {
+      columnsStorage[i] = builders[i].build();
+    }
+    int[] pksIndexes = Row.getPksIndexes(pksNameList, columnsNameList);
+    List<Row> rowsList = new ArrayList<>(numberOfRows);
+    for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+      rowsList.add(new Row(pksNameList, pksIndexes, columnsNameList, new RowValuesList(columnsStorage, rowIndex)));
+    }
+    data.setLoadedRows(columnsNameList, pksNameList, columnsType, rowsList);
+    return data;
+  }
+
+  /**
+   * Writes the parameters of a request.
+   *
+   * @param output The output.
+   * @param parameters The parameters (can be {@code null}).
+   * @throws IOException IO Exception.
+   */
+  private static void writeParameters(DataOutputStream output, Object[] parameters) throws IOException {
+    if (parameters == null) {
+      output.writeInt(-1);
+      return;
+    }
+    output.writeInt(parameters.length);
+    for (Object parameter : parameters) {
+      ValuesEncoding.writeValue(output, parameter, false);
+    }
+  }
+
+  /**
+   * Reads the parameters of a request.
+   *
+   * @param input The input.
+   * @return The parameters (can be {@code null}).
+   * @throws IOException IO Exception.
+   */
+  private static Object[] readParameters(DataInputStream input) throws IOException {
+    int size = input.readInt();
+    if (size < 0) {
+      return null;
+    }
+    Object[] parameters = new Object[size];
+    for (int index = 0; index < size; index++) {
+      parameters[index] = ValuesEncoding.readValue(input, false);
+    }
+    return parameters;
+  }
+
+  /**
+   * Writes a list of {@code String}.
+   *
+   * @param output The output.
+   * @param stringsList The list.
+   * @throws IOException IO Exception.
+   */
+  private static void writeStrings(DataOutputStream output, List<String> stringsList) throws IOException {
+    output.writeInt(stringsList.size());
+    for (String string : stringsList) {
+      output.writeUTF(string);
+    }
+  }
+
+  /**
+   * Reads a list of {@code String}.
+   *
+   * @param input The input.
+   * @return The list.
+   * @throws IOException IO Exception.
+   */
+  private static List<String> readStrings(DataInputStream input) throws IOException {
+    int size = input.readInt();
+    List<String> stringsList = new ArrayList<>(size);
+    for (int index = 0; index < size; index++) {
+      stringsList.add(input.readUTF());
+    }
+    return stringsList;
+  }
+}
@@ -38,6 +38,10 @@ public class Source {
    * Password to connect.
    */
   private final String password;
+  /**
+   * Options of the loading of the elements using this source.
+   */
+  private final LoadingOptions loadingOptions;
 
   /**
    * Constructor with the informations.
@@ -47,9 +51,22 @@ public class Source {
    * @param password Password to connect
    */
   public Source(String url, String user, String password) {
+    this(url, user, password, null);
+  }
+
+  /**
+   * Constructor with the informations and the options of the loading.
+   * 
+   * @param url URL to the database
+   * @param user User to connect
+   * @param password Password to connect
+   * @param loadingOptions Options of the loading of the elements using this source ({@code null} for no options)
+   */
+  public Source(String url, String user, String password, LoadingOptions loadingOptions) {
     this.url = url;
     this.user = user;
     this.password = password;
+    this.loadingOptions = loadingOptions;
   }
 
   /**
@@ -78,4 +95,50 @@ public class Source {
   public String getPassword() {
     return password;
   }
+
+  /**
+   * Returns the options of the loading of the elements using this source.
+   * 
+   * @return The options of the loading ({@code null} for no options)
+   */
+  public LoadingOptions getLoadingOptions() {
+    return loadingOptions;
+  }
+
+  /**
+   * Returns if the source is equal to another source : the url, user and password are equal (the options of the
+   * loading are not compared because they do not change the connection).
+   * 
+   * @param obj The other object.
+   * @return {@code true} if the sources are equal, {@code false} otherwise.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (obj instanceof Source) {
+      Source source = (Source) obj;
+      return areEqual(url, source.url) && areEqual(user, source.user) && areEqual(password, source.password);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + (url == null ? 0 : url.hashCode());
+    result = prime * result + (user == null ? 0 : user.hashCode());
+    result = prime * result + (password == null ? 0 : password.hashCode());
+    return result;
+  }
+
+  /**
+   * Returns if two {@code String} are equal (they can be {@code null}).
+   * 
+   * @param string1 The first {@code String}.
+   * @param string2 The second {@code String}.
+   * @return {@code true} if the two {@code String} are equal, {@code false} otherwise.
+   */
+  private static boolean areEqual(String string1, String string2) {
+    return string1 == null ? string2 == null : string1.equals(string2);
+  }
 }
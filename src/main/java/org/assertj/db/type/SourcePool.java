@@ -0,0 +1,437 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A pool of connections for the elements which use a {@link Source} to connect to the database.
+ * <p>
+ * By default, the elements which use a {@link Source} get a new connection from the {@link DriverManager} each time the
+ * data are loaded. When the pool is enabled, the connections are kept by {@link Source} (two sources with the same url,
+ * user and password share the same connections) and reused.
+ * </p>
+ * <p>Example of use in a test :</p>
+ * <pre><code class='java'>
+ * &#64;BeforeClass
+ * public static void enablePool() {
+ *   SourcePool.enable(5, 60000);
+ * }
+ *
+ * &#64;AfterClass
+ * public static void disablePool() {
+ *   SourcePool.disable();
+ * }
+ * </code></pre>
+ * <p>
+ * A connection which is not used since more than the idle timeout is closed (the idle connections are checked when a
+ * connection is borrowed or given back). A connection is validated before being reused. When a connection is given
+ * back, it is rolled back if it is not in auto-commit mode and its read-only mode, its transaction isolation and its
+ * catalog are reset to the values it had when it was opened.
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+public final class SourcePool {
+
+  /**
+   * Timeout in seconds of the validation of a connection.
+   */
+  private static final int VALIDATION_TIMEOUT = 1;
+  /**
+   * The pools of connections by source.
+   */
+  private static final Map<Source, SourcePool> POOLS = new HashMap<>();
+  /**
+   * Indicates if the pool is enabled.
+   */
+  private static boolean enabled;
+  /**
+   * The maximum number of idle connections kept by source.
+   */
+  private static int maxSize;
+  /**
+   * The idle timeout in milliseconds.
+   */
+  private static long idleTimeout;
+
+  /**
+   * The source of the connections.
+   */
+  private final Source source;
+  /**
+   * The idle connections (the most recently used first).
+   */
+  private final Deque<IdleConnection> idleConnections = new ArrayDeque<>();
+
+  /**
+   * Constructor.
+   *
+   * @param source The source of the connections.
+   */
+  private SourcePool(Source source) {
+    this.source = source;
+  }
+
+  /**
+   * Enables the pool of connections.
+   *
+   * @param maxSize The maximum number of idle connections kept by {@link Source} (must be greater than {@code 0}).
+   *          When more connections are used at the same time, the connections given back over this size are closed.
+   * @param idleTimeout The time in milliseconds after which an idle connection is closed (must be greater than
+   *          {@code 0}).
+   * @throws IllegalArgumentException If {@code maxSize} or {@code idleTimeout} is less than {@code 1}.
+   */
+  public static synchronized void enable(int maxSize, long idleTimeout) {
+    if (maxSize < 1) {
+      throw new IllegalArgumentException("maxSize must be greater than 0");
+    }
+    if (idleTimeout < 1) {
+      throw new IllegalArgumentException("idleTimeout must be greater than 0");
+    }
+    SourcePool.maxSize = maxSize;
+    SourcePool.idleTimeout = idleTimeout;
+    enabled = true;
+  }
+
+  /**
+   * Disables the pool of connections and closes all the idle connections.
+   * <p>
+   * The connections which are used during the call are closed when they are given back.
+   * </p>
+   */
+  public static synchronized void disable() {
+    enabled = false;
+    closeAll();
+  }
+
+  /**
+   * Returns if the pool of connections is enabled.
+   *
+   * @return {@code true} if the pool is enabled, {@code false} otherwise.
+   */
+  public static synchronized boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Closes all the idle connections of the pool (the pool stays enabled).
+   */
+  public static synchronized void closeAll() {
+    for (SourcePool pool : POOLS.values()) {
+      for (IdleConnection idleConnection : pool.idleConnections) {
+        closeQuietly(idleConnection.connection);
+      }
+      pool.idleConnections.clear();
+    }
+    POOLS.clear();
+  }
+
+  /**
+   * Returns a {@link Connection} to the database of the {@link Source}.
+   * <p>
+   * If the pool is enabled, an idle connection is reused if there is a valid one. The {@link Connection#close()} method
+   * of the returned connection gives it back to the pool.
+   * </p>
+   *
+   * @param source The {@link Source}.
+   * @return A {@link Connection}.
+   * @throws SQLException SQL Exception.
+   */
+  static Connection getConnection(Source source) throws SQLException {
+    SourcePool pool;
+    synchronized (SourcePool.class) {
+      if (!enabled) {
+        return DriverManager.getConnection(source.getUrl(), source.getUser(), source.getPassword());
+      }
+      pool = POOLS.get(source);
+      if (pool == null) {
+        pool = new SourcePool(source);
+        POOLS.put(source, pool);
+      }
+    }
+    return pool.borrow();
+  }
+
+  /**
+   * Borrows a connection from this pool (or opens a new one).
+   *
+   * @return A connection which is given back to the pool when it is closed.
+   * @throws SQLException SQL Exception.
+   */
+  private Connection borrow() throws SQLException {
+    Connection connection = null;
+    ConnectionState initialState = null;
+    while (connection == null) {
+      IdleConnection idleConnection;
+      synchronized (SourcePool.class) {
+        evictIdleConnections();
+        idleConnection = idleConnections.pollFirst();
+      }
+      if (idleConnection == null) {
+        Connection newConnection = DriverManager.getConnection(source.getUrl(), source.getUser(), source.getPassword());
+        try {
+          initialState = new ConnectionState(newConnection);
+        } catch (SQLException e) {
+          closeQuietly(newConnection);
+          throw e;
+        }
+        connection = newConnection;
+      } else if (isValid(idleConnection.connection)) {
+        connection = idleConnection.connection;
+        initialState = idleConnection.initialState;
+      } else {
+        closeQuietly(idleConnection.connection);
+      }
+    }
+    return (Connection) Proxy.newProxyInstance(SourcePool.class.getClassLoader(), new Class<?>[] { Connection.class },
+        new PooledConnectionHandler(this, connection, initialState));
+  }
+
+  /**
+   * Gives back a connection to this pool (or closes it if the pool is disabled or full).
+   *
+   * @param connection The connection.
+   * @param initialState The state of the connection when it was opened.
+   */
+  private void release(Connection connection, ConnectionState initialState) {
+    try {
+      if (connection.isClosed()) {
+        return;
+      }
+      if (!connection.getAutoCommit()) {
+        connection.rollback();
+        connection.setAutoCommit(true);
+      }
+      initialState.restore(connection);
+    } catch (SQLException e) {
+      closeQuietly(connection);
+      return;
+    }
+
+    synchronized (SourcePool.class) {
+      evictIdleConnections();
+      if (enabled && POOLS.get(source) == this && idleConnections.size() < maxSize) {
+        idleConnections.addFirst(new IdleConnection(connection, initialState, System.currentTimeMillis()));
+        return;
+      }
+    }
+    closeQuietly(connection);
+  }
+
+  /**
+   * Closes the connections which are idle since more than the idle timeout (must be called in a synchronized block).
+   */
+  private void evictIdleConnections() {
+    long now = System.currentTimeMillis();
+    Iterator<IdleConnection> iterator = idleConnections.iterator();
+    while (iterator.hasNext()) {
+      IdleConnection idleConnection = iterator.next();
+      if (now - idleConnection.releaseTime > idleTimeout) {
+        closeQuietly(idleConnection.connection);
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns if the connection is still valid.
+   *
+   * @param connection The connection.
+   * @return {@code true} if the connection is valid, {@code false} otherwise.
+   */
+  private static boolean isValid(Connection connection) {
+    try {
+      return connection.isValid(VALIDATION_TIMEOUT);
+    } catch (SQLException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Closes a connection without throwing exception.
+   *
+   * @param connection The connection.
+   */
+  private static void closeQuietly(Connection connection) {
+    try {
+      connection.close();
+    } catch (SQLException e) {
+      // Nothing to do : the connection is not used anymore
+    }
+  }
+
+  /**
+   * The state of a connection which can be changed by a borrower (read-only mode, transaction isolation and catalog).
+   */
+  private static final class ConnectionState {
+
+    /**
+     * Indicates if the connection is in read-only mode.
+     */
+    private final boolean readOnly;
+    /**
+     * The transaction isolation level.
+     */
+    private final int transactionIsolation;
+    /**
+     * The catalog (can be {@code null}).
+     */
+    private final String catalog;
+
+    /**
+     * Constructor.
+     *
+     * @param connection The connection from which the state is read.
+     * @throws SQLException SQL Exception.
+     */
+    private ConnectionState(Connection connection) throws SQLException {
+      readOnly = connection.isReadOnly();
+      transactionIsolation = connection.getTransactionIsolation();
+      catalog = connection.getCatalog();
+    }
+
+    /**
+     * Restores this state on the connection (if it was changed).
+     *
+     * @param connection The connection.
+     * @throws SQLException SQL Exception.
+     */
+    private void restore(Connection connection) throws SQLException {
+      if (connection.isReadOnly() != readOnly) {
+        connection.setReadOnly(readOnly);
+      }
+      if (connection.getTransactionIsolation() != transactionIsolation) {
+        connection.setTransactionIsolation(transactionIsolation);
+      }
+      if (catalog != null && !catalog.equals(connection.getCatalog())) {
+        connection.setCatalog(catalog);
+      }
+    }
+  }
+
+  /**
+   * An idle connection with the time when it was given back.
+   */
+  private static final class IdleConnection {
+
+    /**
+     * The connection.
+     */
+    private final Connection connection;
+    /**
+     * The state of the connection when it was opened.
+     */
+    private final ConnectionState initialState;
+    /**
+     * The time when the connection was given back (in milliseconds).
+     */
+    private final long releaseTime;
+
+    /**
+     * Constructor.
+     *
+     * @param connection The connection.
+     * @param initialState The state of the connection when it was opened.
+     * @param releaseTime The time when the connection was given back.
+     */
+    private IdleConnection(Connection connection, ConnectionState initialState, long releaseTime) {
+      this.connection = connection;
+      this.initialState = initialState;
+      this.releaseTime = releaseTime;
+    }
+  }
+
+  /**
+   * Handler of the connections given by the pool : the {@link Connection#close()} method gives back the connection to
+   * the pool instead of closing it.
+   */
+  private static final class PooledConnectionHandler implements InvocationHandler {
+
+    /**
+     * The pool.
+     */
+    private final SourcePool pool;
+    /**
+     * The real connection.
+     */
+    private final Connection connection;
+    /**
+     * The state of the real connection when it was opened.
+     */
+    private final ConnectionState initialState;
+    /**
+     * Indicates if the connection is closed (given back).
+     */
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param pool The pool.
+     * @param connection The real connection.
+     * @param initialState The state of the real connection when it was opened.
+     */
+    private PooledConnectionHandler(SourcePool pool, Connection connection, ConnectionState initialState) {
+      this.pool = pool;
+      this.connection = connection;
+      this.initialState = initialState;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      int parametersCount = method.getParameterTypes().length;
+      if ("close".equals(name) && parametersCount == 0) {
+        if (!closed) {
+          closed = true;
+          pool.release(connection, initialState);
+        }
+        return null;
+      }
+      if ("isClosed".equals(name) && parametersCount == 0) {
+        return closed || connection.isClosed();
+      }
+      if ("equals".equals(name) && parametersCount == 1) {
+        return proxy == args[0];
+      }
+      if ("hashCode".equals(name) && parametersCount == 0) {
+        return System.identityHashCode(proxy);
+      }
+      if ("toString".equals(name) && parametersCount == 0) {
+        return "Pooled connection to " + pool.source.getUrl();
+      }
+      if (closed) {
+        throw new SQLException("The connection is closed");
+      }
+      try {
+        return method.invoke(connection, args);
+      } catch (InvocationTargetException e) {
+        throw e.getCause();
+      }
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * List of the values of a {@link Row} which are stored in a {@link RowsFile}.
+ * <p>
+ * The values are read from the file when needed and kept with a {@link SoftReference} : they can be freed by the
+ * garbage collector when the memory is needed. The list is not modifiable.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+final class StoredRowValuesList extends AbstractList<Object> implements RandomAccess {
+
+  /**
+   * The file in which the values are stored.
+   */
+  private final RowsFile rowsFile;
+  /**
+   * The index of the row in the file.
+   */
+  private final int rowIndex;
+  /**
+   * The number of values.
+   */
+  private final int numberOfValues;
+  /**
+   * The values read from the file ({@code null} if they are not read).
+   */
+  private SoftReference<Object[]> valuesReference;
+
+  /**
+   * Constructor.
+   * 
+   * @param rowsFile The file in which the values are stored.
+   * @param rowIndex The index of the row in the file.
+   * @param numberOfValues The number of values.
+   */
+  StoredRowValuesList(RowsFile rowsFile, int rowIndex, int numberOfValues) {
+    this.rowsFile = rowsFile;
+    this.rowIndex = rowIndex;
+    this.numberOfValues = numberOfValues;
+  }
+
+  /**
+   * Returns the values (read from the file if they are not kept).
+   * 
+   * @return The values.
+   * @throws AssertJDBException If triggered, this exception wrap a possible {@link IOException} during the reading.
+   */
+  private Object[] getValues() {
+    Object[] values = valuesReference == null ? null : valuesReference.get();
+    if (values == null) {
+      try {
+        values = rowsFile.read(rowIndex, numberOfValues);
+      } catch (IOException e) {
+        throw new AssertJDBException(e);
+      }
+      valuesReference = new SoftReference<>(values);
+    }
+    return values;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Object get(int index) {
+    if (index < 0 || index >= numberOfValues) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + numberOfValues);
+    }
+    return getValues()[index];
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int size() {
+    return numberOfValues;
+  }
+}
@@ -0,0 +1,170 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.exception.AssertJDBException;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Values of a column which are read from the database each time they are browsed.
+ * <p>
+ * The values are in the order returned by the database. Each iterator uses its own forward-only cursor which is closed
+ * when the iterator is exhausted or when the values are closed. The values are not a {@link List} : the access by index
+ * needs the loaded rows ({@link #getLoadedValuesList()}).
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+final class StreamedValues implements Iterable<Object>, AutoCloseable {
+
+  /**
+   * The data from database.
+   */
+  private final AbstractDbData<?> dbData;
+  /**
+   * The index of the column.
+   */
+  private final int index;
+  /**
+   * The cursors which are not closed.
+   */
+  private final List<RowsCursor> openCursorsList = new ArrayList<>();
+
+  /**
+   * Constructor.
+   * 
+   * @param dbData The data from database.
+   * @param index The index of the column.
+   */
+  StreamedValues(AbstractDbData<?> dbData, int index) {
+    this.dbData = dbData;
+    this.index = index;
+  }
+
+  /**
+   * Returns the values of the column in the loaded rows (the rows are loaded if they are not).
+   * 
+   * @return The values in the order of the rows.
+   */
+  List<Object> getLoadedValuesList() {
+    return dbData.getLoadedColumn(index).getValuesList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Iterator<Object> iterator() {
+    try {
+      return new CursorIterator(dbData.openRowsCursor());
+    } catch (SQLException e) {
+      throw new AssertJDBException(e);
+    }
+  }
+
+  /**
+   * Closes the cursors which are not closed.
+   * 
+   * @throws SQLException SQL Exception.
+   */
+  @Override
+  public void close() throws SQLException {
+    SQLException exception = null;
+    for (RowsCursor cursor : openCursorsList) {
+      try {
+        cursor.close();
+      } catch (SQLException e) {
+        if (exception == null) {
+          exception = e;
+        }
+      }
+    }
+    openCursorsList.clear();
+    if (exception != null) {
+      throw exception;
+    }
+  }
+
+  /**
+   * Iterator on the values reading a cursor.
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  private class CursorIterator implements Iterator<Object> {
+
+    /**
+     * The cursor ({@code null} when it is closed).
+     */
+    private RowsCursor cursor;
+    /**
+     * Indicates if the cursor is moved on the next value which is not returned yet.
+     */
+    private boolean hasNextValue;
+
+    /**
+     * Constructor.
+     * 
+     * @param cursor The cursor.
+     */
+    private CursorIterator(RowsCursor cursor) {
+      this.cursor = cursor;
+      openCursorsList.add(cursor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+      if (cursor == null) {
+        return false;
+      }
+      if (!hasNextValue) {
+        try {
+          hasNextValue = cursor.next();
+          if (!hasNextValue) {
+            openCursorsList.remove(cursor);
+            cursor.close();
+            cursor = null;
+          }
+        } catch (SQLException e) {
+          throw new AssertJDBException(e);
+        }
+      }
+      return hasNextValue;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Object next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      hasNextValue = false;
+      try {
+        return cursor.getValue(index);
+      } catch (SQLException e) {
+        throw new AssertJDBException(e);
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -79,6 +79,18 @@ public class Table extends AbstractDbData<Table> {
    * The columns to exclude.
    */
   private String[] columnsToExclude;
+  /**
+   * The SQL condition of a partial loading ({@code null} if the loading is not partial).
+   */
+  private String loadingCondition;
+  /**
+   * The rows added to the rows loaded in a partial loading.
+   */
+  private List<Row> otherRowsList;
+  /**
+   * The labels of the columns as returned by the database (the names of the columns are in upper case).
+   */
+  private List<String> columnsLabelList;
 
   /**
    * Default constructor.
@@ -284,26 +296,46 @@ public class Table extends AbstractDbData<Table> {
   private void collectColumnsNameFromResultSet(ResultSet resultSet) throws SQLException {
     ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
     List<String> columnsNameList = new ArrayList<>();
+    List<String> columnsLabelList = new ArrayList<>();
     List<String> columnsToExcludeList = null;
     if (columnsToExclude != null) {
       columnsToExcludeList = Arrays.asList(columnsToExclude);
     }
 
     for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-      String columnName = resultSetMetaData.getColumnLabel(i).toUpperCase();
+      String columnLabel = resultSetMetaData.getColumnLabel(i);
+      String columnName = columnLabel.toUpperCase();
       if (columnsToExcludeList == null || !columnsToExcludeList.contains(columnName)) {
 
         columnsNameList.add(columnName);
+        columnsLabelList.add(columnLabel);
       }
     }
+    this.columnsLabelList = columnsLabelList;
     setColumnsNameList(columnsNameList);
   }
 
+  /**
+   * Returns the label of the column as returned by the database.
+   * 
+   * @see AbstractDbData#getColumnLabel(int)
+   * @param index The column index.
+   * @return The label of the column.
+   */
+  @Override
+  String getColumnLabel(int index) {
+    List<String> columnsNameList = getColumnsNameList();
+    if (columnsLabelList == null) {
+      return columnsNameList.get(index);
+    }
+    return columnsLabelList.get(index);
+  }
+
   /**
    * Collects the primary key name from the {@code Connection} to the database.
    * <p>
    * This method use the {@link DatabaseMetaData} from the {@code Connection} parameter to list the primary keys of the
-   * table.
+   * table (through the {@link MetadataCache}).
    * </p>
    * 
    * @param connection The {@code Connection} to the database.
@@ -311,20 +343,82 @@ public class Table extends AbstractDbData<Table> {
    */
   private void collectPrimaryKeyName(Connection connection) throws SQLException {
     List<String> pksNameList = new ArrayList<>();
-    DatabaseMetaData metaData = connection.getMetaData();
-
-    try (ResultSet resultSet = metaData.getPrimaryKeys(getCatalog(connection), getSchema(connection),
-        name.toUpperCase())) {
-      while (resultSet.next()) {
-        String columnName = resultSet.getString("COLUMN_NAME");
-        if (getColumnsNameList().indexOf(columnName) != -1) {
-          pksNameList.add(columnName);
-        }
+    for (String columnName : MetadataCache.getPksName(this, connection, name.toUpperCase())) {
+      if (getColumnsNameList().indexOf(columnName) != -1) {
+        pksNameList.add(columnName);
       }
     }
     setPksNameList(pksNameList);
   }
 
+  /**
+   * Returns the SQL request which counts the rows of the table satisfying a condition.
+   * 
+   * @see AbstractDbData#getCountRequest(String)
+   * @param condition The SQL condition ({@code null} to count all the rows).
+   * @return The SQL request.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   */
+  @Override
+  String getCountRequest(String condition) {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    StringBuilder stringBuilder = new StringBuilder("SELECT COUNT(*) FROM ");
+    stringBuilder.append(name);
+    if (condition != null) {
+      stringBuilder.append(" WHERE ").append(condition);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Returns the fingerprint of the table : the number of rows and the values of the expression evaluated on all the
+   * rows (for example {@code MAX(UPDATED_AT)}), or on each bucket of rows if a column is indicated.
+   * <p>
+   * If the fingerprint did not change between two moments, the data in the table (or in the bucket) are considered as
+   * not changed.
+   * </p>
+   * 
+   * @param connection {@link Connection} to the database.
+   * @param expression The SQL aggregate expression(s) (separated by commas) evaluated on the rows.
+   * @param columnName The name of the integer column used to group the rows in buckets ({@code null} for no bucket).
+   * @param bucketSize The number of values of the column in a bucket (ignored if there is no bucket).
+   * @return The fingerprint.
+   * @throws NullPointerException If the {@link #name} field is {@code null}.
+   * @throws SQLException SQL Exception.
+   */
+  Fingerprint getFingerprint(Connection connection, String expression, String columnName, int bucketSize)
+      throws SQLException {
+    if (name == null) {
+      throw new NullPointerException("name can not be null");
+    }
+
+    Fingerprint fingerprint = new Fingerprint(expression, columnName, bucketSize);
+    try (Statement statement = createStatement(connection);
+        ResultSet resultSet = statement.executeQuery(fingerprint.getRequest(name))) {
+      fingerprint.collectBuckets(resultSet);
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Sets a partial loading : only the rows satisfying the condition are loaded from the database and the other rows
+   * are added to them. This partial loading is done once.
+   * <p>
+   * If the columns or the primary keys of the rows loaded are not the same than those of the other rows (the structure
+   * of the table changed), all the rows are loaded from the database.
+   * </p>
+   * 
+   * @param condition The SQL condition satisfied by the rows to load.
+   * @param otherRowsList The other rows (which do not satisfy the condition).
+   */
+  void setPartialLoading(String condition, List<Row> otherRowsList) {
+    this.loadingCondition = condition;
+    this.otherRowsList = otherRowsList;
+  }
+
   /**
    * Specific implementation of the loading for a {@code Table}.
    * 
@@ -339,12 +433,32 @@ public class Table extends AbstractDbData<Table> {
       throw new NullPointerException("name can not be null");
     }
 
+    String condition = loadingCondition;
+    List<Row> rowsList = otherRowsList;
+    loadingCondition = null;
+    otherRowsList = null;
+
+    String request = getRequest();
+    if (condition != null) {
+      request += " WHERE " + condition;
+    }
     try (Statement statement = connection.createStatement()) {
-      try (ResultSet resultSet = statement.executeQuery(getRequest())) {
+      applyStatementOptions(statement);
+      try (ResultSet resultSet = statement.executeQuery(request)) {
         collectColumnsNameFromResultSet(resultSet);
         collectRowsFromResultSet(resultSet);
       }
     }
     collectPrimaryKeyName(connection);
+
+    if (rowsList != null && !rowsList.isEmpty()) {
+      Row row = rowsList.get(0);
+      if (row.getColumnsNameList().equals(getColumnsNameList()) && row.getPksNameList().equals(getPksNameList())) {
+        addRows(rowsList);
+      } else {
+        // The structure of the table changed : load all the rows
+        loadImpl(connection);
+      }
+    }
   }
 }
@@ -40,20 +40,6 @@ public class TimeValue implements Comparable<TimeValue> {
    * Nanoseconds.
    */
   private final int nanoSeconds;
-  /**
-   * Indicates where there are the digits for {@code String} for {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT = "\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with seconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_SECONDS = "\\d\\d:\\d\\d:\\d\\d";
-  /**
-   * Indicates where there are the digits in style with nanoseconds for {@code String} for
-   * {@link TimeValue#TimeValue(String)}.
-   */
-  private static final String TIME_FORMAT_WITH_NANO = "\\d\\d:\\d\\d:\\d\\d.\\d\\d\\d\\d\\d\\d\\d\\d\\d";
 
   /**
    * Makes an instance of time value from a hour, minutes, seconds and nanoseconds.
@@ -165,21 +151,12 @@ public class TimeValue implements Comparable<TimeValue> {
       throw new NullPointerException("time should be not null");
     }
 
-    if (time.matches(TIME_FORMAT)) {
-      hour = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3));
-      seconds = 0;
-      nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_SECONDS)) {
-      hour = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3, 5));
-      seconds = Integer.parseInt(time.substring(6));
-      nanoSeconds = 0;
-    } else if (time.matches(TIME_FORMAT_WITH_NANO)) {
-      hour = Integer.parseInt(time.substring(0, 2));
-      minutes = Integer.parseInt(time.substring(3, 5));
-      seconds = Integer.parseInt(time.substring(6, 8));
-      nanoSeconds = Integer.parseInt(time.substring(9));
+    if (DateTimeFormats.isTime(time, 0)) {
+      int[] values = DateTimeFormats.getTime(time, 0);
+      hour = values[0];
+      minutes = values[1];
+      seconds = values[2];
+      nanoSeconds = values[3];
     } else {
       throw new ParseException("time must respect hh:mm, hh:mm:ss or hh:mm:ss.nnnnnnnnn format", time.length());
     }
@@ -0,0 +1,235 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Comparator for the {@link Row}s of a {@link AbstractDbData}, built once with the indexes of the primary keys and the
+ * SQL types of the columns.
+ * <p>
+ * The rows are compared like with {@link org.assertj.db.util.RowComparator} : first with the primary keys values, then
+ * with all the values. The {@code null} values are after the other values.<br>
+ * Each column is compared with a comparator chosen from its SQL type, which avoids the generic comparison when the
+ * values are of the expected class. When the rows are views on the same storages of the columns (the rows loaded in
+ * memory), the values are compared in the storages ({@link ColumnStorage#compareAt(int, int, Comparator)}) : the
+ * {@code Integer}, {@code Long}, {@code Double} and {@code String} values are compared without boxing them.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+final class TypedRowComparator implements Comparator<Row> {
+
+  /**
+   * The indexes of the primary keys in the columns.
+   */
+  private final int[] pksIndexes;
+  /**
+   * The comparators of the columns.
+   */
+  private final ValueComparator[] columnsComparator;
+
+  /**
+   * Constructor.
+   * 
+   * @param pksIndexes The indexes of the primary keys in the columns.
+   * @param columnsType The SQL types of the columns (from {@link Types}).
+   */
+  TypedRowComparator(int[] pksIndexes, int[] columnsType) {
+    this.pksIndexes = pksIndexes;
+    columnsComparator = new ValueComparator[columnsType.length];
+    for (int i = 0; i < columnsType.length; i++) {
+      columnsComparator[i] = ValueComparator.fromSqlType(columnsType[i]);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int compare(Row row1, Row row2) {
+    List<Object> valuesList1 = row1.getValuesList();
+    List<Object> valuesList2 = row2.getValuesList();
+    if (valuesList1 instanceof RowValuesList && valuesList2 instanceof RowValuesList) {
+      RowValuesList rowValuesList1 = (RowValuesList) valuesList1;
+      RowValuesList rowValuesList2 = (RowValuesList) valuesList2;
+      if (rowValuesList1.getColumnsStorage() == rowValuesList2.getColumnsStorage()) {
+        return compareInStorages(rowValuesList1.getColumnsStorage(), rowValuesList1.getRowIndex(),
+            rowValuesList2.getRowIndex());
+      }
+    }
+    for (int pkIndex : pksIndexes) {
+      int compare = compare(pkIndex, valuesList1.get(pkIndex), valuesList2.get(pkIndex));
+      if (compare != 0) {
+        return compare;
+      }
+    }
+    for (int index = 0; index < columnsComparator.length; index++) {
+      int compare = compare(index, valuesList1.get(index), valuesList2.get(index));
+      if (compare != 0) {
+        return compare;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Compares two rows in the storages of the columns.
+   * 
+   * @param columnsStorage The storages of the columns.
+   * @param rowIndex1 The index of the first row in the storages.
+   * @param rowIndex2 The index of the second row in the storages.
+   * @return The result of the comparison.
+   */
+  private int compareInStorages(ColumnStorage[] columnsStorage, int rowIndex1, int rowIndex2) {
+    for (int pkIndex : pksIndexes) {
+      int compare = columnsStorage[pkIndex].compareAt(rowIndex1, rowIndex2, columnsComparator[pkIndex]);
+      if (compare != 0) {
+        return compare;
+      }
+    }
+    for (int index = 0; index < columnsComparator.length; index++) {
+      int compare = columnsStorage[index].compareAt(rowIndex1, rowIndex2, columnsComparator[index]);
+      if (compare != 0) {
+        return compare;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Compares two values of a column.
+   * 
+   * @param index The index of the column.
+   * @param value1 The first value.
+   * @param value2 The second value.
+   * @return The result of the comparison.
+   */
+  private int compare(int index, Object value1, Object value2) {
+    if (value1 == null) {
+      return value2 == null ? 0 : 1;
+    }
+    if (value2 == null) {
+      return -1;
+    }
+    return columnsComparator[index].compare(value1, value2);
+  }
+
+  /**
+   * Comparator of values which are not {@code null}.
+   * 
+   * @author Régis Pouiller
+   * 
+   */
+  enum ValueComparator implements Comparator<Object> {
+
+    /**
+     * Comparator of values of any class : the values are compared if they are {@code Comparable}.
+     */
+    GENERIC {
+      /** {@inheritDoc} */
+      @Override
+      @SuppressWarnings("unchecked")
+      public int compare(Object value1, Object value2) {
+        if (value1 instanceof Comparable && value2 instanceof Comparable) {
+          return ((Comparable<Object>) value1).compareTo(value2);
+        }
+        return 0;
+      }
+    },
+
+    /**
+     * Comparator of integral numbers ({@code Byte}, {@code Short}, {@code Integer} and {@code Long}).
+     */
+    INTEGRAL {
+      /** {@inheritDoc} */
+      @Override
+      public int compare(Object value1, Object value2) {
+        if (isIntegral(value1) && isIntegral(value2)) {
+          long long1 = ((Number) value1).longValue();
+          long long2 = ((Number) value2).longValue();
+          return long1 < long2 ? -1 : (long1 == long2 ? 0 : 1);
+        }
+        return GENERIC.compare(value1, value2);
+      }
+    },
+
+    /**
+     * Comparator of decimal numbers ({@code BigDecimal}).
+     */
+    DECIMAL {
+      /** {@inheritDoc} */
+      @Override
+      public int compare(Object value1, Object value2) {
+        if (value1 instanceof BigDecimal && value2 instanceof BigDecimal) {
+          return ((BigDecimal) value1).compareTo((BigDecimal) value2);
+        }
+        return GENERIC.compare(value1, value2);
+      }
+    },
+
+    /**
+     * Comparator of texts ({@code String}).
+     */
+    TEXT {
+      /** {@inheritDoc} */
+      @Override
+      public int compare(Object value1, Object value2) {
+        if (value1 instanceof String && value2 instanceof String) {
+          return ((String) value1).compareTo((String) value2);
+        }
+        return GENERIC.compare(value1, value2);
+      }
+    };
+
+    /**
+     * Returns if the value is an integral number which can be compared with its {@code long} value.
+     * 
+     * @param value The value.
+     * @return {@code true} if the value is a {@code Byte}, a {@code Short}, an {@code Integer} or a {@code Long}.
+     */
+    private static boolean isIntegral(Object value) {
+      return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    /**
+     * Returns the comparator corresponding to the SQL type.
+     * 
+     * @param sqlType The SQL type (from {@link Types}).
+     * @return The comparator.
+     */
+    static ValueComparator fromSqlType(int sqlType) {
+      switch (sqlType) {
+        case Types.TINYINT:
+        case Types.SMALLINT:
+        case Types.INTEGER:
+        case Types.BIGINT:
+          return INTEGRAL;
+        case Types.DECIMAL:
+        case Types.NUMERIC:
+          return DECIMAL;
+        case Types.CHAR:
+        case Types.VARCHAR:
+        case Types.LONGVARCHAR:
+        case Types.NCHAR:
+        case Types.NVARCHAR:
+        case Types.LONGNVARCHAR:
+          return TEXT;
+        default:
+          return GENERIC;
+      }
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+/**
+ * Converter of the values of a type which is not supported by the assertions (a {@code java.time} type, an
+ * {@code UUID}, a type of a vendor, ...) to a value of a supported type.
+ * <p>
+ * The converter is registered with {@link ValueType#register(Class, ValueConverter)} and the values are converted when
+ * they are loaded from the database. The supported types are : {@code byte[]}, {@code Boolean}, {@code String},
+ * {@code java.sql.Date}, {@code java.sql.Time}, {@code java.sql.Timestamp} and the numbers ({@code Byte},
+ * {@code Short}, {@code Integer}, {@code Long}, {@code Float}, {@code Double}, {@code BigInteger} and
+ * {@code BigDecimal}).
+ * </p>
+ * <p>Example of converter of {@code UUID} :</p>
+ * <pre><code class='java'>
+ * ValueType.register(UUID.class, new ValueConverter&lt;UUID&gt;() {
+ *   public Object convert(UUID value) {
+ *     return value.toString();
+ *   }
+ * });
+ * </code></pre>
+ *
+ * @author Régis Pouiller
+ *
+ * @param <T> The type of the values to convert.
+ */
+public interface ValueConverter<T> {
+
+  /**
+   * Converts a value.
+   *
+   * @param value The value to convert (not {@code null}).
+   * @return The converted value.
+   */
+  Object convert(T value);
+}
@@ -13,9 +13,12 @@
 package org.assertj.db.type;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Enumeration of the different type of value that are in the database.
@@ -50,7 +53,7 @@ public enum ValueType {
    */
   DATE_TIME,
   /**
-   * Number type (INT, SMALLINT, TINYINT, BIGINT, REAL or DECIMAL column).
+   * Number type (INT, SMALLINT, TINYINT, BIGINT, REAL, DOUBLE or DECIMAL column).
    */
   NUMBER,
   /**
@@ -59,40 +62,205 @@ public enum ValueType {
   NOT_IDENTIFIED;
 
   /**
-   * Returns the type of the actual value (data).
-   * 
-   * @param value The actual value
-   * @return The type of the actual value
+   * Map of the types registered for the classes (the sub-classes of a class have the same type).
    */
-  public static ValueType getType(Object value) {
-    if (value instanceof byte[]) {
-      return BYTES;
+  private static final Map<Class<?>, ValueType> TYPES_MAP = new ConcurrentHashMap<>();
+  /**
+   * Map of the converters registered for the classes (the sub-classes of a class have the same converter).
+   */
+  private static final Map<Class<?>, ValueConverter<?>> CONVERTERS_MAP = new ConcurrentHashMap<>();
+
+  static {
+    registerStandardTypes();
+  }
+
+  /**
+   * Registers the types of the standard classes of values.
+   */
+  private static void registerStandardTypes() {
+    TYPES_MAP.put(byte[].class, BYTES);
+    TYPES_MAP.put(Boolean.class, BOOLEAN);
+    TYPES_MAP.put(String.class, TEXT);
+    TYPES_MAP.put(Date.class, DATE);
+    TYPES_MAP.put(Time.class, TIME);
+    TYPES_MAP.put(Timestamp.class, DATE_TIME);
+    TYPES_MAP.put(Byte.class, NUMBER);
+    TYPES_MAP.put(Short.class, NUMBER);
+    TYPES_MAP.put(Integer.class, NUMBER);
+    TYPES_MAP.put(Long.class, NUMBER);
+    TYPES_MAP.put(Float.class, NUMBER);
+    TYPES_MAP.put(Double.class, NUMBER);
+    TYPES_MAP.put(BigInteger.class, NUMBER);
+    TYPES_MAP.put(BigDecimal.class, NUMBER);
+  }
+
+  /**
+   * Cache of the type of each class of value (replaced when a type is registered).
+   */
+  private static volatile ClassValue<ValueType> typesCache = createTypesCache();
+  /**
+   * Cache of the converter of each class of value (replaced when a converter is registered).
+   */
+  private static volatile ClassValue<ValueConverter<Object>> convertersCache = createConvertersCache();
+
+  /**
+   * Returns the value registered for a class or for the nearest super-class or interface.
+   *
+   * @param <T> The type of the registered value.
+   * @param map The map of the registered values.
+   * @param type The class.
+   * @return The registered value or {@code null} if there is no value registered for the class and its super-types.
+   */
+  private static <T> T getRegistered(Map<Class<?>, T> map, Class<?> type) {
+    for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+      T registered = map.get(clazz);
+      if (registered != null) {
+        return registered;
+      }
+      for (Class<?> interfaceClass : clazz.getInterfaces()) {
+        registered = getRegistered(map, interfaceClass);
+        if (registered != null) {
+          return registered;
+        }
+      }
     }
-    if (value instanceof Boolean) {
-      return BOOLEAN;
+    return null;
+  }
+
+  /**
+   * Creates the cache of the type of each class of value.
+   *
+   * @return The cache.
+   */
+  private static ClassValue<ValueType> createTypesCache() {
+    return new ClassValue<ValueType>() {
+      @Override
+      protected ValueType computeValue(Class<?> type) {
+        ValueType valueType = getRegistered(TYPES_MAP, type);
+        return valueType == null ? NOT_IDENTIFIED : valueType;
+      }
+    };
+  }
+
+  /**
+   * Creates the cache of the converter of each class of value.
+   *
+   * @return The cache.
+   */
+  private static ClassValue<ValueConverter<Object>> createConvertersCache() {
+    return new ClassValue<ValueConverter<Object>>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      protected ValueConverter<Object> computeValue(Class<?> type) {
+        return (ValueConverter<Object>) getRegistered(CONVERTERS_MAP, type);
+      }
+    };
+  }
+
+  /**
+   * Registers the type of the values of a class (and of its sub-classes).
+   * <p>
+   * The values of this class must be comparable as the values of the type : for example a class registered as
+   * {@link #NUMBER} must extend {@code Number}. To compare the values of other classes, register a
+   * {@link ValueConverter} with {@link #register(Class, ValueConverter)}.<br>
+   * The registration is global to the JVM : it applies to all the assertions (in all the threads) until the end of the
+   * JVM, so it is usually done once before the tests.
+   * </p>
+   *
+   * @param type The class of the values.
+   * @param valueType The type of the values.
+   * @throws NullPointerException If one of the parameters is {@code null}.
+   */
+  public static void register(Class<?> type, ValueType valueType) {
+    if (type == null) {
+      throw new NullPointerException("type must be not null");
     }
-    if (value instanceof String) {
-      return TEXT;
+    if (valueType == null) {
+      throw new NullPointerException("valueType must be not null");
     }
-    if (value instanceof Date) {
-      return DATE;
+    TYPES_MAP.put(type, valueType);
+    typesCache = createTypesCache();
+  }
+
+  /**
+   * Registers the converter of the values of a class (and of its sub-classes). The values are converted when they are
+   * loaded from the database and their type is the type of the converted values.
+   * <p>
+   * The registration is global to the JVM, like the registration of a type ({@link #register(Class, ValueType)}).
+   * </p>
+   *
+   * @param <T> The class of the values.
+   * @param type The class of the values.
+   * @param converter The converter.
+   * @throws NullPointerException If one of the parameters is {@code null}.
+   */
+  public static <T> void register(Class<T> type, ValueConverter<? super T> converter) {
+    if (type == null) {
+      throw new NullPointerException("type must be not null");
     }
-    if (value instanceof Time) {
-      return TIME;
+    if (converter == null) {
+      throw new NullPointerException("converter must be not null");
     }
-    if (value instanceof Timestamp) {
-      return DATE_TIME;
+    CONVERTERS_MAP.put(type, converter);
+    convertersCache = createConvertersCache();
+  }
+
+  /**
+   * Unregisters the type and the converter registered for a class (the standard classes keep their type).
+   *
+   * @param type The class of the values.
+   * @throws NullPointerException If the parameter is {@code null}.
+   */
+  static void unregister(Class<?> type) {
+    if (type == null) {
+      throw new NullPointerException("type must be not null");
     }
-    if (value instanceof Byte
-        || value instanceof Short
-        || value instanceof Integer
-        || value instanceof Long
-        || value instanceof Float
-        || value instanceof BigDecimal) {
-
-      return NUMBER;
+    TYPES_MAP.remove(type);
+    CONVERTERS_MAP.remove(type);
+    registerStandardTypes();
+    typesCache = createTypesCache();
+    convertersCache = createConvertersCache();
+  }
+
+  /**
+   * Resets the registrations : only the types of the standard classes stay registered.
+   */
+  static void reset() {
+    TYPES_MAP.clear();
+    CONVERTERS_MAP.clear();
+    registerStandardTypes();
+    typesCache = createTypesCache();
+    convertersCache = createConvertersCache();
+  }
+
+  /**
+   * Returns the value converted with the converter registered for its class.
+   *
+   * @param value The value.
+   * @return The converted value or the value if there is no converter for its class.
+   */
+  static Object getConvertedValue(Object value) {
+    if (value == null || CONVERTERS_MAP.isEmpty()) {
+      return value;
+    }
+    ValueConverter<Object> converter = convertersCache.get(value.getClass());
+    return converter == null ? value : converter.convert(value);
+  }
+
+  /**
+   * Returns the type of the actual value (data).
+   * <p>
+   * The type of each class is computed once (with the type of the nearest registered class) and cached.
+   * </p>
+   * 
+   * @param value The actual value
+   * @return The type of the actual value
+   */
+  public static ValueType getType(Object value) {
+    if (value == null) {
+      return NOT_IDENTIFIED;
     }
-    return NOT_IDENTIFIED;
+    return typesCache.get(value.getClass());
   }
 
   /**
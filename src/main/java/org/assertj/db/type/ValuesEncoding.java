@@ -0,0 +1,325 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of the values of the rows : a tag for the type of each value, variable length integers and
+ * arrays of bytes preceded by their length. The values are read with the same class than when they are written.
+ * <p>
+ * The values of the other classes are written with the Java serialization only if it is allowed : it is only allowed
+ * for the temporary files written and read by the same instance ({@link RowsFile}). The files which are kept and
+ * shared ({@link SnapshotFile}) only contain the values of the classes above, so reading them never deserializes a
+ * class.
+ * </p>
+ *
+ * @author Régis Pouiller
+ * @see RowsFile
+ * @see SnapshotFile
+ */
+final class ValuesEncoding {
+
+  /**
+   * Charset of the texts.
+   */
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  /**
+   * Tag of a {@code null} value.
+   */
+  private static final byte NULL = 0;
+  /**
+   * Tag of {@code Boolean.TRUE}.
+   */
+  private static final byte TRUE = 1;
+  /**
+   * Tag of {@code Boolean.FALSE}.
+   */
+  private static final byte FALSE = 2;
+  /**
+   * Tag of a {@code Byte}.
+   */
+  private static final byte BYTE = 3;
+  /**
+   * Tag of a {@code Short}.
+   */
+  private static final byte SHORT = 4;
+  /**
+   * Tag of an {@code Integer}.
+   */
+  private static final byte INTEGER = 5;
+  /**
+   * Tag of a {@code Long}.
+   */
+  private static final byte LONG = 6;
+  /**
+   * Tag of a {@code Float}.
+   */
+  private static final byte FLOAT = 7;
+  /**
+   * Tag of a {@code Double}.
+   */
+  private static final byte DOUBLE = 8;
+  /**
+   * Tag of a {@code BigDecimal}.
+   */
+  private static final byte BIG_DECIMAL = 9;
+  /**
+   * Tag of a {@code BigInteger}.
+   */
+  private static final byte BIG_INTEGER = 10;
+  /**
+   * Tag of a {@code String}.
+   */
+  private static final byte STRING = 11;
+  /**
+   * Tag of an array of bytes.
+   */
+  private static final byte BYTES = 12;
+  /**
+   * Tag of a {@code java.sql.Date}.
+   */
+  private static final byte DATE = 13;
+  /**
+   * Tag of a {@code java.sql.Time}.
+   */
+  private static final byte TIME = 14;
+  /**
+   * Tag of a {@code java.sql.Timestamp}.
+   */
+  private static final byte TIMESTAMP = 15;
+  /**
+   * Tag of another {@code Serializable} value.
+   */
+  private static final byte SERIALIZED = 16;
+  /**
+   * Tag of a {@code UUID}.
+   */
+  private static final byte UUID_VALUE = 17;
+
+  /**
+   * Private constructor.
+   */
+  private ValuesEncoding() {
+    // Empty
+  }
+
+  /**
+   * Writes a value.
+   *
+   * @param output The output.
+   * @param value The value.
+   * @param serializationAllowed {@code true} if the values of the other classes can be written with the Java
+   *          serialization.
+   * @throws IOException IO Exception.
+   * @throws NotSerializableException If the value can not be written.
+   */
+  static void writeValue(DataOutputStream output, Object value, boolean serializationAllowed) throws IOException {
+    if (value == null) {
+      output.writeByte(NULL);
+    } else if (value instanceof Boolean) {
+      output.writeByte((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Byte) {
+      output.writeByte(BYTE);
+      output.writeByte((Byte) value);
+    } else if (value instanceof Short) {
+      output.writeByte(SHORT);
+      writeVarLong(output, (Short) value);
+    } else if (value instanceof Integer) {
+      output.writeByte(INTEGER);
+      writeVarLong(output, (Integer) value);
+    } else if (value instanceof Long) {
+      output.writeByte(LONG);
+      writeVarLong(output, (Long) value);
+    } else if (value instanceof Float) {
+      output.writeByte(FLOAT);
+      output.writeFloat((Float) value);
+    } else if (value instanceof Double) {
+      output.writeByte(DOUBLE);
+      output.writeDouble((Double) value);
+    } else if (value instanceof BigDecimal) {
+      BigDecimal bigDecimal = (BigDecimal) value;
+      output.writeByte(BIG_DECIMAL);
+      writeVarLong(output, bigDecimal.scale());
+      writeBytes(output, bigDecimal.unscaledValue().toByteArray());
+    } else if (value instanceof BigInteger) {
+      output.writeByte(BIG_INTEGER);
+      writeBytes(output, ((BigInteger) value).toByteArray());
+    } else if (value instanceof String) {
+      output.writeByte(STRING);
+      writeBytes(output, ((String) value).getBytes(UTF_8));
+    } else if (value instanceof byte[]) {
+      output.writeByte(BYTES);
+      writeBytes(output, (byte[]) value);
+    } else if (value.getClass() == Date.class) {
+      output.writeByte(DATE);
+      writeVarLong(output, ((Date) value).getTime());
+    } else if (value.getClass() == Time.class) {
+      output.writeByte(TIME);
+      writeVarLong(output, ((Time) value).getTime());
+    } else if (value.getClass() == Timestamp.class) {
+      Timestamp timestamp = (Timestamp) value;
+      output.writeByte(TIMESTAMP);
+      writeVarLong(output, timestamp.getTime());
+      writeVarLong(output, timestamp.getNanos());
+    } else if (value instanceof UUID) {
+      UUID uuid = (UUID) value;
+      output.writeByte(UUID_VALUE);
+      output.writeLong(uuid.getMostSignificantBits());
+      output.writeLong(uuid.getLeastSignificantBits());
+    } else if (serializationAllowed && value instanceof Serializable) {
+      ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+      try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+        objectOutputStream.writeObject(value);
+      }
+      output.writeByte(SERIALIZED);
+      writeBytes(output, byteArrayOutputStream.toByteArray());
+    } else {
+      throw new NotSerializableException(value.getClass().getName());
+    }
+  }
+
+  /**
+   * Reads a value.
+   *
+   * @param input The input.
+   * @param serializationAllowed {@code true} if the values written with the Java serialization can be read.
+   * @return The value.
+   * @throws IOException IO Exception (a {@link StreamCorruptedException} if a value written with the Java
+   *           serialization is read and it is not allowed).
+   */
+  static Object readValue(DataInputStream input, boolean serializationAllowed) throws IOException {
+    byte tag = input.readByte();
+    switch (tag) {
+      case NULL:
+        return null;
+      case TRUE:
+        return Boolean.TRUE;
+      case FALSE:
+        return Boolean.FALSE;
+      case BYTE:
+        return input.readByte();
+      case SHORT:
+        return (short) readVarLong(input);
+      case INTEGER:
+        return (int) readVarLong(input);
+      case LONG:
+        return readVarLong(input);
+      case FLOAT:
+        return input.readFloat();
+      case DOUBLE:
+        return input.readDouble();
+      case BIG_DECIMAL:
+        int scale = (int) readVarLong(input);
+        return new BigDecimal(new BigInteger(readBytes(input)), scale);
+      case BIG_INTEGER:
+        return new BigInteger(readBytes(input));
+      case STRING:
+        return new String(readBytes(input), UTF_8);
+      case BYTES:
+        return readBytes(input);
+      case DATE:
+        return new Date(readVarLong(input));
+      case TIME:
+        return new Time(readVarLong(input));
+      case TIMESTAMP:
+        Timestamp timestamp = new Timestamp(readVarLong(input));
+        timestamp.setNanos((int) readVarLong(input));
+        return timestamp;
+      case UUID_VALUE:
+        return new UUID(input.readLong(), input.readLong());
+      case SERIALIZED:
+        if (!serializationAllowed) {
+          throw new StreamCorruptedException("The values written with the Java serialization are not allowed");
+        }
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(readBytes(input)))) {
+          return objectInputStream.readObject();
+        } catch (ClassNotFoundException e) {
+          throw new IOException(e);
+        }
+
+      default:
+        throw new StreamCorruptedException("Unknown tag " + tag);
+    }
+  }
+
+  /**
+   * Writes an array of bytes preceded by its length.
+   *
+   * @param output The output.
+   * @param bytes The array of bytes.
+   * @throws IOException IO Exception.
+   */
+  private static void writeBytes(DataOutputStream output, byte[] bytes) throws IOException {
+    writeVarLong(output, bytes.length);
+    output.write(bytes);
+  }
+
+  /**
+   * Reads an array of bytes preceded by its length.
+   *
+   * @param input The input.
+   * @return The array of bytes.
+   * @throws IOException IO Exception.
+   */
+  private static byte[] readBytes(DataInputStream input) throws IOException {
+    byte[] bytes = new byte[(int) readVarLong(input)];
+    input.readFully(bytes);
+    return bytes;
+  }
+
+  /**
+   * Writes a {@code long} with a variable length : the value is zigzag encoded (so the small negative values are
+   * short too) then written by groups of 7 bits.
+   *
+   * @param output The output.
+   * @param value The value.
+   * @throws IOException IO Exception.
+   */
+  private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+    long zigzag = (value << 1) ^ (value >> 63);
+    while ((zigzag & ~0x7FL) != 0) {
+      output.writeByte((int) ((zigzag & 0x7F) | 0x80));
+      zigzag >>>= 7;
+    }
+    output.writeByte((int) zigzag);
+  }
+
+  /**
+   * Reads a {@code long} with a variable length.
+   *
+   * @param input The input.
+   * @return The value.
+   * @throws IOException IO Exception.
+   * @see #writeVarLong(DataOutputStream, long)
+   */
+  private static long readVarLong(DataInputStream input) throws IOException {
+    long zigzag = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = input.readByte();
+      zigzag |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return (zigzag >>> 1) ^ -(zigzag & 1);
+  }
+}
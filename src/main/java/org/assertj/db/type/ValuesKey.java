@@ -0,0 +1,186 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class represents a key built from values (for example the primary keys values of a {@link Row}) which can be
+ * used in a hash based collection.
+ * <p>
+ * The values are normalized to be coherent with {@link org.assertj.db.util.Values#areEqual(Object, Object)} : for
+ * example an {@code Integer} with the value {@code 1} and a {@code Long} with the value {@code 1} give the same key.
+ * <br>
+ * Two keys which are equal do not guarantee that the values are equal with
+ * {@link org.assertj.db.util.Values#areEqual(Object, Object)} (for example a {@code Date} and a {@code Timestamp} at
+ * midnight) so the values must be checked after finding a key.
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+final class ValuesKey {
+
+  /**
+   * The normalized values.
+   */
+  private final Object[] normalizedValues;
+  /**
+   * The hash code (computed once).
+   */
+  private final int hashCode;
+
+  /**
+   * Constructor.
+   *
+   * @param values The values.
+   */
+  ValuesKey(Object... values) {
+    normalizedValues = new Object[values.length];
+    for (int index = 0; index < values.length; index++) {
+      normalizedValues[index] = getNormalizedValue(values[index]);
+    }
+    hashCode = Arrays.hashCode(normalizedValues);
+  }
+
+  /**
+   * Returns if the value is exactly represented by its normalized value : if the key of a value of this kind is not
+   * found, that means that no value is equal.
+   * <p>
+   * It is not the case for a {@code String} (which can be compared to a number or a date) and for floating point numbers.
+   * </p>
+   *
+   * @param value The value.
+   * @return {@code true} if the value is exactly represented, {@code false} otherwise.
+   */
+  static boolean isExactlyRepresented(Object value) {
+    return value == null
+        || value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long
+        || value instanceof BigInteger || value instanceof BigDecimal
+        || value instanceof Boolean || value instanceof byte[]
+        || value instanceof Date || value instanceof Time || value instanceof Timestamp
+        || value instanceof DateValue || value instanceof TimeValue || value instanceof DateTimeValue;
+  }
+
+  /**
+   * Returns if all the values are exactly represented by their normalized values.
+   *
+   * @param values The values.
+   * @return {@code true} if all the values are exactly represented, {@code false} otherwise.
+   * @see #isExactlyRepresented(Object)
+   */
+  static boolean areExactlyRepresented(Object... values) {
+    for (Object value : values) {
+      if (!isExactlyRepresented(value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns if all the values in the list can be indexed : they are exactly represented by their normalized values or
+   * they are {@code String} (a {@code String} is equal to another {@code String} only if they are the same).
+   *
+   * @param valuesList The list of the values.
+   * @return {@code true} if all the values can be indexed, {@code false} otherwise.
+   * @see #isExactlyRepresented(Object)
+   */
+  static boolean areIndexable(List<Object> valuesList) {
+    for (Object value : valuesList) {
+      if (!isExactlyRepresented(value) && !(value instanceof String)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the normalized value of a value.
+   *
+   * @param value The value.
+   * @return The normalized value.
+   */
+  private static Object getNormalizedValue(Object value) {
+    if (value instanceof Number) {
+      BigDecimal bigDecimal = getBigDecimal((Number) value);
+      if (bigDecimal == null) {
+        return value;
+      }
+      if (bigDecimal.signum() == 0) {
+        return BigDecimal.ZERO;
+      }
+      return bigDecimal.stripTrailingZeros();
+    }
+    if (value instanceof byte[]) {
+      return ByteBuffer.wrap((byte[]) value);
+    }
+    if (value instanceof Date) {
+      return DateTimeValue.of(DateValue.from((Date) value));
+    }
+    if (value instanceof Timestamp) {
+      return DateTimeValue.from((Timestamp) value);
+    }
+    if (value instanceof DateValue) {
+      return DateTimeValue.of((DateValue) value);
+    }
+    if (value instanceof Time) {
+      return TimeValue.from((Time) value);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the {@code BigDecimal} corresponding to a number.
+   *
+   * @param number The number.
+   * @return The {@code BigDecimal} or {@code null} if the number can not be converted (infinity for example).
+   */
+  private static BigDecimal getBigDecimal(Number number) {
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    }
+    if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    }
+    if (number instanceof Byte || number instanceof Short || number instanceof Integer || number instanceof Long) {
+      return BigDecimal.valueOf(number.longValue());
+    }
+    try {
+      return new BigDecimal(number.toString());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj instanceof ValuesKey) {
+      ValuesKey key = (ValuesKey) obj;
+      return hashCode == key.hashCode && Arrays.equals(normalizedValues, key.normalizedValues);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+}
@@ -0,0 +1,90 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Utility methods to convert the numbers for the comparisons.
+ * <p>
+ * The conversions give the same results as the conversions of the {@code String} representation
+ * ({@code new BigDecimal("" + value)} for example) but without building this {@code String} when the conversion is
+ * exact : for the integral numbers ({@code Byte}, {@code Short}, {@code Integer} and {@code Long}), for the
+ * {@code BigInteger} converted in {@code BigDecimal} and for the {@code Double}.
+ * </p>
+ *
+ * @author Régis Pouiller
+ *
+ */
+final class Numbers {
+
+  /**
+   * Private constructor.
+   */
+  private Numbers() {
+    // Empty
+  }
+
+  /**
+   * Returns if the value is an integral number which can be read with {@link Number#longValue()} without loss.
+   *
+   * @param value The value.
+   * @return {@code true} if the value is a {@code Byte}, a {@code Short}, an {@code Integer} or a {@code Long},
+   *         {@code false} otherwise.
+   */
+  static boolean isIntegral(Object value) {
+    return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+  }
+
+  /**
+   * Returns the value converted in {@code BigInteger}.
+   *
+   * @param value The value.
+   * @return The {@code BigInteger}.
+   * @throws NumberFormatException If the {@code String} representation of the value is not an integer.
+   */
+  static BigInteger toBigInteger(Object value) {
+    if (value instanceof BigInteger) {
+      return (BigInteger) value;
+    }
+    if (isIntegral(value)) {
+      return BigInteger.valueOf(((Number) value).longValue());
+    }
+    return new BigInteger("" + value);
+  }
+
+  /**
+   * Returns the value converted in {@code BigDecimal}.
+   *
+   * @param value The value.
+   * @return The {@code BigDecimal}.
+   * @throws NumberFormatException If the {@code String} representation of the value is not a decimal.
+   */
+  static BigDecimal toBigDecimal(Object value) {
+    if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    }
+    if (isIntegral(value)) {
+      return BigDecimal.valueOf(((Number) value).longValue());
+    }
+    if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    }
+    if (value instanceof Double) {
+      // Same as new BigDecimal(Double.toString(value))
+      return BigDecimal.valueOf((Double) value);
+    }
+    return new BigDecimal("" + value);
+  }
+}
@@ -31,17 +31,17 @@ public enum RowComparator implements Comparator<Row>{
   INSTANCE;
 
   /**
-   * Compare one array of values to another.
-   * @param values1 The first array of values.
-   * @param values2 The second array of values.
+   * Compare one list of values to another.
+   * @param valuesList1 The first list of values.
+   * @param valuesList2 The second list of values.
    * @return The result.
    * @see Comparator#compare(Object, Object)
    */
-  private static int compare(Object[] values1, Object[] values2) {
-    if (values1.length == values2.length) {
-      for (int index = 0; index < values1.length; index++) {
-        Object value1 = values1[index];
-        Object value2 = values2[index];
+  private static int compare(List<Object> valuesList1, List<Object> valuesList2) {
+    if (valuesList1.size() == valuesList2.size()) {
+      for (int index = 0; index < valuesList1.size(); index++) {
+        Object value1 = valuesList1.get(index);
+        Object value2 = valuesList2.get(index);
         if (value1 == null && value2 != null) {
           return 1;
         }
@@ -64,16 +64,10 @@ public enum RowComparator implements Comparator<Row>{
   /** {@inheritDoc} */
   @Override
   public int compare(Row row1, Row row2) {
-    Object[] pksValues1 = row1.getPksValues();
-    Object[] pksValues2 = row2.getPksValues();
-    int compare = compare(pksValues1, pksValues2);
+    int compare = compare(row1.getPksValueList(), row2.getPksValueList());
     if (compare != 0) {
       return compare;
     }
-    List<Object> valuesList1 = row1.getValuesList();
-    List<Object> valuesList2 = row2.getValuesList();
-    Object[] values1 = valuesList1.toArray(new Object[valuesList1.size()]);
-    Object[] values2 = valuesList2.toArray(new Object[valuesList2.size()]);
-    return compare(values1, values2);
+    return compare(row1.getValuesList(), row2.getValuesList());
   }
 }
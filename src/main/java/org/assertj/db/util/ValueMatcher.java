@@ -0,0 +1,713 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+import org.assertj.db.type.ValueType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Matcher of the values equal to an expected value.
+ * <p>
+ * The expected value is converted once (for example a {@code String} is parsed as a {@link DateTimeValue} or as a
+ * number the first time it is compared to a date or to a number) and the matcher can be reused to compare many values
+ * (the cells of a column, the primary keys of the changes, ...).
+ * </p>
+ * <p>
+ * The result of {@link #matches(Object)} is the same as the result of the corresponding {@code Values.areEqual}
+ * method.
+ * </p>
+ * 
+ * @author Régis Pouiller
+ * @see Values#areEqual(Object, Object)
+ */
+public abstract class ValueMatcher {
+
+  /**
+   * Matcher of a {@code null} expected value.
+   */
+  private static final ValueMatcher NULL_MATCHER = new ValueMatcher() {
+    @Override
+    public boolean matches(Object value) {
+      return value == null;
+    }
+  };
+
+  /**
+   * Constructor.
+   */
+  private ValueMatcher() {
+    // Empty
+  }
+
+  /**
+   * Returns if the value is equal to the expected value.
+   * 
+   * @param value The value.
+   * @return {@code true} if the value is equal to the expected value, {@code false} otherwise.
+   * @throws AssertJDBException If it is not possible to compare the value to the expected value.
+   */
+  public abstract boolean matches(Object value);
+
+  /**
+   * Returns a matcher of an expected value (the type of the value is the type of the actual expected value).
+   * 
+   * @param expected The expected value.
+   * @return The matcher.
+   * @see Values#areEqual(Object, Object)
+   */
+  public static ValueMatcher of(Object expected) {
+    if (expected == null) {
+      return NULL_MATCHER;
+    }
+    return new ObjectMatcher(expected);
+  }
+
+  /**
+   * Returns a matcher of an expected {@code Boolean}.
+   * 
+   * @param expected The expected value.
+   * @return The matcher.
+   * @see Values#areEqual(Object, Boolean)
+   */
+  public static ValueMatcher of(Boolean expected) {
+    if (expected == null) {
+      return NULL_MATCHER;
+    }
+    return new BooleanMatcher(expected);
+  }
+
+  /**
+   * Returns a matcher of an expected {@code Number}.
+   * 
+   * @param expected The expected value.
+   * @return The matcher.
+   * @see Values#areEqual(Object, Number)
+   */
+  public static ValueMatcher of(Number expected) {
+    if (expected == null) {
+      return NULL_MATCHER;
+    }
+    return new NumberMatcher(expected);
+  }
+
+  /**
+   * Returns a matcher of an expected array of {@code byte}.
+   * 
+   * @param expected The expected value.
+   * @return The matcher.
+   * @see Values#areEqual(Object, byte[])
+   */
+  public static ValueMatcher of(byte[] expected) {
+    if (expected == null) {
+      return NULL_MATCHER;
+    }
+    return new BytesMatcher(expected);
+  }
+
+  /**
+   * Returns a matcher of an expected {@code String}.
+   * 
+   * @param expected The expected value.
+   * @return The matcher.
+   * @see Values#areEqual(Object, String)
+   */
+  public static ValueMatcher of(String expected) {
+    if (expected == null) {
+      return NULL_MATCHER;
+    }
+    return new StringMatcher(expected);
+  }
+
+  /**
+   * Returns a matcher of an expected {@link DateValue}.
+   * 
+   * @param expected The expected value.
+   * @return The matcher.
+   * @see Values#areEqual(Object, DateValue)
+   */
+  public static ValueMatcher of(DateValue expected) {
+    if (expected == null) {
+      return NULL_MATCHER;
+    }
+    return new DateValueMatcher(expected);
+  }
+
+  /**
+   * Returns a matcher of an expected {@link TimeValue}.
+   * 
+   * @param expected The expected value.
+   * @return The matcher.
+   * @see Values#areEqual(Object, TimeValue)
+   */
+  public static ValueMatcher of(TimeValue expected) {
+    if (expected == null) {
+      return NULL_MATCHER;
+    }
+    return new TimeValueMatcher(expected);
+  }
+
+  /**
+   * Returns a matcher of an expected {@link DateTimeValue}.
+   * 
+   * @param expected The expected value.
+   * @return The matcher.
+   * @see Values#areEqual(Object, DateTimeValue)
+   */
+  public static ValueMatcher of(DateTimeValue expected) {
+    if (expected == null) {
+      return NULL_MATCHER;
+    }
+    return new DateTimeValueMatcher(expected);
+  }
+
+  /**
+   * Returns the matchers of the expected values : the type of the comparison is the type of the elements of the array
+   * (for example the values of a {@code String[]} are compared as with {@link Values#areEqual(Object, String)}). The
+   * same matcher is used for the expected values which are equal.
+   * 
+   * @param expected The expected values.
+   * @return The matchers (in the same order as the expected values).
+   */
+  public static ValueMatcher[] ofEach(Object[] expected) {
+    Class<?> componentType = expected.getClass().getComponentType();
+    ValueMatcher[] matchers = new ValueMatcher[expected.length];
+    Map<Object, ValueMatcher> matchersMap = new HashMap<>();
+    for (int index = 0; index < expected.length; index++) {
+      Object value = expected[index];
+      ValueMatcher matcher = matchersMap.get(value);
+      if (matcher == null) {
+        matcher = of(componentType, value);
+        matchersMap.put(value, matcher);
+      }
+      matchers[index] = matcher;
+    }
+    return matchers;
+  }
+
+  /**
+   * Returns a matcher of an expected value with the type of the comparison.
+   * 
+   * @param type The type of the comparison.
+   * @param expected The expected value.
+   * @return The matcher.
+   */
+  private static ValueMatcher of(Class<?> type, Object expected) {
+    if (type == Boolean.class) {
+      return of((Boolean) expected);
+    } else if (Number.class.isAssignableFrom(type)) {
+      return of((Number) expected);
+    } else if (type == byte[].class) {
+      return of((byte[]) expected);
+    } else if (type == String.class) {
+      return of((String) expected);
+    } else if (type == DateValue.class) {
+      return of((DateValue) expected);
+    } else if (type == TimeValue.class) {
+      return of((TimeValue) expected);
+    } else if (type == DateTimeValue.class) {
+      return of((DateTimeValue) expected);
+    }
+    return of(expected);
+  }
+
+  /**
+   * Matcher of an expected value : the comparison depends of the type of the value and of the type of the expected
+   * value.
+   */
+  private static final class ObjectMatcher extends ValueMatcher {
+
+    /**
+     * The expected value.
+     */
+    private final Object expected;
+    /**
+     * The matcher corresponding to the type of the expected value ({@code null} if the type is not supported).
+     */
+    private final ValueMatcher matcher;
+
+    /**
+     * Constructor.
+     * 
+     * @param expected The expected value.
+     */
+    private ObjectMatcher(Object expected) {
+      this.expected = expected;
+      if (expected instanceof Boolean) {
+        matcher = new BooleanMatcher((Boolean) expected);
+      } else if (expected instanceof Number) {
+        matcher = new NumberMatcher((Number) expected);
+      } else if (expected instanceof byte[]) {
+        matcher = new BytesMatcher((byte[]) expected);
+      } else if (expected instanceof String) {
+        matcher = new StringMatcher((String) expected);
+      } else if (expected instanceof DateValue) {
+        matcher = new DateValueMatcher((DateValue) expected);
+      } else if (expected instanceof TimeValue) {
+        matcher = new TimeValueMatcher((TimeValue) expected);
+      } else if (expected instanceof DateTimeValue) {
+        matcher = new DateTimeValueMatcher((DateTimeValue) expected);
+      } else if (expected instanceof Date) {
+        matcher = new DateValueMatcher(DateValue.from((Date) expected));
+      } else if (expected instanceof Time) {
+        matcher = new TimeValueMatcher(TimeValue.from((Time) expected));
+      } else if (expected instanceof Timestamp) {
+        matcher = new DateTimeValueMatcher(DateTimeValue.from((Timestamp) expected));
+      } else {
+        matcher = null;
+      }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(Object value) {
+      ValueType valueType = ValueType.getType(value);
+      switch (valueType) {
+      case BOOLEAN:
+        if (expected instanceof Boolean) {
+          return matcher.matches(value);
+        }
+        break;
+      case NUMBER:
+        if (expected instanceof Number || expected instanceof String) {
+          return matcher.matches(value);
+        }
+        break;
+      case BYTES:
+        if (expected instanceof byte[]) {
+          return matcher.matches(value);
+        }
+        break;
+      case TEXT:
+        if (expected instanceof String) {
+          return matcher.matches(value);
+        }
+        break;
+      case DATE:
+        if (expected instanceof DateValue || expected instanceof String || expected instanceof Date) {
+          return matcher.matches(value);
+        }
+        break;
+      case TIME:
+        if (expected instanceof TimeValue || expected instanceof String || expected instanceof Time) {
+          return matcher.matches(value);
+        }
+        break;
+      case DATE_TIME:
+        if (expected instanceof DateTimeValue || expected instanceof DateValue || expected instanceof String
+            || expected instanceof Timestamp) {
+          return matcher.matches(value);
+        }
+        break;
+      default:
+        break;
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Matcher of an expected {@code Boolean}.
+   */
+  private static final class BooleanMatcher extends ValueMatcher {
+
+    /**
+     * The expected value.
+     */
+    private final Boolean expected;
+
+    /**
+     * Constructor.
+     * 
+     * @param expected The expected value.
+     */
+    private BooleanMatcher(Boolean expected) {
+      this.expected = expected;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(Object value) {
+      return expected.equals(value);
+    }
+  }
+
+  /**
+   * Matcher of an expected {@code Number}.
+   */
+  private static final class NumberMatcher extends ValueMatcher {
+
+    /**
+     * The expected value.
+     */
+    private final Number expected;
+    /**
+     * The expected value converted in {@code BigInteger} (converted the first time it is needed).
+     */
+    private BigInteger bigInteger;
+    /**
+     * The expected value converted in {@code BigDecimal} (converted the first time it is needed).
+     */
+    private BigDecimal bigDecimal;
+
+    /**
+     * Constructor.
+     * 
+     * @param expected The expected value.
+     */
+    private NumberMatcher(Number expected) {
+      this.expected = expected;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(Object value) {
+      // If parameter is a BigInteger,
+      // change the actual in BigInteger to compare
+      if (expected instanceof BigInteger) {
+        BigInteger bi;
+
+        if (value instanceof BigInteger) {
+          bi = (BigInteger) value;
+        } else {
+          try {
+            bi = Numbers.toBigInteger(value);
+          } catch (NumberFormatException e) {
+            throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, value);
+          }
+        }
+
+        return bi.compareTo((BigInteger) expected) == 0;
+      }
+      // If parameter is a BigDecimal,
+      // change the value in BigDecimal to compare
+      if (expected instanceof BigDecimal) {
+        BigDecimal bd;
+
+        if (value instanceof BigDecimal) {
+          bd = (BigDecimal) value;
+        } else {
+          try {
+            bd = Numbers.toBigDecimal(value);
+          } catch (NumberFormatException e) {
+            throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, value);
+          }
+        }
+
+        return bd.compareTo((BigDecimal) expected) == 0;
+      }
+      // Otherwise
+      // If the value is Float, Double, BigInteger or BigDecimal
+      // change the expected value to compare to make the comparison possible
+      // else
+      // get the value in long to compare
+      if (value instanceof Float) {
+        return ((Float) value).floatValue() == expected.floatValue();
+      } else if (value instanceof Double) {
+        return ((Double) value).doubleValue() == expected.doubleValue();
+      } else if (value instanceof BigInteger) {
+        if (bigInteger == null) {
+          bigInteger = Numbers.toBigInteger(expected);
+        }
+        return ((BigInteger) value).compareTo(bigInteger) == 0;
+      } else if (value instanceof BigDecimal) {
+        if (bigDecimal == null) {
+          bigDecimal = Numbers.toBigDecimal(expected);
+        }
+        return ((BigDecimal) value).compareTo(bigDecimal) == 0;
+      } else if (Numbers.isIntegral(value)) {
+        long actualValue = ((Number) value).longValue();
+        if (expected instanceof Float) {
+          return actualValue == expected.floatValue();
+        } else if (expected instanceof Double) {
+          return actualValue == expected.doubleValue();
+        }
+        return actualValue == expected.longValue();
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Matcher of an expected array of {@code byte}.
+   */
+  private static final class BytesMatcher extends ValueMatcher {
+
+    /**
+     * The expected value.
+     */
+    private final byte[] expected;
+
+    /**
+     * Constructor.
+     * 
+     * @param expected The expected value.
+     */
+    private BytesMatcher(byte[] expected) {
+      this.expected = expected;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(Object value) {
+      return value instanceof byte[] && Arrays.equals((byte[]) value, expected);
+    }
+  }
+
+  /**
+   * Matcher of an expected {@code String} : the {@code String} is parsed the first time it is compared to a number, a
+   * date, a time or a date/time.
+   */
+  private static final class StringMatcher extends ValueMatcher {
+
+    /**
+     * The expected value.
+     */
+    private final String expected;
+    /**
+     * The expected value parsed as a {@code Float}.
+     */
+    private Float floatValue;
+    /**
+     * The expected value parsed as a {@code Double}.
+     */
+    private Double doubleValue;
+    /**
+     * The expected value parsed as a {@code Long}.
+     */
+    private Long longValue;
+    /**
+     * The expected value parsed as a {@code BigInteger}.
+     */
+    private BigInteger bigInteger;
+    /**
+     * The expected value parsed as a {@code BigDecimal}.
+     */
+    private BigDecimal bigDecimal;
+    /**
+     * The expected value parsed as a {@link DateTimeValue}.
+     */
+    private DateTimeValue dateTimeValue;
+    /**
+     * The expected value parsed as a {@link TimeValue}.
+     */
+    private TimeValue timeValue;
+
+    /**
+     * Constructor.
+     * 
+     * @param expected The expected value.
+     */
+    private StringMatcher(String expected) {
+      this.expected = expected;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(Object value) {
+      if (value instanceof Number) {
+        return matches((Number) value);
+      } else if (value instanceof Date) {
+        return DateTimeValue.of(DateValue.from((Date) value)).equals(getDateTimeValue(value));
+      } else if (value instanceof Time) {
+        return TimeValue.from((Time) value).equals(getTimeValue(value));
+      } else if (value instanceof Timestamp) {
+        return DateTimeValue.from((Timestamp) value).equals(getDateTimeValue(value));
+      }
+      return expected.equals(value);
+    }
+
+    /**
+     * Returns if the number is equal to the expected value.
+     * 
+     * @param number The number.
+     * @return {@code true} if the number is equal to the expected value, {@code false} otherwise.
+     * @throws AssertJDBException If it is not possible to compare {@code number} to the expected value.
+     */
+    private boolean matches(Number number) {
+      try {
+        if (number instanceof Float) {
+          if (floatValue == null) {
+            floatValue = Float.parseFloat(expected);
+          }
+          return number.floatValue() == floatValue;
+        } else if (number instanceof Double) {
+          if (doubleValue == null) {
+            doubleValue = Double.parseDouble(expected);
+          }
+          return number.doubleValue() == doubleValue;
+        } else if (number instanceof BigInteger) {
+          if (bigInteger == null) {
+            bigInteger = new BigInteger(expected);
+          }
+          return ((BigInteger) number).compareTo(bigInteger) == 0;
+        } else if (number instanceof BigDecimal) {
+          if (bigDecimal == null) {
+            bigDecimal = new BigDecimal(expected);
+          }
+          return ((BigDecimal) number).compareTo(bigDecimal) == 0;
+        } else if (number instanceof Byte || number instanceof Short || number instanceof Integer
+            || number instanceof Long) {
+          if (longValue == null) {
+            longValue = Long.parseLong(expected);
+          }
+          return number.longValue() == longValue;
+        }
+      } catch (NumberFormatException e) {
+        throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, number);
+      }
+      return false;
+    }
+
+    /**
+     * Returns the expected value parsed as a {@link DateTimeValue}.
+     * 
+     * @param value The value to compare (used for the message of the exception).
+     * @return The expected value parsed.
+     * @throws AssertJDBException If the expected value is not a date/time.
+     */
+    private DateTimeValue getDateTimeValue(Object value) {
+      if (dateTimeValue == null) {
+        try {
+          dateTimeValue = DateTimeValue.parse(expected);
+        } catch (ParseException e) {
+          throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, value);
+        }
+      }
+      return dateTimeValue;
+    }
+
+    /**
+     * Returns the expected value parsed as a {@link TimeValue}.
+     * 
+     * @param value The value to compare (used for the message of the exception).
+     * @return The expected value parsed.
+     * @throws AssertJDBException If the expected value is not a time.
+     */
+    private TimeValue getTimeValue(Object value) {
+      if (timeValue == null) {
+        try {
+          timeValue = TimeValue.parse(expected);
+        } catch (ParseException e) {
+          throw new AssertJDBException("Expected <%s> is not correct to compare to <%s>", expected, value);
+        }
+      }
+      return timeValue;
+    }
+  }
+
+  /**
+   * Matcher of an expected {@link DateValue}.
+   */
+  private static final class DateValueMatcher extends ValueMatcher {
+
+    /**
+     * The expected value.
+     */
+    private final DateValue expected;
+    /**
+     * The expected value as a date/time (at midnight).
+     */
+    private final DateTimeValue expectedDateTime;
+
+    /**
+     * Constructor.
+     * 
+     * @param expected The expected value.
+     */
+    private DateValueMatcher(DateValue expected) {
+      this.expected = expected;
+      expectedDateTime = DateTimeValue.of(expected);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(Object value) {
+      if (value instanceof Date) {
+        return DateValue.from((Date) value).equals(expected);
+      } else if (value instanceof Timestamp) {
+        return DateTimeValue.from((Timestamp) value).equals(expectedDateTime);
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Matcher of an expected {@link TimeValue}.
+   */
+  private static final class TimeValueMatcher extends ValueMatcher {
+
+    /**
+     * The expected value.
+     */
+    private final TimeValue expected;
+
+    /**
+     * Constructor.
+     * 
+     * @param expected The expected value.
+     */
+    private TimeValueMatcher(TimeValue expected) {
+      this.expected = expected;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(Object value) {
+      return value instanceof Time && TimeValue.from((Time) value).equals(expected);
+    }
+  }
+
+  /**
+   * Matcher of an expected {@link DateTimeValue}.
+   */
+  private static final class DateTimeValueMatcher extends ValueMatcher {
+
+    /**
+     * The expected value.
+     */
+    private final DateTimeValue expected;
+
+    /**
+     * Constructor.
+     * 
+     * @param expected The expected value.
+     */
+    private DateTimeValueMatcher(DateTimeValue expected) {
+      this.expected = expected;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(Object value) {
+      if (value instanceof Date) {
+        return DateTimeValue.of(DateValue.from((Date) value)).equals(expected);
+      } else if (value instanceof Timestamp) {
+        return DateTimeValue.from((Timestamp) value).equals(expected);
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the merge of the operations in {@code ChangesJournal}.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class ChangesJournal_Test {
+
+  /**
+   * Returns a journal with a table with primary key and a table without primary key.
+   * 
+   * @return The journal.
+   */
+  private static ChangesJournal getChangesJournal() {
+    return new ChangesJournal().addTable("pk", Arrays.asList("id", "value"), Arrays.asList("id"))
+        .addTable("nopk", Arrays.asList("id", "value"), Collections.<String>emptyList());
+  }
+
+  /**
+   * This method test the operations on a table with primary key.
+   */
+  @Test
+  public void test_operations_with_pks() {
+    ChangesJournal changesJournal = getChangesJournal()
+        .addInsertion("pk", 1, "a")
+        .addModification("pk", new Object[] { 1, "a" }, new Object[] { 1, "b" })
+        .addModification("pk", new Object[] { 2, "a" }, new Object[] { 2, "b" })
+        .addModification("pk", new Object[] { 2, "b" }, new Object[] { 2, "a" })
+        .addModification("pk", new Object[] { 3, "a" }, new Object[] { 3, "b" })
+        .addInsertion("pk", 4, "a")
+        .addDeletion("pk", 4, "a")
+        .addDeletion("PK", 5, "a")
+        .addInsertion("pk", 5, "b")
+        .addModification("pk", new Object[] { 6, "a" }, new Object[] { 7, "a" });
+
+    List<Change> changesList = changesJournal.getChangesList();
+    assertThat(changesList).hasSize(5);
+    assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changesList.get(0).getRowAtEndPoint().getValuesList()).containsExactly(1, "b");
+    assertThat(changesList.get(0).getRowAtEndPoint().getPksValueList()).containsExactly(1);
+    assertThat(changesList.get(1).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changesList.get(1).getRowAtStartPoint().getValuesList()).containsExactly(3, "a");
+    assertThat(changesList.get(1).getRowAtEndPoint().getValuesList()).containsExactly(3, "b");
+    assertThat(changesList.get(2).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changesList.get(2).getRowAtEndPoint().getValuesList()).containsExactly(5, "b");
+    assertThat(changesList.get(3).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changesList.get(3).getRowAtStartPoint().getValuesList()).containsExactly(6, "a");
+    assertThat(changesList.get(4).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changesList.get(4).getRowAtEndPoint().getValuesList()).containsExactly(7, "a");
+    assertThat(changesList.get(4).getDataName()).isEqualTo("pk");
+  }
+
+  /**
+   * This method test the operations on a table without primary key.
+   */
+  @Test
+  public void test_operations_without_pks() {
+    ChangesJournal changesJournal = getChangesJournal()
+        .addInsertion("nopk", 1, "a")
+        .addDeletion("nopk", 1, "a")
+        .addModification("nopk", new Object[] { 2, "a" }, new Object[] { 2, "b" })
+        .addDeletion("nopk", 3, "a")
+        .addInsertion("nopk", 3, "a");
+
+    List<Change> changesList = changesJournal.getChangesList();
+    assertThat(changesList).hasSize(2);
+    assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changesList.get(0).getRowAtEndPoint().getValuesList()).containsExactly(2, "b");
+    assertThat(changesList.get(1).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changesList.get(1).getRowAtStartPoint().getValuesList()).containsExactly(2, "a");
+  }
+
+  /**
+   * This method should fail because the table is not in the journal.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_table_is_not_in_journal() {
+    getChangesJournal().addInsertion("unknown", 1, "a");
+  }
+
+  /**
+   * This method should fail because the number of values is not the number of columns.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_number_of_values_is_wrong() {
+    getChangesJournal().addInsertion("pk", 1);
+  }
+
+  /**
+   * This method should fail because the name of the table is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_table_name_is_null() {
+    new ChangesJournal().addTable(null, Arrays.asList("id"), Arrays.asList("id"));
+  }
+}
@@ -0,0 +1,270 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the capture of the changes in {@code Changes} (with {@code H2ChangesCapture}).
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class Changes_Capture_Test extends AbstractTest {
+
+  /**
+   * Returns the number of objects of the capture (triggers and journal table) in the database.
+   * 
+   * @return The number of objects.
+   * @throws SQLException
+   */
+  private int getNumberOfCaptureObjects() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT (SELECT COUNT(*) FROM INFORMATION_SCHEMA.TRIGGERS "
+            + "WHERE TRIGGER_NAME LIKE 'ASSERTJ_DB_%') + (SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES "
+            + "WHERE TABLE_NAME LIKE 'ASSERTJ_DB_%')")) {
+      resultSet.next();
+      return resultSet.getInt(1);
+    }
+  }
+
+  /**
+   * This method test the getter and the setter of the capture.
+   */
+  @Test
+  public void test_capture() {
+    Changes changes = new Changes(source);
+    assertThat(changes.getCapture()).isNull();
+    H2ChangesCapture capture = new H2ChangesCapture();
+    assertThat(changes.setCapture(capture)).isSameAs(changes);
+    assertThat(changes.getCapture()).isSameAs(capture);
+  }
+
+  /**
+   * This method test that the changes captured are the same than the changes found by comparing the tables.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_captured_are_the_same_than_compared() throws SQLException {
+    Changes changesCaptured = new Changes(source).setCapture(new H2ChangesCapture());
+    Changes changesCompared = new Changes(source);
+    changesCompared.setStartPointNow();
+    changesCaptured.setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984)");
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    update("update movie set year = 2010 where id = 4");
+    update("update test set var12 = 'changed', var9 = '2015-06-01' where var1 = 1");
+    update("delete from test2 where VAR1 is null");
+    update("insert into actor values(4, 'Murray', 'Bill', '1950-09-21')");
+    update("delete from actor where id = 4");
+    changesCaptured.setEndPointNow();
+    changesCompared.setEndPointNow();
+
+    assertThat(changesCaptured.getTablesAtStartPointList()).isNull();
+    assertThat(changesCaptured.getTablesAtEndPointList()).isNull();
+    List<Change> changesCapturedList = changesCaptured.getChangesList();
+    List<Change> changesComparedList = changesCompared.getChangesList();
+    assertThat(changesCapturedList).hasSize(4);
+    assertThat(changesCapturedList).hasSameSizeAs(changesComparedList);
+    for (int index = 0; index < changesCapturedList.size(); index++) {
+      Change changeCaptured = changesCapturedList.get(index);
+      Change changeCompared = changesComparedList.get(index);
+      assertThat(changeCaptured.getChangeType()).isEqualTo(changeCompared.getChangeType());
+      assertThat(changeCaptured.getDataName()).isEqualToIgnoringCase(changeCompared.getDataName());
+      if (changeCompared.getRowAtStartPoint() != null) {
+        assertThat(changeCaptured.getRowAtStartPoint().hasValues(changeCompared.getRowAtStartPoint())).isTrue();
+      }
+      if (changeCompared.getRowAtEndPoint() != null) {
+        assertThat(changeCaptured.getRowAtEndPoint().hasValues(changeCompared.getRowAtEndPoint())).isTrue();
+      }
+    }
+    assertThat(changesCapturedList.get(0).getRowAtEndPoint().getValuesList()).containsExactly(
+        new BigDecimal(4), "Ghostbusters", new BigDecimal(2010));
+  }
+
+  /**
+   * This method test the capture on tables with columns to check and columns to exclude.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_capture_with_columns() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie", null, new String[] { "title" }),
+        new Table(source, "actor", new String[] { "id", "name" }, null)).setCapture(new H2ChangesCapture());
+    changes.setStartPointNow();
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    update("update actor set firstname = 'Sig' where id = 1");
+    update("update actor set name = 'Unknown' where id = 1");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(1);
+    Change change = changes.getChangesList().get(0);
+    assertThat(change.getDataName()).isEqualTo("actor");
+    assertThat(change.getRowAtEndPoint().getColumnsNameList()).containsExactly("ID", "NAME");
+    assertThat(change.getRowAtEndPoint().getPksNameList()).containsExactly("ID");
+    assertThat(change.getRowAtEndPoint().getValuesList()).containsExactly(new BigDecimal(1), "Unknown");
+    assertThat(changes.getChangesOfTable("actor").getChangesList()).hasSize(1);
+  }
+
+  /**
+   * This method test that the capture can be started again and that the triggers are removed.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_capture_started_again() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setCapture(new H2ChangesCapture());
+    changes.setStartPointNow();
+    update("update movie set year = 2000 where id = 3");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+
+    update("insert into movie values(5, 'Ghostbusters', 1984)");
+    changes.setStartPointNow();
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).isEmpty();
+  }
+
+  /**
+   * This method test that the capture can be started when the capture before is not stopped.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_capture_started_when_not_stopped() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setCapture(new H2ChangesCapture());
+    changes.setStartPointNow();
+    update("update movie set year = 2000 where id = 3");
+    new Changes(new Table(source, "movie")).setCapture(new H2ChangesCapture()).setStartPointNow();
+    changes.setStartPointNow();
+    update("update movie set year = 2001 where id = 3");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(getNumberOfCaptureObjects()).isZero();
+  }
+
+  /**
+   * This method test that the capture is aborted.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_capture_aborted() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie"), new Table(source, "actor"))
+        .setCapture(new H2ChangesCapture());
+    assertThat(changes.abortCapture()).isSameAs(changes);
+    changes.setStartPointNow();
+    assertThat(getNumberOfCaptureObjects()).isEqualTo(3);
+    update("update movie set year = 2000 where id = 3");
+    assertThat(changes.abortCapture()).isSameAs(changes);
+
+    assertThat(getNumberOfCaptureObjects()).isZero();
+    try {
+      changes.setEndPointNow();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo("Start point must be set before");
+    }
+  }
+
+  /**
+   * This method test that the triggers are removed when the start of the capture fails.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  public void test_capture_removed_when_the_start_fails() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie"), new Table(source, "unknown"))
+        .setCapture(new H2ChangesCapture());
+    try {
+      changes.setStartPointNow();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getCause()).isInstanceOf(SQLException.class);
+    }
+
+    assertThat(getNumberOfCaptureObjects()).isZero();
+  }
+
+  /**
+   * This method test the capture on tables with names qualified with the schema.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_capture_with_qualified_names() throws SQLException {
+    Changes changesCaptured = new Changes(new Table(source, "PUBLIC.MOVIE"), new Table(source, "public.actor"))
+        .setCapture(new H2ChangesCapture());
+    Changes changesCompared = new Changes(new Table(source, "PUBLIC.MOVIE"), new Table(source, "public.actor"));
+    changesCaptured.setStartPointNow();
+    changesCompared.setStartPointNow();
+    update("update movie set year = 2000 where id = 3");
+    update("insert into actor values(4, 'Murray', 'Bill', '1950-09-21')");
+    changesCaptured.setEndPointNow();
+    changesCompared.setEndPointNow();
+
+    List<Change> changesCapturedList = changesCaptured.getChangesList();
+    List<Change> changesComparedList = changesCompared.getChangesList();
+    assertThat(changesCapturedList).isNotEmpty().hasSameSizeAs(changesComparedList);
+    for (int index = 0; index < changesCapturedList.size(); index++) {
+      Change changeCaptured = changesCapturedList.get(index);
+      Change changeCompared = changesComparedList.get(index);
+      assertThat(changeCaptured.getChangeType()).isEqualTo(changeCompared.getChangeType());
+      assertThat(changeCaptured.getDataName()).isEqualTo(changeCompared.getDataName());
+    }
+    assertThat(changesCaptured.getChangesOfTable("PUBLIC.MOVIE").getChangesList()).isNotEmpty();
+    assertThat(changesCaptured.getChangesOfTable("public.actor").getChangesList()).hasSize(1);
+    assertThat(getNumberOfCaptureObjects()).isZero();
+  }
+
+  /**
+   * This method test the quoting of the names.
+   */
+  @Test
+  public void test_quote_name() {
+    assertThat(H2ChangesCapture.quoteName("movie")).isEqualTo("\"MOVIE\"");
+    assertThat(H2ChangesCapture.quoteName("public.movie")).isEqualTo("\"PUBLIC\".\"MOVIE\"");
+    assertThat(H2ChangesCapture.quoteName("\"Lower\"")).isEqualTo("\"Lower\"");
+  }
+
+  /**
+   * This method should fail because the end point is set before the start point.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_start_point_is_not_set() {
+    new Changes(source).setCapture(new H2ChangesCapture()).setEndPointNow();
+  }
+}
@@ -0,0 +1,240 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the fingerprints of the tables in {@code Changes} (the tables which did not change are not loaded again).
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class Changes_Fingerprint_Test extends AbstractTest {
+
+  /**
+   * This method test the getter and the setter of the expressions.
+   */
+  @Test
+  public void test_fingerprint_expression() {
+    Changes changes = new Changes(source);
+    assertThat(changes.getFingerprintExpression("movie")).isNull();
+    assertThat(changes.setFingerprintExpression("movie", "MAX(year)")).isSameAs(changes);
+    assertThat(changes.getFingerprintExpression("movie")).isEqualTo("MAX(year)");
+    assertThat(changes.getFingerprintExpression("MOVIE")).isEqualTo("MAX(year)");
+    changes.setFingerprintExpression("Movie", null);
+    assertThat(changes.getFingerprintExpression("movie")).isNull();
+  }
+
+  /**
+   * This method should fail because the name of the table is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_table_name_is_null() {
+    new Changes(source).setFingerprintExpression(null, "MAX(year)");
+  }
+
+  /**
+   * This method test that the tables which did not change are reused at end point.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_unchanged_table_is_reused() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie"), new Table(source, "actor"))
+        .setFingerprintExpression("movie", "SUM(id), MAX(year)");
+    changes.setStartPointNow();
+    update("update actor set name = 'Unknown' where id = 1");
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtEndPointList().get(0)).isSameAs(changes.getTablesAtStartPointList().get(0));
+    assertThat(changes.getTablesAtEndPointList().get(1)).isNotSameAs(changes.getTablesAtStartPointList().get(1));
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getDataName()).isEqualTo("actor");
+  }
+
+  /**
+   * This method test that the tables which changed are loaded again at end point.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changed_table_is_loaded() throws SQLException {
+    Changes changes = new Changes(source).setFingerprintExpression("movie", "MAX(year)");
+    changes.setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984)");
+    changes.setEndPointNow();
+
+    for (int index = 0; index < changes.getTablesList().size(); index++) {
+      assertThat(changes.getTablesAtEndPointList().get(index))
+          .isNotSameAs(changes.getTablesAtStartPointList().get(index));
+    }
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changes.getChangesList().get(0).getRowAtEndPoint().getValuesList()).containsExactly(
+        new BigDecimal(4), "Ghostbusters", new BigDecimal(1984));
+  }
+
+  /**
+   * This method test that a change which does not change the fingerprint is not detected.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_change_not_in_fingerprint_is_not_detected() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setFingerprintExpression("movie", "MAX(year)");
+    changes.setStartPointNow();
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).isEmpty();
+
+    changes.setFingerprintExpression("movie", "MAX(year), MAX(title)");
+    changes.setStartPointNow();
+    update("update movie set title = 'Village' where id = 2");
+    changes.setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+  }
+
+  /**
+   * This method should fail because the expression is not valid.
+   */
+  @Test
+  public void should_fail_because_expression_is_not_valid() {
+    Changes changes = new Changes(new Table(source, "movie")).setFingerprintExpression("movie", "MAX(unknown)");
+    try {
+      changes.setStartPointNow();
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getCause()).isInstanceOf(SQLException.class);
+    }
+  }
+
+  /**
+   * This method test the getters and the setter of the buckets.
+   */
+  @Test
+  public void test_fingerprint_buckets() {
+    Changes changes = new Changes(source);
+    assertThat(changes.getFingerprintBucketsColumn("movie")).isNull();
+    assertThat(changes.getFingerprintBucketSize("movie")).isEqualTo(0);
+    assertThat(changes.setFingerprintBuckets("movie", "id", 100)).isSameAs(changes);
+    assertThat(changes.getFingerprintBucketsColumn("MOVIE")).isEqualTo("ID");
+    assertThat(changes.getFingerprintBucketSize("MOVIE")).isEqualTo(100);
+    changes.setFingerprintBuckets("movie", null, 0);
+    assertThat(changes.getFingerprintBucketsColumn("movie")).isNull();
+    assertThat(changes.getFingerprintBucketSize("movie")).isEqualTo(0);
+  }
+
+  /**
+   * This method should fail because the size of the buckets is less than 1.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_bucket_size_is_less_than_one() {
+    new Changes(source).setFingerprintBuckets("movie", "id", 0);
+  }
+
+  /**
+   * This method test that only the rows of the buckets which changed are loaded at end point.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_only_changed_buckets_are_loaded() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setFingerprintExpression("movie", "MAX(title)")
+        .setFingerprintBuckets("movie", "id", 1);
+    changes.setStartPointNow();
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    changes.setEndPointNow();
+
+    Table tableAtStartPoint = changes.getTablesAtStartPointList().get(0);
+    Table tableAtEndPoint = changes.getTablesAtEndPointList().get(0);
+    assertThat(tableAtEndPoint).isNotSameAs(tableAtStartPoint);
+    assertThat(tableAtEndPoint.getRowsList()).hasSize(3);
+    assertThat(tableAtEndPoint.getRow(0)).isSameAs(tableAtStartPoint.getRow(0));
+    assertThat(tableAtEndPoint.getRow(1)).isNotSameAs(tableAtStartPoint.getRow(1));
+    assertThat(tableAtEndPoint.getRow(2)).isSameAs(tableAtStartPoint.getRow(2));
+    assertThat(tableAtEndPoint.getRequest()).isEqualTo("SELECT * FROM movie");
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changes.getChangesList().get(0).getRowAtEndPoint().getValuesList()).containsExactly(
+        new BigDecimal(2), "The Village (2004)", new BigDecimal(2004));
+  }
+
+  /**
+   * This method test the creations and the deletions with the buckets.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_creation_and_deletion_with_buckets() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setFingerprintExpression("movie", "MAX(title)")
+        .setFingerprintBuckets("movie", "id", 2);
+    changes.setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984)");
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtEndPointList().get(0).getRowsList()).hasSize(4);
+    assertThat(changes.getTablesAtEndPointList().get(0).getRow(0))
+        .isSameAs(changes.getTablesAtStartPointList().get(0).getRow(0));
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+
+    changes.setStartPointNow();
+    update("delete from movie where id = 4");
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtEndPointList().get(0).getRowsList()).hasSize(3);
+    assertThat(changes.getTablesAtEndPointList().get(0).getRow(2))
+        .isSameAs(changes.getTablesAtStartPointList().get(0).getRow(2));
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changes.getChangesList().get(0).getRowAtStartPoint().getValuesList()).containsExactly(
+        new BigDecimal(4), "Ghostbusters", new BigDecimal(1984));
+  }
+
+  /**
+   * This method test that all the rows are loaded if more than the half of the buckets changed.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_all_rows_are_loaded_if_most_buckets_changed() throws SQLException {
+    Changes changes = new Changes(new Table(source, "movie")).setFingerprintExpression("movie", "MAX(title)")
+        .setFingerprintBuckets("movie", "id", 1);
+    changes.setStartPointNow();
+    update("update movie set title = concat(title, '!')");
+    changes.setEndPointNow();
+
+    for (int index = 0; index < 3; index++) {
+      assertThat(changes.getTablesAtEndPointList().get(0).getRow(index))
+          .isNotSameAs(changes.getTablesAtStartPointList().get(0).getRow(index));
+    }
+    assertThat(changes.getChangesList()).hasSize(3);
+  }
+}
@@ -0,0 +1,164 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.DefaultDataSource;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the loading of the tables in {@code Changes} (in parallel or in one transaction).
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class Changes_Loading_Test extends AbstractTest {
+
+  /**
+   * This method test the loading in parallel with a pool created for each point.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_loading_in_parallel() throws SQLException {
+    Changes changes = new Changes(source).setParallelism(3);
+    assertThat(changes.getParallelism()).isEqualTo(3);
+    changes.setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984)");
+    update("delete from test2 where VAR1 is null");
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtStartPointList()).hasSize(changes.getTablesList().size());
+    assertThat(changes.getTablesAtEndPointList()).hasSize(changes.getTablesList().size());
+    assertThat(changes.getChangesList()).hasSize(2);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changes.getChangesList().get(0).getRowAtEndPoint().getValuesList()).containsExactly(
+        new BigDecimal(4), "Ghostbusters", new BigDecimal(1984));
+    assertThat(changes.getChangesList().get(1).getChangeType()).isEqualTo(ChangeType.DELETION);
+  }
+
+  /**
+   * This method test the loading in parallel with an executor.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_loading_in_parallel_with_executor() throws SQLException {
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Changes changes = new Changes(new Table(source, "movie"), new Table(source, "actor"),
+          new Table(source, "interpretation")).setParallelism(2).setExecutor(executor);
+      assertThat(changes.getExecutor()).isSameAs(executor);
+      changes.setStartPointNow();
+      update("update movie set title = 'The Village (2004)' where id = 2");
+      changes.setEndPointNow();
+
+      assertThat(changes.getTablesAtEndPointList().get(0).getName()).isEqualTo("movie");
+      assertThat(changes.getTablesAtEndPointList().get(1).getName()).isEqualTo("actor");
+      assertThat(changes.getTablesAtEndPointList().get(2).getName()).isEqualTo("interpretation");
+      assertThat(changes.getChangesList()).hasSize(1);
+      assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+      assertThat(executor.isShutdown()).isFalse();
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  /**
+   * This method test the loading in one transaction.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_loading_in_transaction() throws SQLException {
+    Changes changes = new Changes(source).setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+    assertThat(changes.getTransactionIsolation()).isEqualTo(Connection.TRANSACTION_SERIALIZABLE);
+    changes.setStartPointNow();
+    update("delete from test2 where VAR1 is null");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(1);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.DELETION);
+  }
+
+  /**
+   * This method test that only one connection is used to list and to load all the tables at each point.
+   */
+  @Test
+  public void test_loading_with_one_connection_by_point() {
+    final AtomicInteger numberOfConnections = new AtomicInteger();
+    DataSource ds = new DefaultDataSource() {
+      @Override
+      public Connection getConnection() throws SQLException {
+        numberOfConnections.incrementAndGet();
+        return dataSource.getConnection();
+      }
+    };
+
+    Changes changes = new Changes(ds);
+    changes.setStartPointNow();
+    assertThat(numberOfConnections.get()).isEqualTo(1);
+    changes.setEndPointNow();
+    assertThat(numberOfConnections.get()).isEqualTo(2);
+    assertThat(changes.getTablesList().size()).isGreaterThan(1);
+    assertThat(changes.getChangesList()).hasSize(0);
+
+    changes = new Changes(new Table(ds, "movie"), new Table(ds, "actor"), new Table(source, "interpretation"));
+    changes.setStartPointNow();
+    assertThat(numberOfConnections.get()).isEqualTo(3);
+  }
+
+  /**
+   * This method should fail because the parallelism is less than 1.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_parallelism_is_less_than_one() {
+    new Changes(source).setParallelism(0);
+  }
+
+  /**
+   * This method should fail because the connection throw an exception during a loading in parallel.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_connection_throws_exception_during_parallel_loading() {
+    DataSource ds = new DefaultDataSource();
+    Changes changes = new Changes(new Table(ds, "movie"), new Table(ds, "actor")).setParallelism(2);
+    changes.setStartPointNow();
+  }
+
+  /**
+   * This method should fail because the connection throw an exception during a loading in one transaction.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_connection_throws_exception_during_transaction_loading() {
+    DataSource ds = new DefaultDataSource();
+    Changes changes = new Changes(new Table(ds, "movie")).setTransactionIsolation(
+        Connection.TRANSACTION_REPEATABLE_READ);
+    changes.setStartPointNow();
+  }
+}
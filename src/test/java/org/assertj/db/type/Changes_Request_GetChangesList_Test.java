@@ -214,4 +214,60 @@ public class Changes_Request_GetChangesList_Test extends AbstractTest {
     assertThat(change.getRowAtEndPoint()).isNull();
   }
 
+  /**
+   * This method test when there are changes on duplicated rows without primary key.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_when_there_are_changes_on_duplicated_rows_without_primary_key() throws SQLException {
+    update("insert into test2(VAR1, VAR12) values(200, 'duplicate')");
+    update("insert into test2(VAR1, VAR12) values(200, 'duplicate')");
+    Changes changes = new Changes(new Request(dataSource, "select VAR1, VAR12 from test2"));
+    changes.setStartPointNow();
+    update("delete from test2 where VAR1 = 200");
+    update("insert into test2(VAR1, VAR12) values(200, 'duplicate')");
+    update("insert into test2(VAR1, VAR12) values(300, 'duplicate')");
+    update("insert into test2(VAR1, VAR12) values(300, 'duplicate')");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(3);
+    assertThat(changes.getChangesOfType(ChangeType.CREATION).getChangesList()).hasSize(2);
+    assertThat(changes.getChangesOfType(ChangeType.DELETION).getChangesList()).hasSize(1);
+    Change change = changes.getChangesOfType(ChangeType.DELETION).getChangesList().get(0);
+    assertThat(change.getRowAtStartPoint().getValuesList()).containsExactly(200, "duplicate");
+    change = changes.getChangesOfType(ChangeType.CREATION).getChangesList().get(0);
+    assertThat(change.getRowAtEndPoint().getValuesList()).containsExactly(300, "duplicate");
+  }
+
+  /**
+   * This method test when there are changes with a primary key which is not a number or a text (so the rows are not
+   * compared in one pass).
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_when_there_are_changes_with_date_primary_key() throws SQLException {
+    Changes changes = new Changes(new Request(dataSource, "select birth, name from actor").setPksName("birth"));
+    changes.setStartPointNow();
+    update("update actor set name = 'Sigourney Weaver' where id = 1");
+    update("delete from interpretation where id_actor = 2");
+    update("delete from actor where id = 2");
+    update("insert into actor values(4, 'Murray', 'Bill', '1950-09-21')");
+    changes.setEndPointNow();
+
+    assertThat(changes.getChangesList()).hasSize(3);
+    assertThat(changes.getChangesList().get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changes.getChangesList().get(0).getRowAtEndPoint().getValuesList()).containsExactly(
+        Date.valueOf("1950-09-21"), "Murray");
+    assertThat(changes.getChangesList().get(1).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changes.getChangesList().get(1).getRowAtEndPoint().getValuesList()).containsExactly(
+        Date.valueOf("1949-10-08"), "Sigourney Weaver");
+    assertThat(changes.getChangesList().get(2).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(changes.getChangesList().get(2).getRowAtStartPoint().getValuesList()).containsExactly(
+        Date.valueOf("1974-10-28"), "Phoenix");
+  }
+
 }
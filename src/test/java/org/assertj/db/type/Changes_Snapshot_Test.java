@@ -0,0 +1,300 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.StreamCorruptedException;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the start point of {@code Changes} read from a snapshot file.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class Changes_Snapshot_Test extends AbstractTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * This method test that the changes are the same with a start point read from a file.
+   * 
+   * @throws IOException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_start_point_from_file() throws IOException {
+    File file = temporaryFolder.newFile("snapshot");
+    Changes changesCompared = new Changes(source).setStartPointNow();
+    assertThat(new Changes(source).setStartPointNow().saveStartPointTo(file)).isNotNull();
+    update("insert into movie values(4, 'Ghostbusters', 1984)");
+    update("update movie set title = 'The Village (2004)' where id = 2");
+    update("update test set var12 = 'changed', var9 = '2015-06-01' where var1 = 1");
+    update("delete from test2 where VAR1 is null");
+    changesCompared.setEndPointNow();
+
+    Changes changes = new Changes(source);
+    assertThat(changes.setStartPointFrom(file)).isSameAs(changes);
+    changes.setEndPointNow();
+
+    List<Change> changesList = changes.getChangesList();
+    List<Change> changesComparedList = changesCompared.getChangesList();
+    assertThat(changesList).hasSize(4);
+    assertThat(changesList).hasSameSizeAs(changesComparedList);
+    for (int index = 0; index < changesList.size(); index++) {
+      Change change = changesList.get(index);
+      Change changeCompared = changesComparedList.get(index);
+      assertThat(change.getChangeType()).isEqualTo(changeCompared.getChangeType());
+      assertThat(change.getDataName()).isEqualTo(changeCompared.getDataName());
+      if (changeCompared.getRowAtStartPoint() != null) {
+        assertThat(change.getRowAtStartPoint().hasValues(changeCompared.getRowAtStartPoint())).isTrue();
+      }
+      if (changeCompared.getRowAtEndPoint() != null) {
+        assertThat(change.getRowAtEndPoint().hasValues(changeCompared.getRowAtEndPoint())).isTrue();
+      }
+    }
+  }
+
+  /**
+   * This method test the start point read from a file saved with a table.
+   * 
+   * @throws IOException
+   */
+  @Test
+  @NeedReload
+  public void test_table_saved() throws IOException {
+    File file = temporaryFolder.newFile("movie");
+    Table table = new Table(source, "movie");
+    assertThat(table.saveTo(file)).isSameAs(table);
+    update("update movie set year = 2010 where id = 2");
+
+    Changes changes = new Changes(new Table(source, "movie")).setStartPointFrom(file).setEndPointNow();
+    List<Change> changesList = changes.getChangesList();
+    assertThat(changesList).hasSize(1);
+    assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changesList.get(0).getRowAtStartPoint().getValuesList().get(2)).isEqualTo(new java.math.BigDecimal(2004));
+    assertThat(changesList.get(0).getRowAtEndPoint().getValuesList().get(2)).isEqualTo(new java.math.BigDecimal(2010));
+  }
+
+  /**
+   * This method test the start point read from a file saved with a request.
+   * 
+   * @throws IOException
+   */
+  @Test
+  @NeedReload
+  public void test_request_saved() throws IOException {
+    File file = temporaryFolder.newFile("request");
+    Request request = new Request(source, "select * from actor");
+    new Changes(request).setStartPointNow().saveStartPointTo(file);
+    update("insert into actor values(4, 'Murray', 'Bill', '1950-09-21')");
+
+    Changes changes = new Changes(new Request(source, "select * from actor")).setStartPointFrom(file)
+        .setEndPointNow();
+    List<Change> changesList = changes.getChangesList();
+    assertThat(changesList).hasSize(1);
+    assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changesList.get(0).getRowAtEndPoint().getValuesList().get(1)).isEqualTo("Murray");
+  }
+
+  /**
+   * This method test the start point read from a file saved with a request with parameters.
+   * 
+   * @throws IOException
+   */
+  @Test
+  @NeedReload
+  public void test_request_with_parameters_saved() throws IOException {
+    File file = temporaryFolder.newFile("request_with_parameters");
+    new Changes(new Request(source, "select * from movie where id < ?", 3).setPksName("ID")).setStartPointNow()
+        .saveStartPointTo(file);
+    update("update movie set title = 'Alien 2' where id = 1");
+
+    Changes changes = new Changes(new Request(source, "select * from movie where id < ?", 3).setPksName("ID"))
+        .setStartPointFrom(file).setEndPointNow();
+    List<Change> changesList = changes.getChangesList();
+    assertThat(changesList).hasSize(1);
+    assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changesList.get(0).getRowAtStartPoint().getValuesList().get(1)).isEqualTo("Alien");
+  }
+
+  /**
+   * This method test that the {@code UUID} values are saved.
+   * 
+   * @throws IOException
+   */
+  @Test
+  public void test_uuid_saved() throws IOException {
+    File file = temporaryFolder.newFile("uuid");
+    new Request(source, "select CAST('0f8fad5b-d9cb-469f-a165-70867728950e' AS UUID) as uuid from movie where id = 1")
+        .saveTo(file);
+
+    List<AbstractDbData<?>> dataList = SnapshotFile.read(file);
+    assertThat(dataList.get(0).getRow(0).getValuesList().get(0))
+        .isEqualTo(UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e"));
+  }
+
+  /**
+   * This method should fail because a value of the data can only be written with the Java serialization.
+   */
+  @Test
+  public void should_fail_because_value_can_not_be_saved() {
+    try {
+      new Request(source, "select (1, 2) as values from movie").saveTo(new File(temporaryFolder.getRoot(), "array"));
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getCause()).isInstanceOf(NotSerializableException.class);
+    }
+  }
+
+  /**
+   * This method should fail because the file contains a value written with the Java serialization.
+   * 
+   * @throws IOException
+   */
+  @Test
+  public void should_fail_because_file_contains_serialized_value() throws IOException {
+    File file = temporaryFolder.newFile("serialized");
+    try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(new FileOutputStream(file)))) {
+      output.writeInt(0x41444253);
+      output.writeInt(2);
+      output.writeInt(1);
+      output.writeUTF(DataType.TABLE.name());
+      ValuesEncoding.writeValue(output, new StringBuilder("movie"), true);
+    }
+    try {
+      new Changes(source).setStartPointFrom(file);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getCause()).isInstanceOf(StreamCorruptedException.class);
+    }
+  }
+
+  /**
+   * This method should fail because the start point is not set.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_start_point_is_not_set() {
+    new Changes(source).saveStartPointTo(new File(temporaryFolder.getRoot(), "snapshot"));
+  }
+
+  /**
+   * This method should fail because the table is not in the file.
+   * 
+   * @throws IOException
+   */
+  @Test
+  public void should_fail_because_table_is_not_in_snapshot() throws IOException {
+    File file = temporaryFolder.newFile("movie");
+    new Table(source, "movie").saveTo(file);
+    try {
+      new Changes(new Table(source, "actor")).setStartPointFrom(file);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo(String.format("The table actor is not in the snapshot %s", file));
+    }
+  }
+
+  /**
+   * This method should fail because the request is not in the file.
+   * 
+   * @throws IOException
+   */
+  @Test
+  public void should_fail_because_request_is_not_in_snapshot() throws IOException {
+    File file = temporaryFolder.newFile("movie");
+    new Table(source, "movie").saveTo(file);
+    try {
+      new Changes(new Request(source, "select * from movie")).setStartPointFrom(file);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo(
+          String.format("The request select * from movie is not in the snapshot %s", file));
+    }
+  }
+
+  /**
+   * This method should fail because the request is in the file with other parameters.
+   * 
+   * @throws IOException
+   */
+  @Test
+  public void should_fail_because_request_with_other_parameters_is_not_in_snapshot() throws IOException {
+    File file = temporaryFolder.newFile("movie_with_parameters");
+    new Request(source, "select * from movie where id < ?", 3).saveTo(file);
+    try {
+      new Changes(new Request(source, "select * from movie where id < ?", 2)).setStartPointFrom(file);
+      fail("An exception must be raised");
+    } catch (AssertJDBException e) {
+      assertThat(e.getMessage()).isEqualTo(
+          String.format("The request select * from movie where id < ? is not in the snapshot %s", file));
+    }
+  }
+
+  /**
+   * This method should fail because the file is not a snapshot.
+   * 
+   * @throws IOException
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_file_is_not_a_snapshot() throws IOException {
+    File file = temporaryFolder.newFile("other");
+    try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(new FileOutputStream(file)))) {
+      output.writeInt(12345);
+      output.writeInt(1);
+    }
+    new Changes(source).setStartPointFrom(file);
+  }
+
+  /**
+   * This method should fail because the start point can not be read from a file with a capture.
+   * 
+   * @throws IOException
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_capture_is_set() throws IOException {
+    File file = temporaryFolder.newFile("movie");
+    new Table(source, "movie").saveTo(file);
+    new Changes(source).setCapture(new H2ChangesCapture()).setStartPointFrom(file);
+  }
+
+  /**
+   * This method should fail because the columns are not the same at start point and at end point.
+   * 
+   * @throws IOException
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_columns_are_different() throws IOException {
+    File file = temporaryFolder.newFile("movie");
+    new Table(source, "movie").saveTo(file);
+    new Changes(new Table(source, "movie", new String[] { "id", "title" }, null)).setStartPointFrom(file)
+        .setEndPointNow().getChangesList();
+  }
+}
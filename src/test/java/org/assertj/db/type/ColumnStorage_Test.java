@@ -0,0 +1,101 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the storage of the values of a column.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class ColumnStorage_Test {
+
+  /**
+   * Builds a storage with values.
+   * 
+   * @param values The values.
+   * @return The storage.
+   */
+  private static ColumnStorage build(Object... values) {
+    ColumnStorage.Builder builder = new ColumnStorage.Builder();
+    for (Object value : values) {
+      builder.add(value);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Returns the values of a storage.
+   * 
+   * @param storage The storage.
+   * @return The values.
+   */
+  private static Object[] getValues(ColumnStorage storage) {
+    Object[] values = new Object[storage.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = storage.get(i);
+    }
+    return values;
+  }
+
+  /**
+   * This method test the storage of the values of a primitive type.
+   */
+  @Test
+  public void test_storage_of_primitive_values() {
+    assertThat(getValues(build(null, 1, null, 100000, -5))).containsExactly(null, 1, null, 100000, -5);
+    assertThat(getValues(build(1L, null, Long.MAX_VALUE))).containsExactly(1L, null, Long.MAX_VALUE);
+    assertThat(getValues(build(1.5d, Double.NaN, null))).containsExactly(1.5d, Double.NaN, null);
+    assertThat(build(1, 2).get(0)).isInstanceOf(Integer.class);
+    assertThat(build(1L, 2L).get(0)).isInstanceOf(Long.class);
+  }
+
+  /**
+   * This method test the storage of the texts.
+   */
+  @Test
+  public void test_storage_of_texts() {
+    ColumnStorage storage = build("a", "b", null, "a");
+
+    assertThat(getValues(storage)).containsExactly("a", "b", null, "a");
+    assertThat(storage.get(0)).isSameAs(storage.get(3));
+  }
+
+  /**
+   * This method test the storage of values of other classes or of different classes.
+   */
+  @Test
+  public void test_storage_of_other_values() {
+    assertThat(getValues(build(new BigDecimal("1.5"), null))).containsExactly(new BigDecimal("1.5"), null);
+    assertThat(getValues(build(null, 1, 2L, "3"))).containsExactly(null, 1, 2L, "3");
+    assertThat(getValues(build("a", 1))).containsExactly("a", 1);
+    assertThat(getValues(build(null, null))).containsExactly(null, null);
+    assertThat(build().size()).isEqualTo(0);
+  }
+
+  /**
+   * This method test the values of a row which are a view on the storages.
+   */
+  @Test
+  public void test_row_values() {
+    ColumnStorage[] columnsStorage = { build(1, 2), build("a", "b") };
+
+    assertThat(new RowValuesList(columnsStorage, 1)).containsExactly(2, "b");
+  }
+}
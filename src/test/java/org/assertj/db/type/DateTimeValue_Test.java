@@ -576,4 +576,50 @@ public class DateTimeValue_Test extends AbstractTest {
     assertThat(
         DateTimeValue.of(DateValue.of(2007, 12, 23)).isMidnight()).isTrue();
   }
+
+  /**
+   * This method should fail because the separator between the date and the time is not {@code T}.
+   * 
+   * @throws ParseException
+   */
+  @Test(expected = ParseException.class)
+  public void should_parse_fail_if_date_time_has_bad_separator_between_date_and_time() throws ParseException {
+    DateTimeValue.parse("2007-12-23 09:01");
+  }
+
+  /**
+   * This method should fail because the separator of the nanoseconds is not a point.
+   * 
+   * @throws ParseException
+   */
+  @Test(expected = ParseException.class)
+  public void should_parse_fail_if_date_time_has_bad_separator_of_nanoseconds() throws ParseException {
+    DateTimeValue.parse("2007-12-23T09:01:06a000000003");
+  }
+
+  /**
+   * This method should fail because the digits are not ASCII digits.
+   * 
+   * @throws ParseException
+   */
+  @Test(expected = ParseException.class)
+  public void should_parse_fail_if_date_time_has_not_ascii_digits() throws ParseException {
+    DateTimeValue.parse("2007-12-23T09:0\u0661");
+  }
+
+  /**
+   * This method test the parsing of the different formats.
+   * 
+   * @throws ParseException
+   */
+  @Test
+  public void test_parse_formats() throws ParseException {
+    assertThat(DateTimeValue.parse("2007-12-23")).isEqualTo(DateTimeValue.of(DateValue.of(2007, 12, 23)));
+    assertThat(DateTimeValue.parse("2007-12-23T09:01")).isEqualTo(
+        DateTimeValue.of(DateValue.of(2007, 12, 23), TimeValue.of(9, 1)));
+    assertThat(DateTimeValue.parse("2007-12-23T09:01:06")).isEqualTo(
+        DateTimeValue.of(DateValue.of(2007, 12, 23), TimeValue.of(9, 1, 6)));
+    assertThat(DateTimeValue.parse("2007-12-23T09:01:06.000000003")).isEqualTo(
+        DateTimeValue.of(DateValue.of(2007, 12, 23), TimeValue.of(9, 1, 6, 3)));
+  }
 }
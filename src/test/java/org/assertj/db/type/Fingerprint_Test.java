@@ -0,0 +1,76 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the buckets of {@code Fingerprint}.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class Fingerprint_Test {
+
+  /**
+   * This method test the request.
+   */
+  @Test
+  public void test_request() {
+    assertThat(new Fingerprint("MAX(title)", null, 0).getRequest("movie"))
+        .isEqualTo("SELECT 0, COUNT(*), MAX(title) FROM movie");
+    assertThat(new Fingerprint("MAX(title)", "ID", 10).getRequest("movie"))
+        .isEqualTo("SELECT FLOOR(ID / 10.0), COUNT(*), MAX(title) FROM movie GROUP BY FLOOR(ID / 10.0)");
+  }
+
+  /**
+   * This method test the bucket of a value.
+   */
+  @Test
+  public void test_bucket() {
+    Fingerprint fingerprint = new Fingerprint("MAX(title)", "ID", 10);
+    assertThat(fingerprint.getBucket(null)).isNull();
+    assertThat(fingerprint.getBucket(0)).isEqualTo(0L);
+    assertThat(fingerprint.getBucket(9L)).isEqualTo(0L);
+    assertThat(fingerprint.getBucket(new BigDecimal(10))).isEqualTo(1L);
+    assertThat(fingerprint.getBucket(-1)).isEqualTo(-1L);
+    assertThat(fingerprint.getBucket(-10)).isEqualTo(-1L);
+    assertThat(fingerprint.getBucket(-11)).isEqualTo(-2L);
+  }
+
+  /**
+   * This method should fail because the value is not a number.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_value_is_not_a_number() {
+    new Fingerprint("MAX(title)", "ID", 10).getBucket("1");
+  }
+
+  /**
+   * This method test the condition (the consecutive buckets are grouped).
+   */
+  @Test
+  public void test_condition() {
+    Fingerprint fingerprint = new Fingerprint("MAX(title)", "ID", 10);
+    Set<Long> bucketsSet = new TreeSet<>(Arrays.asList(-1L, 1L, 2L, 4L));
+    assertThat(fingerprint.getCondition(bucketsSet)).isEqualTo(
+        "(ID >= -10 AND ID < 0) OR (ID >= 10 AND ID < 30) OR (ID >= 40 AND ID < 50)");
+  }
+}
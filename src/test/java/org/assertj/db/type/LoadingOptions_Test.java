@@ -0,0 +1,187 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.DefaultDataSource;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the options of the loading.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class LoadingOptions_Test extends AbstractTest {
+
+  /**
+   * This method test the getters and setters of the options.
+   */
+  @Test
+  public void test_getters_and_setters() {
+    LoadingOptions loadingOptions = new LoadingOptions();
+    assertThat(loadingOptions.getFetchSize()).isNull();
+    assertThat(loadingOptions.getQueryTimeout()).isNull();
+    assertThat(loadingOptions.getMaxRows()).isNull();
+    assertThat(loadingOptions.isReadOnly()).isFalse();
+
+    assertThat(loadingOptions.setFetchSize(100).setQueryTimeout(10).setMaxRows(2).setReadOnly(true))
+        .isSameAs(loadingOptions);
+    assertThat(loadingOptions.getFetchSize()).isEqualTo(100);
+    assertThat(loadingOptions.getQueryTimeout()).isEqualTo(10);
+    assertThat(loadingOptions.getMaxRows()).isEqualTo(2);
+    assertThat(loadingOptions.isReadOnly()).isTrue();
+  }
+
+  /**
+   * This method test the options of an element and of a source.
+   */
+  @Test
+  public void test_options_of_element_and_source() {
+    LoadingOptions loadingOptions = new LoadingOptions();
+    LoadingOptions otherLoadingOptions = new LoadingOptions();
+    Source sourceWithOptions = new Source("jdbc:h2:mem:test", "sa", "", loadingOptions);
+    Table table = new Table(sourceWithOptions, "movie");
+
+    assertThat(sourceWithOptions.getLoadingOptions()).isSameAs(loadingOptions);
+    assertThat(sourceWithOptions).isEqualTo(source);
+    assertThat(table.getLoadingOptions()).isNull();
+    assertThat(table.getLoadingOptionsToApply()).isSameAs(loadingOptions);
+    assertThat(table.setLoadingOptions(otherLoadingOptions)).isSameAs(table);
+    assertThat(table.getLoadingOptionsToApply()).isSameAs(otherLoadingOptions);
+    assertThat(new Table(dataSource, "movie").getLoadingOptionsToApply()).isNull();
+  }
+
+  /**
+   * This method test the maximum number of rows when loading a table or a request.
+   */
+  @Test
+  public void test_max_rows() {
+    LoadingOptions loadingOptions = new LoadingOptions().setMaxRows(2).setFetchSize(1).setQueryTimeout(10);
+
+    assertThat(new Table(new Source("jdbc:h2:mem:test", "sa", "", loadingOptions), "movie").getRowsList()).hasSize(2);
+    assertThat(new Request(source, "select * from movie").setLoadingOptions(loadingOptions).getRowsList()).hasSize(2);
+    assertThat(new Table(source, "movie").setLoadingOptions(loadingOptions).setStreaming(true).getColumn(0)
+        .getValuesList()).hasSize(2);
+    assertThat(new Table(source, "movie").setLoadingOptions(loadingOptions).getNumberOfRows()).isEqualTo(2);
+    assertThat(new Table(source, "movie").setLoadingOptions(loadingOptions).setStreaming(true)
+        .getNumberOfNotNullValues(0)).isEqualTo(2);
+  }
+
+  /**
+   * This method test the maximum number of rows when loading the tables or the request of changes.
+   */
+  @Test
+  @NeedReload
+  public void test_max_rows_in_changes() {
+    LoadingOptions loadingOptions = new LoadingOptions().setMaxRows(2);
+    Changes changesOnTable = new Changes(new Table(source, "movie").setLoadingOptions(loadingOptions));
+    Changes changesWithOptions = new Changes(new Table(source, "movie")).setLoadingOptions(loadingOptions);
+    Changes changesOnSource = new Changes(source).setLoadingOptions(loadingOptions);
+    Changes changesOnRequest = new Changes(new Request(source, "select * from movie").setLoadingOptions(
+        loadingOptions));
+    changesOnTable.setStartPointNow();
+    changesWithOptions.setStartPointNow();
+    changesOnSource.setStartPointNow();
+    changesOnRequest.setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984)");
+    update("update movie set year = 2000 where id = 3");
+    changesOnTable.setEndPointNow();
+    changesWithOptions.setEndPointNow();
+    changesOnSource.setEndPointNow();
+    changesOnRequest.setEndPointNow();
+
+    assertThat(changesOnTable.getTablesAtStartPointList().get(0).getRowsList()).hasSize(2);
+    assertThat(changesOnTable.getChangesList()).isEmpty();
+    assertThat(changesWithOptions.getTablesAtEndPointList().get(0).getRowsList()).hasSize(2);
+    assertThat(changesWithOptions.getChangesList()).isEmpty();
+    assertThat(changesOnSource.getChangesOfTable("movie").getChangesList()).isEmpty();
+    assertThat(changesOnRequest.getRequestAtEndPoint().getRowsList()).hasSize(2);
+    assertThat(changesOnRequest.getChangesList()).isEmpty();
+  }
+
+  /**
+   * This method test that the connection is in read-only mode during the loading and that the previous mode is
+   * restored.
+   */
+  @Test
+  public void test_read_only() {
+    final List<Boolean> readOnlyModes = new ArrayList<>();
+    DataSource ds = new DefaultDataSource() {
+      @Override
+      public Connection getConnection() throws SQLException {
+        final Connection connection = dataSource.getConnection();
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+            new InvocationHandler() {
+              private boolean readOnly;
+
+              @Override
+              public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                if ("setReadOnly".equals(method.getName())) {
+                  readOnly = (Boolean) args[0];
+                  readOnlyModes.add(readOnly);
+                  return null;
+                }
+                if ("isReadOnly".equals(method.getName())) {
+                  return readOnly;
+                }
+                if ("prepareStatement".equals(method.getName())) {
+                  readOnlyModes.add(readOnly);
+                }
+                return method.invoke(connection, args);
+              }
+            });
+      }
+    };
+    Request request = new Request(ds, "select * from movie").setLoadingOptions(new LoadingOptions().setReadOnly(true));
+    assertThat(request.getRowsList()).hasSize(3);
+
+    assertThat(readOnlyModes).containsExactly(true, true, false);
+  }
+
+  /**
+   * This method should fail because the fetch size is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_fetch_size_is_negative() {
+    new LoadingOptions().setFetchSize(-1);
+  }
+
+  /**
+   * This method should fail because the query timeout is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_query_timeout_is_negative() {
+    new LoadingOptions().setQueryTimeout(-1);
+  }
+
+  /**
+   * This method should fail because the maximum number of rows is negative.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_max_rows_is_negative() {
+    new LoadingOptions().setMaxRows(-1);
+  }
+}
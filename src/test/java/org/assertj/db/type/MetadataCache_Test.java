@@ -0,0 +1,126 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the cache of the metadata.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class MetadataCache_Test extends AbstractTest {
+
+  /**
+   * Disables the cache after each test.
+   */
+  @After
+  public void disableCache() {
+    MetadataCache.disable();
+  }
+
+  /**
+   * This method test that the cache is disabled by default and can be enabled.
+   */
+  @Test
+  public void test_enable_and_disable() {
+    assertThat(MetadataCache.isEnabled()).isFalse();
+    MetadataCache.enable(60000);
+    assertThat(MetadataCache.isEnabled()).isTrue();
+    MetadataCache.disable();
+    assertThat(MetadataCache.isEnabled()).isFalse();
+  }
+
+  /**
+   * This method test the names of the tables and of the primary keys when the cache is enabled.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  @NeedReload
+  public void test_metadata_with_cache() throws Exception {
+    MetadataCache.enable(60000);
+    Table table = new Table(source, "movie");
+
+    try (Connection connection = dataSource.getConnection()) {
+      assertThat(MetadataCache.getTablesName(table, connection)).contains("MOVIE").doesNotContain("TEST_CACHE");
+      assertThat(MetadataCache.getPksName(table, connection, "MOVIE")).containsExactly("ID");
+      update("create table test_cache(id int primary key)");
+
+      assertThat(MetadataCache.getTablesName(table, connection)).doesNotContain("TEST_CACHE");
+      assertThat(MetadataCache.getTablesName(new Table(source, "actor"), connection)).doesNotContain("TEST_CACHE");
+      assertThat(MetadataCache.getTablesName(new Table(dataSource, "actor"), connection)).contains("TEST_CACHE");
+
+      MetadataCache.invalidate(source);
+      assertThat(MetadataCache.getTablesName(table, connection)).contains("TEST_CACHE");
+      update("drop table test_cache");
+      assertThat(MetadataCache.getTablesName(table, connection)).contains("TEST_CACHE");
+      MetadataCache.invalidateAll();
+      assertThat(MetadataCache.getTablesName(table, connection)).doesNotContain("TEST_CACHE");
+    }
+  }
+
+  /**
+   * This method test that the metadata are read again when the time to live is expired.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  @NeedReload
+  public void test_metadata_with_expired_time_to_live() throws Exception {
+    MetadataCache.enable(1);
+    Table table = new Table(dataSource, "movie");
+
+    try (Connection connection = dataSource.getConnection()) {
+      assertThat(MetadataCache.getTablesName(table, connection)).doesNotContain("TEST_CACHE");
+      update("create table test_cache(id int primary key)");
+      Thread.sleep(10);
+      assertThat(MetadataCache.getTablesName(table, connection)).contains("TEST_CACHE");
+      update("drop table test_cache");
+    }
+  }
+
+  /**
+   * This method test the names of the tables when the cache is disabled.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  @NeedReload
+  public void test_metadata_without_cache() throws Exception {
+    Table table = new Table(source, "movie");
+
+    try (Connection connection = dataSource.getConnection()) {
+      assertThat(MetadataCache.getTablesName(table, connection)).doesNotContain("TEST_CACHE");
+      update("create table test_cache(id int primary key)");
+      assertThat(MetadataCache.getTablesName(table, connection)).contains("TEST_CACHE");
+      update("drop table test_cache");
+    }
+  }
+
+  /**
+   * This method should fail because the time to live is less than 1.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_time_to_live_is_less_than_one() {
+    MetadataCache.enable(0);
+  }
+}
@@ -0,0 +1,98 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the parallel sort of the rows.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class ParallelMergeSort_Test extends AbstractTest {
+
+  /**
+   * Comparator on the first value of an array (the second value is ignored).
+   */
+  private static final Comparator<int[]> COMPARATOR = new Comparator<int[]>() {
+    @Override
+    public int compare(int[] array1, int[] array2) {
+      return array1[0] < array2[0] ? -1 : (array1[0] == array2[0] ? 0 : 1);
+    }
+  };
+
+  /**
+   * This method test that the parallel sort gives the same order as the sort on one thread (the sort is stable).
+   */
+  @Test
+  public void test_parallel_sort_is_stable() {
+    Random random = new Random(42);
+    List<int[]> list = new ArrayList<>();
+    for (int i = 0; i < 100000; i++) {
+      list.add(new int[] { random.nextInt(1000), i });
+    }
+    List<int[]> expected = new ArrayList<>(list);
+    Collections.sort(expected, COMPARATOR);
+
+    ParallelMergeSort.sort(list, COMPARATOR, 4);
+
+    assertThat(list).containsExactlyElementsOf(expected);
+  }
+
+  /**
+   * This method test the parallel sort of the rows when loading.
+   */
+  @Test
+  public void test_parallel_sort_when_loading() {
+    Table table = new Table(source, "interpretation");
+    assertThat(table.getParallelSortThreshold()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(table.setParallelSortThreshold(1)).isSameAs(table);
+    assertThat(table.getParallelSortThreshold()).isEqualTo(1);
+    assertThat(table.getParallelSortParallelism()).isEqualTo(Runtime.getRuntime().availableProcessors());
+    assertThat(table.setParallelSortParallelism(2)).isSameAs(table);
+    assertThat(table.getParallelSortParallelism()).isEqualTo(2);
+
+    List<Row> rowsList = table.getRowsList();
+    List<Row> expected = new Table(source, "interpretation").getRowsList();
+    assertThat(rowsList).hasSameSizeAs(expected);
+    for (int i = 0; i < rowsList.size(); i++) {
+      assertThat(rowsList.get(i).getValuesList()).isEqualTo(expected.get(i).getValuesList());
+    }
+  }
+
+  /**
+   * This method should fail because the threshold is less than 1.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_threshold_is_less_than_one() {
+    new Table(source, "interpretation").setParallelSortThreshold(0);
+  }
+
+  /**
+   * This method should fail because the parallelism is less than 1.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_parallelism_is_less_than_one() {
+    new Table(source, "interpretation").setParallelSortParallelism(0);
+  }
+}
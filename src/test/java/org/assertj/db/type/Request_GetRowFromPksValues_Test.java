@@ -72,4 +72,28 @@ public class Request_GetRowFromPksValues_Test extends AbstractTest {
         new BigDecimal(2004), new BigDecimal(2), "Alice Hunt");
 
   }
+
+  /**
+   * This method test getting a row from primary keys values which are {@code String}.
+   */
+  @Test
+  public void test_getting_row_from_primary_keys_values_which_are_text() {
+    Request request = new Request(source,
+        "SELECT actor.name, actor.firstname, movie.year, interpretation.id, interpretation.character "
+            + " FROM movie, actor, interpretation WHERE movie.id = interpretation.id_movie"
+            + " AND interpretation.id_actor = actor.id ORDER BY actor.name, movie.year").setPksName("character");
+
+    assertThat(request.getRowFromPksValues("Lucius Hunt").getValuesList()).containsExactly("Phoenix", "Joaquim",
+        new BigDecimal(2004), new BigDecimal(4), "Lucius Hunt");
+    assertThat(request.getRowFromPksValues("Lucius")).isNull();
+    assertThat(request.getRowFromPksValues(4)).isNull();
+
+    request.setPksName("name", "year");
+
+    assertThat(request.getRowFromPksValues("Phoenix", 2004).getValuesList()).containsExactly("Phoenix", "Joaquim",
+        new BigDecimal(2004), new BigDecimal(4), "Lucius Hunt");
+    assertThat(request.getRowFromPksValues("Phoenix", "2004").getValuesList()).containsExactly("Phoenix", "Joaquim",
+        new BigDecimal(2004), new BigDecimal(4), "Lucius Hunt");
+    assertThat(request.getRowFromPksValues("Phoenix", 2009)).isNull();
+  }
 }
@@ -111,4 +111,18 @@ public class Request_Rows_Test extends AbstractTest {
     assertThat(request.getRow(0).getColumnValue("not_exist")).isNull();
   }
 
+  /**
+   * This method test the rows when the sort is skipped to keep the order of the request.
+   */
+  @Test
+  public void test_rows_without_sorting() {
+    Request request = new Request(source, "SELECT title FROM movie ORDER BY year DESC");
+
+    assertThat(request.isSortingRows()).isTrue();
+    assertThat(request.setSortingRows(false)).isSameAs(request);
+    assertThat(request.isSortingRows()).isFalse();
+    assertThat(request.getColumn(0).getValuesList()).containsExactly("Avatar", "The Village", "Alien");
+    assertThat(new Request(source, "SELECT title FROM movie ORDER BY year DESC").getColumn(0).getValuesList())
+        .containsExactly("Alien", "Avatar", "The Village");
+  }
 }
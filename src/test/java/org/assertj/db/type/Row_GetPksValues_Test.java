@@ -51,4 +51,37 @@ public class Row_GetPksValues_Test extends AbstractTest {
     assertThat(primaryKeysValue).hasSize(2).containsExactly(2, "val1");
   }
 
+  /**
+   * This method test that the primary keys value are computed once and are not modified by the caller.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_when_getprimarykeysvalue_are_cached() throws Exception {
+    Row row = getRow(Arrays.asList("col3", "col1"), Arrays.asList("col1", "col2", "col3"),
+        Arrays.asList((Object) "val1", 1, 2));
+
+    assertThat(row.getPksValueList()).isSameAs(row.getPksValueList()).containsExactly(2, "val1");
+    assertThat(row.getPksKey()).isSameAs(row.getPksKey()).isEqualTo(new ValuesKey(2L, "val1"));
+    Object[] primaryKeysValue = row.getPksValues();
+    primaryKeysValue[0] = 3;
+    assertThat(row.getPksValues()).containsExactly(2, "val1");
+
+    row.setPksNameList(Arrays.asList("col2"), new int[] { 1 });
+    assertThat(row.getPksValueList()).containsExactly(1);
+  }
+
+  /**
+   * This method test that the list of the primary keys value can not be modified.
+   * 
+   * @throws Exception Exception
+   */
+  @Test(expected = UnsupportedOperationException.class)
+  public void should_fail_because_the_list_of_primarykeysvalue_can_not_be_modified() throws Exception {
+    Row row = getRow(Arrays.asList("col1"), Arrays.asList("col1", "col2", "col3"),
+        Arrays.asList((Object) "val1", "val2", "val3"));
+
+    row.getPksValueList().add("val4");
+  }
+
 }
@@ -0,0 +1,136 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the encoding of the values in {@code RowsFile}.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class RowsFile_Test {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * This method test that the values read are the values written.
+   * 
+   * @throws IOException
+   */
+  @Test
+  public void test_values_read_are_values_written() throws IOException {
+    Timestamp timestamp = Timestamp.valueOf("2015-05-24 09:46:30.123456789");
+    UUID uuid = UUID.randomUUID();
+    Object[] values1 = { null, true, false, (byte) -3, (short) -300, Integer.MIN_VALUE, Long.MAX_VALUE, -1.5f,
+        Double.NaN, new BigDecimal("-123.4500"), new BigInteger("123456789012345678901234567890"), "Text é", };
+    Object[] values2 = { new byte[] { 1, 2, 3 }, Date.valueOf("2015-05-24"), Time.valueOf("09:46:30"), timestamp,
+        uuid, 0, 0L, "", new BigDecimal("0E-10"), Long.MIN_VALUE, -1, Integer.MAX_VALUE };
+
+    RowsFile rowsFile = new RowsFile(temporaryFolder.getRoot());
+    assertThat(temporaryFolder.getRoot().list()).hasSize(1);
+    rowsFile.add(values1);
+    rowsFile.add(values2);
+    rowsFile.complete();
+    try {
+      assertThat(rowsFile.size()).isEqualTo(2);
+      assertThat(temporaryFolder.getRoot().list()).isEmpty();
+      assertThat(rowsFile.read(1, values2.length)).isEqualTo(values2);
+      Object[] values = rowsFile.read(0, values1.length);
+      assertThat(values).isEqualTo(values1);
+      for (int index = 0; index < values.length; index++) {
+        if (values[index] != null) {
+          assertThat(values[index]).isInstanceOf(values1[index].getClass());
+        }
+      }
+      assertThat(((Timestamp) rowsFile.read(1, values2.length)[3]).getNanos()).isEqualTo(123456789);
+    } finally {
+      rowsFile.close();
+    }
+  }
+
+  /**
+   * This method should fail because the value can not be written.
+   * 
+   * @throws IOException
+   */
+  @Test(expected = NotSerializableException.class)
+  public void should_fail_because_value_can_not_be_written() throws IOException {
+    RowsFile rowsFile = new RowsFile(temporaryFolder.getRoot());
+    try {
+      rowsFile.add(new Object[] { new Object() });
+    } finally {
+      rowsFile.close();
+    }
+  }
+
+  /**
+   * This method should fail because the writing is not completed.
+   * 
+   * @throws IOException
+   */
+  @Test(expected = IllegalStateException.class)
+  public void should_fail_because_writing_is_not_completed() throws IOException {
+    RowsFile rowsFile = new RowsFile(temporaryFolder.getRoot());
+    try {
+      rowsFile.read(0, 1);
+    } finally {
+      rowsFile.close();
+    }
+  }
+
+  /**
+   * This method should fail because the writing is completed.
+   * 
+   * @throws IOException
+   */
+  @Test(expected = IllegalStateException.class)
+  public void should_fail_because_writing_is_completed() throws IOException {
+    RowsFile rowsFile = new RowsFile(temporaryFolder.getRoot());
+    rowsFile.complete();
+    try {
+      rowsFile.add(new Object[] { 1 });
+    } finally {
+      rowsFile.close();
+    }
+  }
+
+  /**
+   * This method should fail because the file is closed.
+   * 
+   * @throws IOException
+   */
+  @Test(expected = IllegalStateException.class)
+  public void should_fail_because_file_is_closed() throws IOException {
+    RowsFile rowsFile = new RowsFile(temporaryFolder.getRoot());
+    rowsFile.add(new Object[] { 1 });
+    rowsFile.complete();
+    rowsFile.close();
+    rowsFile.read(0, 1);
+  }
+}
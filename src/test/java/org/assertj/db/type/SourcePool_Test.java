@@ -0,0 +1,243 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests on the pool of connections for the {@code Source}.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class SourcePool_Test extends AbstractTest {
+
+  /**
+   * Disables the pool after each test.
+   */
+  @After
+  public void disablePool() {
+    SourcePool.disable();
+  }
+
+  /**
+   * This method test that the connections are not reused when the pool is disabled.
+   * 
+   * @throws SQLException SQL Exception
+   */
+  @Test
+  public void test_connections_when_pool_is_disabled() throws SQLException {
+    assertThat(SourcePool.isEnabled()).isFalse();
+    Connection connection = SourcePool.getConnection(source);
+    Connection unwrapped = connection.unwrap(Connection.class);
+    connection.close();
+    assertThat(unwrapped.isClosed()).isTrue();
+  }
+
+  /**
+   * This method test that the connections are reused when the pool is enabled.
+   * 
+   * @throws SQLException SQL Exception
+   */
+  @Test
+  public void test_connections_are_reused() throws SQLException {
+    SourcePool.enable(2, 60000);
+    assertThat(SourcePool.isEnabled()).isTrue();
+
+    Connection connection = SourcePool.getConnection(source);
+    Connection unwrapped = connection.unwrap(Connection.class);
+    connection.close();
+    assertThat(connection.isClosed()).isTrue();
+    assertThat(unwrapped.isClosed()).isFalse();
+
+    Connection connection1 = SourcePool.getConnection(new Source("jdbc:h2:mem:test", "sa", ""));
+    Connection connection2 = SourcePool.getConnection(source);
+    assertThat(connection1.unwrap(Connection.class)).isSameAs(unwrapped);
+    assertThat(connection2.unwrap(Connection.class)).isNotSameAs(unwrapped);
+    connection1.close();
+    connection2.close();
+
+    SourcePool.closeAll();
+    assertThat(unwrapped.isClosed()).isTrue();
+    assertThat(SourcePool.isEnabled()).isTrue();
+  }
+
+  /**
+   * This method test that the idle connections over the maximum size are closed.
+   * 
+   * @throws SQLException SQL Exception
+   */
+  @Test
+  public void test_connections_over_maximum_size_are_closed() throws SQLException {
+    SourcePool.enable(1, 60000);
+
+    Connection connection1 = SourcePool.getConnection(source);
+    Connection connection2 = SourcePool.getConnection(source);
+    Connection unwrapped1 = connection1.unwrap(Connection.class);
+    Connection unwrapped2 = connection2.unwrap(Connection.class);
+    connection1.close();
+    connection2.close();
+    assertThat(unwrapped1.isClosed()).isFalse();
+    assertThat(unwrapped2.isClosed()).isTrue();
+  }
+
+  /**
+   * This method test that the idle connections are closed after the idle timeout.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_idle_connections_are_evicted() throws Exception {
+    SourcePool.enable(2, 1);
+
+    Connection connection = SourcePool.getConnection(source);
+    Connection unwrapped = connection.unwrap(Connection.class);
+    connection.close();
+    Thread.sleep(20);
+    Connection other = SourcePool.getConnection(source);
+    assertThat(unwrapped.isClosed()).isTrue();
+    assertThat(other.unwrap(Connection.class)).isNotSameAs(unwrapped);
+    other.close();
+  }
+
+  /**
+   * This method test that the state of a connection is reset when it is given back.
+   * 
+   * @throws SQLException SQL Exception
+   */
+  @Test
+  public void test_state_of_connections_is_reset() throws SQLException {
+    SourcePool.enable(2, 60000);
+
+    Connection connection = SourcePool.getConnection(source);
+    Connection unwrapped = connection.unwrap(Connection.class);
+    boolean readOnly = connection.isReadOnly();
+    int transactionIsolation = connection.getTransactionIsolation();
+    connection.setAutoCommit(false);
+    connection.setReadOnly(!readOnly);
+    connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+    connection.close();
+
+    Connection other = SourcePool.getConnection(source);
+    assertThat(other.unwrap(Connection.class)).isSameAs(unwrapped);
+    assertThat(other.getAutoCommit()).isTrue();
+    assertThat(other.isReadOnly()).isEqualTo(readOnly);
+    assertThat(other.getTransactionIsolation()).isEqualTo(transactionIsolation);
+    other.close();
+  }
+
+  /**
+   * This method test that the idle connections are closed after the idle timeout when a connection is given back.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_idle_connections_are_evicted_when_connection_is_given_back() throws Exception {
+    SourcePool.enable(2, 10);
+
+    Connection connection1 = SourcePool.getConnection(source);
+    Connection connection2 = SourcePool.getConnection(source);
+    Connection unwrapped1 = connection1.unwrap(Connection.class);
+    connection1.close();
+    Thread.sleep(50);
+    connection2.close();
+    assertThat(unwrapped1.isClosed()).isTrue();
+  }
+
+  /**
+   * This method test that an invalid connection is not reused.
+   * 
+   * @throws SQLException SQL Exception
+   */
+  @Test
+  public void test_invalid_connections_are_not_reused() throws SQLException {
+    SourcePool.enable(2, 60000);
+
+    Connection connection = SourcePool.getConnection(source);
+    Connection unwrapped = connection.unwrap(Connection.class);
+    connection.close();
+    unwrapped.close();
+    Connection other = SourcePool.getConnection(source);
+    assertThat(other.unwrap(Connection.class)).isNotSameAs(unwrapped);
+    other.close();
+  }
+
+  /**
+   * This method test that a closed pooled connection can not be used.
+   * 
+   * @throws SQLException SQL Exception
+   */
+  @Test
+  public void test_closed_connection_can_not_be_used() throws SQLException {
+    SourcePool.enable(2, 60000);
+
+    Connection connection = SourcePool.getConnection(source);
+    connection.close();
+    connection.close();
+    try {
+      connection.createStatement();
+      fail("An exception must be raised");
+    } catch (SQLException e) {
+      assertThat(e.getMessage()).isEqualTo("The connection is closed");
+    }
+  }
+
+  /**
+   * This method test the loading of a table with the pool.
+   */
+  @Test
+  public void test_loading_with_pool() {
+    SourcePool.enable(2, 60000);
+
+    Table table = new Table(source, "movie");
+    assertThat(table.getRowsList()).hasSize(3);
+    Changes changes = new Changes(source).setStartPointNow().setEndPointNow();
+    assertThat(changes.getChangesList()).hasSize(0);
+  }
+
+  /**
+   * This method test the equality of the sources.
+   */
+  @Test
+  public void test_equality_of_sources() {
+    assertThat(new Source("jdbc:h2:mem:test", "sa", "")).isEqualTo(source);
+    assertThat(new Source("jdbc:h2:mem:test", "sa", "").hashCode()).isEqualTo(source.hashCode());
+    assertThat(new Source("jdbc:h2:mem:test", "sa", "pw")).isNotEqualTo(source);
+    assertThat(new Source(null, null, null)).isEqualTo(new Source(null, null, null));
+    assertThat(source).isNotEqualTo("jdbc:h2:mem:test");
+  }
+
+  /**
+   * This method should fail because the maximum size is less than 1.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_maximum_size_is_less_than_one() {
+    SourcePool.enable(0, 60000);
+  }
+
+  /**
+   * This method should fail because the idle timeout is less than 1.
+   */
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_because_idle_timeout_is_less_than_one() {
+    SourcePool.enable(1, 0);
+  }
+}
@@ -16,6 +16,7 @@ import org.assertj.db.common.AbstractTest;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -51,4 +52,21 @@ public class Table_GetRowFromPksValues_Test extends AbstractTest {
         new BigDecimal(1979));
   }
 
+  /**
+   * This method test getting a row from primary keys values with values of other types than the values in the table.
+   */
+  @Test
+  public void test_getting_row_from_primary_keys_values_with_other_types() {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getRowFromPksValues(new BigInteger("2")).getValuesList()).containsExactly(new BigDecimal(2),
+        "The Village", new BigDecimal(2004));
+    assertThat(table.getRowFromPksValues(new BigDecimal("2.00")).getValuesList()).containsExactly(new BigDecimal(2),
+        "The Village", new BigDecimal(2004));
+    assertThat(table.getRowFromPksValues("3").getValuesList()).containsExactly(new BigDecimal(3), "Avatar",
+        new BigDecimal(2009));
+    assertThat(table.getRowFromPksValues("4")).isNull();
+    assertThat(table.getRowFromPksValues(4)).isNull();
+  }
+
 }
@@ -0,0 +1,123 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the counts computed by the database for a {@code Table} or a {@code Request}.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class Table_PushDown_Test extends AbstractTest {
+
+  /**
+   * This method test the SQL request of the counts.
+   */
+  @Test
+  public void test_count_request() {
+    Table table = new Table(source, "movie");
+    Request request = new Request(source, "select * from movie");
+
+    assertThat(table.getCountRequest(null)).isEqualTo("SELECT COUNT(*) FROM movie");
+    assertThat(table.getCountRequest("ID IS NULL")).isEqualTo("SELECT COUNT(*) FROM movie WHERE ID IS NULL");
+    assertThat(request.getCountRequest(null)).isNull();
+  }
+
+  /**
+   * This method test that the number of rows is computed by the database once.
+   */
+  @Test
+  @NeedReload
+  public void test_number_of_rows_computed_by_the_database() {
+    Table table = new Table(source, "movie");
+
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    update("insert into movie values(4, 'Ghostbusters', 1984)");
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    assertThat(new Table(source, "movie").getNumberOfRows()).isEqualTo(4);
+    assertThat(table.getRowsList()).hasSize(4);
+    assertThat(table.getNumberOfRows()).isEqualTo(4);
+  }
+
+  /**
+   * This method test the number of null values and not null values.
+   */
+  @Test
+  public void test_number_of_null_values() {
+    Table table = new Table(source, "test2").setStreaming(true);
+    Request request = new Request(source, "select * from test2");
+
+    assertThat(table.getNumberOfNullValues(0)).isEqualTo(1);
+    assertThat(table.getNumberOfNotNullValues(0)).isEqualTo(1);
+    assertThat(table.getNumberOfNullValues(14)).isEqualTo(2);
+    assertThat(table.getNumberOfNotNullValues(14)).isEqualTo(0);
+    assertThat(request.getNumberOfNullValues(14)).isEqualTo(2);
+    assertThat(request.getNumberOfNotNullValues(0)).isEqualTo(1);
+  }
+
+  /**
+   * This method test the number of null values in columns which need to be quoted.
+   */
+  @Test
+  @NeedReload
+  public void test_number_of_null_values_with_quoted_columns() {
+    update("create table quoted(\"order\" int, \"lower case\" varchar(10))");
+    update("insert into quoted values(1, null)");
+    update("insert into quoted values(null, null)");
+    Table table = new Table(source, "quoted").setStreaming(true);
+
+    assertThat(table.getNumberOfNullValues(0)).isEqualTo(1);
+    assertThat(table.getNumberOfNotNullValues(0)).isEqualTo(1);
+    assertThat(table.getNumberOfNullValues(1)).isEqualTo(2);
+    assertThat(table.getNumberOfNotNullValues(1)).isEqualTo(0);
+  }
+
+  /**
+   * This method test that the values are browsed when the count by the database fails.
+   */
+  @Test
+  public void test_number_of_null_values_when_the_count_fails() {
+    Table table = new Table(source, "test2") {
+      @Override
+      String getCountRequest(String condition) {
+        return "SELECT COUNT(*) FROM unknown_table";
+      }
+    }.setStreaming(true);
+
+    assertThat(table.getNumberOfNullValues(0)).isEqualTo(1);
+    assertThat(table.getNumberOfNotNullValues(14)).isEqualTo(0);
+  }
+
+  /**
+   * This method test the nullity assertions with the counts computed by the database.
+   */
+  @Test
+  public void test_nullity_assertions() {
+    Table table = new Table(source, "test2").setStreaming(true);
+
+    org.assertj.db.api.Assertions.assertThat(table).column("var15").hasOnlyNullValues();
+    try {
+      org.assertj.db.api.Assertions.assertThat(table).column("var1").hasOnlyNotNullValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("Expecting to contain only not null");
+    }
+  }
+}
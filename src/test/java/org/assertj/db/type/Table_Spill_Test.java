@@ -0,0 +1,178 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.assertj.db.common.NeedReload;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the storage of the values of a {@code Table} or a {@code Request} in a temporary file.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class Table_Spill_Test extends AbstractTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * This method test the getter and the setter of the directory.
+   */
+  @Test
+  public void test_spill_directory() {
+    File directory = temporaryFolder.getRoot();
+    Table table = new Table(source, "movie");
+    assertThat(table.getSpillDirectory()).isNull();
+    assertThat(table.setSpillDirectory(directory)).isSameAs(table);
+    assertThat(table.getSpillDirectory()).isSameAs(directory);
+
+    Changes changes = new Changes(source);
+    assertThat(changes.getSpillDirectory()).isNull();
+    assertThat(changes.setSpillDirectory(directory)).isSameAs(changes);
+    assertThat(changes.getSpillDirectory()).isSameAs(directory);
+  }
+
+  /**
+   * This method test that the values stored in a file are the values kept in memory.
+   */
+  @Test
+  public void test_values_stored_in_file() {
+    Table table = new Table(source, "test");
+    Table tableInFile = new Table(source, "test").setSpillDirectory(temporaryFolder.getRoot());
+    assertRowsAreEqual(table.getRowsList(), tableInFile.getRowsList());
+    assertThat(tableInFile.getPksNameList()).containsExactly("VAR1");
+    assertThat(tableInFile.getRow(0).getPksValueList()).containsExactly(1);
+    assertThat(tableInFile.getColumn(11).getValuesList()).containsExactly("text", "another text", "another text again",
+        "another text again");
+    assertThat(temporaryFolder.getRoot().list()).isEmpty();
+
+    Request request = new Request(source, "select * from test2");
+    Request requestInFile = new Request(source, "select * from test2").setSpillDirectory(temporaryFolder.getRoot());
+    assertRowsAreEqual(request.getRowsList(), requestInFile.getRowsList());
+  }
+
+  /**
+   * This method test the changes on tables stored in files.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_with_values_stored_in_file() throws SQLException {
+    Changes changes = new Changes(source).setSpillDirectory(temporaryFolder.getRoot());
+    changes.setStartPointNow();
+    update("insert into movie values(4, 'Ghostbusters', 1984)");
+    update("update test set var12 = 'changed' where var1 = 1");
+    update("delete from test2 where VAR1 is null");
+    changes.setEndPointNow();
+
+    assertThat(changes.getTablesAtStartPointList().get(0).getSpillDirectory()).isSameAs(temporaryFolder.getRoot());
+    List<Change> changesList = changes.getChangesList();
+    assertThat(changesList).hasSize(3);
+    assertThat(changesList.get(0).getChangeType()).isEqualTo(ChangeType.CREATION);
+    assertThat(changesList.get(0).getRowAtEndPoint().getValuesList()).containsExactly(
+        new BigDecimal(4), "Ghostbusters", new BigDecimal(1984));
+    assertThat(changesList.get(1).getChangeType()).isEqualTo(ChangeType.MODIFICATION);
+    assertThat(changesList.get(1).getRowAtEndPoint().getColumnValue("var12")).isEqualTo("changed");
+    assertThat(changesList.get(2).getChangeType()).isEqualTo(ChangeType.DELETION);
+    assertThat(temporaryFolder.getRoot().list()).isEmpty();
+  }
+
+  /**
+   * This method test the closing of the file of the values.
+   */
+  @Test
+  public void test_close() {
+    Table table = new Table(source, "movie").setSpillDirectory(temporaryFolder.getRoot());
+    List<Row> rowsList = table.getRowsList();
+    RowsFile rowsFile = table.getRowsFile();
+    assertThat(rowsFile.isClosed()).isFalse();
+    table.close();
+    assertThat(rowsFile.isClosed()).isTrue();
+    assertThat(table.getRowsFile()).isNull();
+
+    List<Row> reloadedRowsList = table.getRowsList();
+    assertThat(reloadedRowsList).isNotSameAs(rowsList).hasSize(3);
+    assertThat(reloadedRowsList.get(0).getColumnValue("title")).isEqualTo("Alien");
+    assertThat(table.getRowsFile()).isNotSameAs(rowsFile);
+    table.close();
+    table.close();
+
+    Table tableInMemory = new Table(source, "movie");
+    rowsList = tableInMemory.getRowsList();
+    tableInMemory.close();
+    assertThat(tableInMemory.getRowsList()).isSameAs(rowsList);
+  }
+
+  /**
+   * This method test that the files of the values are closed when the points of the changes are replaced and when the
+   * changes are closed.
+   * 
+   * @throws SQLException
+   */
+  @Test
+  @NeedReload
+  public void test_changes_close() throws SQLException {
+    try (Changes changes = new Changes(new Table(source, "movie")).setSpillDirectory(temporaryFolder.getRoot())) {
+      changes.setStartPointNow();
+      RowsFile rowsFileAtStartPoint = changes.getTablesAtStartPointList().get(0).getRowsFile();
+      changes.setEndPointNow();
+      RowsFile rowsFileAtEndPoint = changes.getTablesAtEndPointList().get(0).getRowsFile();
+      update("insert into movie values(4, 'Ghostbusters', 1984)");
+      changes.setEndPointNow();
+      assertThat(rowsFileAtEndPoint.isClosed()).isTrue();
+      assertThat(rowsFileAtStartPoint.isClosed()).isFalse();
+      assertThat(changes.getChangesList()).hasSize(1);
+
+      changes.setStartPointNow();
+      assertThat(rowsFileAtStartPoint.isClosed()).isTrue();
+      rowsFileAtStartPoint = changes.getTablesAtStartPointList().get(0).getRowsFile();
+      changes.close();
+      assertThat(rowsFileAtStartPoint.isClosed()).isTrue();
+      assertThat(changes.getTablesAtStartPointList()).isNull();
+      assertThat(changes.getTablesAtEndPointList()).isNull();
+    }
+  }
+
+  /**
+   * Asserts that the rows have the same values of the same classes.
+   * 
+   * @param rowsList The rows kept in memory.
+   * @param rowsInFileList The rows stored in a file.
+   */
+  private static void assertRowsAreEqual(List<Row> rowsList, List<Row> rowsInFileList) {
+    assertThat(rowsInFileList).hasSameSizeAs(rowsList);
+    for (int index = 0; index < rowsList.size(); index++) {
+      List<Object> valuesList = rowsList.get(index).getValuesList();
+      List<Object> valuesInFileList = rowsInFileList.get(index).getValuesList();
+      assertThat(valuesInFileList).hasSameSizeAs(valuesList);
+      assertThat(rowsInFileList.get(index).hasValues(rowsList.get(index))).isTrue();
+      for (int i = 0; i < valuesList.size(); i++) {
+        if (valuesList.get(i) != null) {
+          assertThat(valuesInFileList.get(i)).isInstanceOf(valuesList.get(i).getClass());
+        }
+      }
+    }
+  }
+}
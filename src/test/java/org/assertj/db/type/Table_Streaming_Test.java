@@ -0,0 +1,193 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Tests on the streaming of the values of a {@code Table} or a {@code Request}.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class Table_Streaming_Test extends AbstractTest {
+
+  /**
+   * This method test the getters of the streaming.
+   */
+  @Test
+  public void test_streaming_getters() {
+    Table table = new Table(source, "movie");
+    assertThat(table.isStreaming()).isFalse();
+    assertThat(table.setStreaming(true)).isSameAs(table);
+    assertThat(table.isStreaming()).isTrue();
+  }
+
+  /**
+   * This method test the columns name, the primary keys name and the number of rows when streaming.
+   */
+  @Test
+  public void test_description_and_number_of_rows_when_streaming() {
+    Table table = new Table(source, "movie").setStreaming(true);
+
+    assertThat(table.getColumnsNameList()).containsExactly("ID", "TITLE", "YEAR");
+    assertThat(table.getPksNameList()).containsExactly("ID");
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    assertThat(table.getColumn(0).getStreamedValues()).isInstanceOf(StreamedValues.class);
+  }
+
+  /**
+   * This method test the values of a column when streaming.
+   */
+  @Test
+  public void test_column_values_when_streaming() throws Exception {
+    Table table = new Table(source, "movie").setStreaming(true);
+
+    Iterable<Object> values = table.getColumn(1).getStreamedValues();
+    assertThat(values).hasSize(3).containsOnly("Alien", "The Village", "Avatar");
+
+    Iterator<Object> iterator = table.getColumn(0).getStreamedValues().iterator();
+    assertThat(iterator.next()).isNotNull();
+    ((StreamedValues) values).close();
+  }
+
+  /**
+   * This method test that the column is not streamed when the rows are loaded.
+   */
+  @Test
+  public void test_column_values_when_the_rows_are_loaded() {
+    Table table = new Table(source, "movie").setStreaming(true);
+
+    assertThat(table.getColumn(0).getStreamedValues()).isInstanceOf(StreamedValues.class);
+    assertThat(table.getRowsList()).hasSize(3);
+    assertThat(table.getNumberOfRows()).isEqualTo(3);
+    assertThat(table.getColumn(0).getStreamedValues()).isNotInstanceOf(StreamedValues.class)
+        .containsExactly(new BigDecimal(1), new BigDecimal(2), new BigDecimal(3));
+  }
+
+  /**
+   * This method test the loaded column when streaming.
+   */
+  @Test
+  public void test_loaded_column_when_streaming() {
+    Table table = new Table(source, "movie").setStreaming(true);
+
+    Column column = table.getLoadedColumn(1);
+    assertThat(column.getName()).isEqualTo("TITLE");
+    assertThat(column.getStreamedValues()).isNotInstanceOf(StreamedValues.class)
+        .containsExactly("Alien", "The Village", "Avatar");
+    assertThat(table.getColumn(1)).isSameAs(column);
+  }
+
+  /**
+   * This method test the streaming of a request with parameters.
+   */
+  @Test
+  public void test_streaming_of_request_with_parameters() {
+    Request request = new Request(source, "select title from movie where year > ?", 2000).setStreaming(true);
+
+    assertThat(request.getColumnsNameList()).containsExactly("TITLE");
+    assertThat(request.getNumberOfRows()).isEqualTo(2);
+    assertThat(request.getColumn(0).getStreamedValues()).containsOnly("The Village", "Avatar");
+  }
+
+  /**
+   * This method test the assertions when streaming.
+   */
+  @Test
+  public void test_assertions_when_streaming() {
+    Table table = new Table(source, "movie").setStreaming(true);
+
+    org.assertj.db.api.Assertions.assertThat(table).hasNumberOfRows(3)
+        .column("title").isText(false).hasOnlyNotNullValues();
+    try {
+      org.assertj.db.api.Assertions.assertThat(table).column("title").hasOnlyNullValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("Expecting to contain only null");
+    }
+  }
+
+  /**
+   * This method test the assertions which depend on the order of the values when streaming.
+   */
+  @Test
+  public void test_ordered_assertions_when_streaming() {
+    Table table = new Table(source, "movie").setStreaming(true);
+
+    org.assertj.db.api.Assertions.assertThat(table).column("title").isText(false)
+        .hasValues("Alien", "The Village", "Avatar")
+        .value(1).isEqualTo("The Village");
+    org.assertj.db.api.Assertions.assertThat(new Table(source, "movie").setStreaming(true))
+        .column("id").value(2).isEqualTo(3);
+  }
+
+  /**
+   * This method test that the index in the error message of a type assertion is the index in the loaded rows when
+   * streaming.
+   */
+  @Test
+  public void test_index_in_error_message_of_type_assertion_when_streaming() {
+    Request request = new Request(source, "select id, case when id = 3 then null else title end as title from movie"
+        + " order by id desc").setStreaming(true);
+
+    try {
+      org.assertj.db.api.Assertions.assertThat(request).column("title").isText(false);
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("Expecting that the value at index 2");
+    }
+  }
+
+  /**
+   * This method test that the index in the error message of a nullity assertion is the index in the loaded rows when
+   * streaming.
+   */
+  @Test
+  public void test_index_in_error_message_of_nullity_assertion_when_streaming() {
+    Request request = new Request(source, "select id, case when id = 3 then null else title end as title from movie"
+        + " order by id desc").setStreaming(true);
+
+    try {
+      org.assertj.db.api.Assertions.assertThat(request).column("title").hasOnlyNotNullValues();
+      fail("An exception must be raised");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage()).contains("contains null at index: 2");
+    }
+  }
+
+  /**
+   * This method test that the values list of a streamed column is the list of the values in the loaded rows.
+   */
+  @Test
+  public void test_values_list_of_streamed_column() {
+    Table table = new Table(source, "movie").setStreaming(true);
+    Column column = table.getColumn(1);
+
+    List<Object> valuesList = column.getValuesList();
+    assertThat(valuesList.get(1)).isEqualTo("The Village");
+    assertThat(valuesList.subList(1, 3)).containsExactly("The Village", "Avatar");
+    assertThat(valuesList).isEqualTo(Arrays.<Object>asList("Alien", "The Village", "Avatar"));
+    assertThat(column.getRowValue(2)).isEqualTo("Avatar");
+    assertThat(table.getColumn(1)).isNotSameAs(column);
+  }
+}
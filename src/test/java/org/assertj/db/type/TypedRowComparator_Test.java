@@ -0,0 +1,137 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the comparator of the {@code Row}s built with the SQL types of the columns.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class TypedRowComparator_Test extends AbstractTest {
+
+  /**
+   * The columns name.
+   */
+  private static final List<String> COLUMNS_NAME_LIST = Arrays.asList("ID", "NAME", "AMOUNT");
+  /**
+   * The comparator (the primary key is the second column).
+   */
+  private static final TypedRowComparator COMPARATOR = new TypedRowComparator(new int[] { 1 },
+      new int[] { Types.INTEGER, Types.VARCHAR, Types.DECIMAL });
+
+  /**
+   * Returns a row.
+   * 
+   * @param values The values.
+   * @return The row.
+   * @throws Exception Exception
+   */
+  private Row row(Object... values) throws Exception {
+    return getRow(Arrays.asList("NAME"), COLUMNS_NAME_LIST, Arrays.asList(values));
+  }
+
+  /**
+   * This method test the comparison with the primary keys values and then with all the values.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_comparison() throws Exception {
+    assertThat(COMPARATOR.compare(row(2, "a", new BigDecimal("1")), row(1, "b", new BigDecimal("1")))).isNegative();
+    assertThat(COMPARATOR.compare(row(2, "b", new BigDecimal("1")), row(1, "b", new BigDecimal("1")))).isPositive();
+    assertThat(COMPARATOR.compare(row(1, "b", new BigDecimal("1.0")), row(1, "b", new BigDecimal("1")))).isZero();
+    assertThat(COMPARATOR.compare(row(1, "b", new BigDecimal("2")), row(1, "b", new BigDecimal("10")))).isNegative();
+  }
+
+  /**
+   * This method test the comparison with {@code null} values and values of other classes than expected.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_comparison_with_null_and_other_classes() throws Exception {
+    assertThat(COMPARATOR.compare(row(1, null, null), row(1, "a", null))).isPositive();
+    assertThat(COMPARATOR.compare(row(1, "a", null), row(1, null, null))).isNegative();
+    assertThat(COMPARATOR.compare(row(1, null, null), row(1, null, null))).isZero();
+    assertThat(COMPARATOR.compare(row(1L, "a", 1), row(2, "a", 0))).isNegative();
+    assertThat(COMPARATOR.compare(row(1, "a", 2.5d), row(1, "a", 1.5d))).isPositive();
+    assertThat(COMPARATOR.compare(row(new byte[] { 1 }, "a", null), row(new byte[] { 2 }, "a", null))).isZero();
+  }
+
+  /**
+   * This method test the comparison of the rows in the storages of the columns.
+   * 
+   * @throws Exception Exception
+   */
+  @Test
+  public void test_comparison_in_storages() throws Exception {
+    Object[][] values = { { 2, "a", new BigDecimal("1") }, { 1, "b", new BigDecimal("1") }, { 3, null, null },
+        { null, "b", new BigDecimal("1.0") }, { 1L, "a", 2.5d }, { 2, "a", new BigDecimal("1") } };
+    ColumnStorage[] columnsStorage = new ColumnStorage[3];
+    for (int column = 0; column < columnsStorage.length; column++) {
+      ColumnStorage.Builder builder = new ColumnStorage.Builder();
+      for (Object[] rowValues : values) {
+        builder.add(rowValues[column]);
+      }
+      columnsStorage[column] = builder.build();
+    }
+
+    for (int rowIndex1 = 0; rowIndex1 < values.length; rowIndex1++) {
+      Row row1 = new Row(Arrays.asList("NAME"), new int[] { 1 }, COLUMNS_NAME_LIST,
+          new RowValuesList(columnsStorage, rowIndex1));
+      for (int rowIndex2 = 0; rowIndex2 < values.length; rowIndex2++) {
+        Row row2 = new Row(Arrays.asList("NAME"), new int[] { 1 }, COLUMNS_NAME_LIST,
+            new RowValuesList(columnsStorage, rowIndex2));
+        int expected = Integer.signum(COMPARATOR.compare(row(values[rowIndex1]), row(values[rowIndex2])));
+        assertThat(Integer.signum(COMPARATOR.compare(row1, row2))).as("%s and %s", rowIndex1, rowIndex2)
+            .isEqualTo(expected);
+      }
+    }
+  }
+
+  /**
+   * This method test the comparison of the values in the storages of primitives.
+   */
+  @Test
+  public void test_comparison_in_storages_of_primitives() {
+    ColumnStorage.Builder intBuilder = new ColumnStorage.Builder();
+    ColumnStorage.Builder longBuilder = new ColumnStorage.Builder();
+    ColumnStorage.Builder doubleBuilder = new ColumnStorage.Builder();
+    for (Integer value : Arrays.asList(3, null, -1, 3)) {
+      intBuilder.add(value);
+      longBuilder.add(value == null ? null : value.longValue());
+      doubleBuilder.add(value == null ? null : value.doubleValue());
+    }
+
+    for (ColumnStorage storage : Arrays.asList(intBuilder.build(), longBuilder.build(), doubleBuilder.build())) {
+      TypedRowComparator.ValueComparator comparator = TypedRowComparator.ValueComparator.GENERIC;
+      assertThat(storage.compareAt(0, 2, comparator)).isPositive();
+      assertThat(storage.compareAt(2, 0, comparator)).isNegative();
+      assertThat(storage.compareAt(0, 3, comparator)).isZero();
+      assertThat(storage.compareAt(0, 1, comparator)).isNegative();
+      assertThat(storage.compareAt(1, 0, comparator)).isPositive();
+      assertThat(storage.compareAt(1, 1, comparator)).isZero();
+    }
+  }
+}
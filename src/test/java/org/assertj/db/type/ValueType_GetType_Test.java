@@ -16,9 +16,11 @@ import org.assertj.db.common.AbstractTest;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -46,6 +48,23 @@ public class ValueType_GetType_Test extends AbstractTest {
     assertThat(ValueType.getType((long) 10)).isEqualTo(ValueType.NUMBER);
     assertThat(ValueType.getType(10.5f)).isEqualTo(ValueType.NUMBER);
     assertThat(ValueType.getType(new BigDecimal(10.5f))).isEqualTo(ValueType.NUMBER);
+    assertThat(ValueType.getType((byte) 10)).isEqualTo(ValueType.NUMBER);
+    assertThat(ValueType.getType(10.5d)).isEqualTo(ValueType.NUMBER);
+    assertThat(ValueType.getType(new BigInteger("10"))).isEqualTo(ValueType.NUMBER);
     assertThat(ValueType.getType(null)).isEqualTo(ValueType.NOT_IDENTIFIED);
+    assertThat(ValueType.getType(new Object())).isEqualTo(ValueType.NOT_IDENTIFIED);
+    assertThat(ValueType.getType(new AtomicLong(10))).isEqualTo(ValueType.NOT_IDENTIFIED);
+  }
+
+  /**
+   * This method tests the result of {@code getType} method for a sub-class.
+   */
+  @Test
+  public void test_result_when_getting_type_of_sub_class() {
+    Timestamp timestamp = new Timestamp(10) {
+      private static final long serialVersionUID = 1L;
+    };
+    assertThat(ValueType.getType(timestamp)).isEqualTo(ValueType.DATE_TIME);
+    assertThat(ValueType.getType(timestamp)).isEqualTo(ValueType.DATE_TIME);
   }
 }
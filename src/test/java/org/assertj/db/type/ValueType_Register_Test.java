@@ -0,0 +1,184 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.assertj.db.common.AbstractTest;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.db.api.Assertions.assertThat;
+
+/**
+ * Test on the registration of the types and of the converters in {@code ValueType} enum.
+ * 
+ * @author Régis Pouiller
+ * 
+ */
+public class ValueType_Register_Test extends AbstractTest {
+
+  /**
+   * A class of values which are used as text.
+   */
+  private static class Code implements CharSequence {
+
+    @Override
+    public int length() {
+      return 0;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return 0;
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return this;
+    }
+  }
+
+  /**
+   * A sub-class of the class of values which are used as text.
+   */
+  private static class SubCode extends Code {
+  }
+
+  /**
+   * An interface of values which are used as bytes.
+   */
+  private interface Content {
+  }
+
+  /**
+   * A class of values which implements the interface.
+   */
+  private static class FileContent implements Content {
+  }
+
+  /**
+   * Resets the registrations which are global to the JVM.
+   */
+  @After
+  public void resetRegistrations() {
+    ValueType.reset();
+  }
+
+  /**
+   * This method tests the registration of a type for a class.
+   */
+  @Test
+  public void test_register_type() {
+    assertThat(ValueType.getType(new SubCode())).isEqualTo(ValueType.NOT_IDENTIFIED);
+    ValueType.register(Code.class, ValueType.TEXT);
+    assertThat(ValueType.getType(new Code())).isEqualTo(ValueType.TEXT);
+    assertThat(ValueType.getType(new SubCode())).isEqualTo(ValueType.TEXT);
+    ValueType.register(Content.class, ValueType.BYTES);
+    assertThat(ValueType.getType(new FileContent())).isEqualTo(ValueType.BYTES);
+  }
+
+  /**
+   * This method tests the registration of a converter for a class : the values are converted when they are loaded.
+   */
+  @Test
+  public void test_register_converter() {
+    ValueType.register(UUID.class, new ValueConverter<UUID>() {
+      @Override
+      public Object convert(UUID value) {
+        return value.toString();
+      }
+    });
+
+    Request request = new Request(source,
+        "select CAST('0f8fad5b-d9cb-469f-a165-70867728950e' AS UUID) as uuid from movie where id = 1");
+    assertThat(request.getRow(0).getValuesList().get(0)).isEqualTo("0f8fad5b-d9cb-469f-a165-70867728950e");
+    assertThat(request).column().isText(false).hasValues("0f8fad5b-d9cb-469f-a165-70867728950e");
+    assertThat(ValueType.getConvertedValue(null)).isNull();
+    assertThat(ValueType.getConvertedValue(1)).isEqualTo(1);
+  }
+
+  /**
+   * This method tests the unregistration of a class and the reset of the registrations.
+   */
+  @Test
+  public void test_unregister_and_reset() {
+    ValueType.register(Code.class, ValueType.TEXT);
+    ValueType.register(Content.class, ValueType.BYTES);
+    ValueType.register(UUID.class, new ValueConverter<UUID>() {
+      @Override
+      public Object convert(UUID value) {
+        return value.toString();
+      }
+    });
+    UUID uuid = UUID.randomUUID();
+    assertThat(ValueType.getConvertedValue(uuid)).isEqualTo(uuid.toString());
+
+    ValueType.unregister(Code.class);
+    assertThat(ValueType.getType(new SubCode())).isEqualTo(ValueType.NOT_IDENTIFIED);
+    assertThat(ValueType.getType(new FileContent())).isEqualTo(ValueType.BYTES);
+    ValueType.unregister(String.class);
+    assertThat(ValueType.getType("text")).isEqualTo(ValueType.TEXT);
+
+    ValueType.reset();
+    assertThat(ValueType.getType(new FileContent())).isEqualTo(ValueType.NOT_IDENTIFIED);
+    assertThat(ValueType.getConvertedValue(uuid)).isSameAs(uuid);
+    assertThat(ValueType.getType(1)).isEqualTo(ValueType.NUMBER);
+  }
+
+  /**
+   * This method should fail because the class to unregister is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_type_to_unregister_is_null() {
+    ValueType.unregister(null);
+  }
+
+  /**
+   * This method should fail because the class is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_type_is_null() {
+    ValueType.register(null, ValueType.TEXT);
+  }
+
+  /**
+   * This method should fail because the type is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_value_type_is_null() {
+    ValueType.register(Code.class, (ValueType) null);
+  }
+
+  /**
+   * This method should fail because the class of the converter is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_type_of_converter_is_null() {
+    ValueType.register(null, new ValueConverter<Object>() {
+      @Override
+      public Object convert(Object value) {
+        return value;
+      }
+    });
+  }
+
+  /**
+   * This method should fail because the converter is {@code null}.
+   */
+  @Test(expected = NullPointerException.class)
+  public void should_fail_because_converter_is_null() {
+    ValueType.register(Code.class, (ValueConverter<Code>) null);
+  }
+}
@@ -0,0 +1,81 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.type;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the keys built from values.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class ValuesKey_Test {
+
+  /**
+   * This method tests that the numbers are normalized.
+   */
+  @Test
+  public void test_equality_of_numbers() {
+    assertThat(new ValuesKey(1)).isEqualTo(new ValuesKey(1L));
+    assertThat(new ValuesKey(1)).isEqualTo(new ValuesKey(new BigDecimal("1.00")));
+    assertThat(new ValuesKey(1)).isEqualTo(new ValuesKey(new BigInteger("1")));
+    assertThat(new ValuesKey(0)).isEqualTo(new ValuesKey(new BigDecimal("0.000")));
+    assertThat(new ValuesKey(1.5f)).isEqualTo(new ValuesKey(new BigDecimal("1.50")));
+    assertThat(new ValuesKey(1).hashCode()).isEqualTo(new ValuesKey(new BigDecimal("1.0")).hashCode());
+    assertThat(new ValuesKey(1)).isNotEqualTo(new ValuesKey(2));
+    assertThat(new ValuesKey(1, 2)).isNotEqualTo(new ValuesKey(1));
+  }
+
+  /**
+   * This method tests that the other values are normalized.
+   */
+  @Test
+  public void test_equality_of_other_values() {
+    assertThat(new ValuesKey(new byte[] { 1, 2 })).isEqualTo(new ValuesKey(new byte[] { 1, 2 }));
+    assertThat(new ValuesKey(Date.valueOf("2014-05-24"))).isEqualTo(new ValuesKey(DateValue.of(2014, 5, 24)));
+    assertThat(new ValuesKey(Timestamp.valueOf("2014-05-24 09:46:30")))
+        .isEqualTo(new ValuesKey(DateTimeValue.of(DateValue.of(2014, 5, 24), TimeValue.of(9, 46, 30))));
+    assertThat(new ValuesKey(Time.valueOf("09:46:30"))).isEqualTo(new ValuesKey(TimeValue.of(9, 46, 30)));
+    assertThat(new ValuesKey("text", null)).isEqualTo(new ValuesKey("text", null));
+    assertThat(new ValuesKey("1")).isNotEqualTo(new ValuesKey(1));
+  }
+
+  /**
+   * This method tests the values which are exactly represented.
+   */
+  @Test
+  public void test_values_exactly_represented() {
+    assertThat(ValuesKey.areExactlyRepresented(1, 2L, null, new BigDecimal("1"), Date.valueOf("2014-05-24"))).isTrue();
+    assertThat(ValuesKey.areExactlyRepresented(1, "1")).isFalse();
+    assertThat(ValuesKey.areExactlyRepresented(1.5d)).isFalse();
+  }
+
+  /**
+   * This method tests the values which can be indexed.
+   */
+  @Test
+  public void test_values_indexable() {
+    assertThat(ValuesKey.areIndexable(Arrays.<Object>asList(1, "1", null, Date.valueOf("2014-05-24")))).isTrue();
+    assertThat(ValuesKey.areIndexable(Arrays.<Object>asList("1", 1.5d))).isFalse();
+  }
+}
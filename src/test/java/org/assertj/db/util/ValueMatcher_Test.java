@@ -0,0 +1,150 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.assertj.db.type.DateTimeValue;
+import org.assertj.db.type.DateValue;
+import org.assertj.db.type.TimeValue;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests on the {@code ValueMatcher} class.
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class ValueMatcher_Test {
+
+  /**
+   * This method tests that a matcher of a {@code String} can be reused with values of different types.
+   */
+  @Test
+  public void test_matcher_of_string_reused() {
+    ValueMatcher matcher = ValueMatcher.of("2007-12-23");
+    for (int i = 0; i < 2; i++) {
+      assertThat(matcher.matches(Date.valueOf("2007-12-23"))).isTrue();
+      assertThat(matcher.matches(Timestamp.valueOf("2007-12-23 00:00:00"))).isTrue();
+      assertThat(matcher.matches(Date.valueOf("2007-12-24"))).isFalse();
+      assertThat(matcher.matches("2007-12-23")).isTrue();
+      assertThat(matcher.matches(null)).isFalse();
+    }
+
+    matcher = ValueMatcher.of("12");
+    for (int i = 0; i < 2; i++) {
+      assertThat(matcher.matches(12)).isTrue();
+      assertThat(matcher.matches(12L)).isTrue();
+      assertThat(matcher.matches(12f)).isTrue();
+      assertThat(matcher.matches(12d)).isTrue();
+      assertThat(matcher.matches(new BigInteger("12"))).isTrue();
+      assertThat(matcher.matches(new BigDecimal("12.0"))).isTrue();
+      assertThat(matcher.matches(13)).isFalse();
+    }
+
+    matcher = ValueMatcher.of("09:01");
+    assertThat(matcher.matches(Time.valueOf("09:01:00"))).isTrue();
+    assertThat(matcher.matches(Time.valueOf("09:02:00"))).isFalse();
+  }
+
+  /**
+   * This method should fail because the {@code String} can not be compared to a number.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_string_is_not_a_number() {
+    ValueMatcher.of("***").matches(1);
+  }
+
+  /**
+   * This method should fail because the {@code String} can not be compared to a time.
+   */
+  @Test(expected = AssertJDBException.class)
+  public void should_fail_because_string_is_not_a_time() {
+    ValueMatcher.of("***").matches(Time.valueOf("09:01:00"));
+  }
+
+  /**
+   * This method tests the matchers of the different types of expected values.
+   */
+  @Test
+  public void test_matchers_of_types() {
+    assertThat(ValueMatcher.of(true).matches(true)).isTrue();
+    assertThat(ValueMatcher.of(true).matches(false)).isFalse();
+    assertThat(ValueMatcher.of(new byte[] { 1, 2 }).matches(new byte[] { 1, 2 })).isTrue();
+    assertThat(ValueMatcher.of(new byte[] { 1, 2 }).matches(new byte[] { 1 })).isFalse();
+    assertThat(ValueMatcher.of(DateValue.of(2007, 12, 23)).matches(Date.valueOf("2007-12-23"))).isTrue();
+    assertThat(ValueMatcher.of(DateValue.of(2007, 12, 23)).matches(Timestamp.valueOf("2007-12-23 00:00:00"))).isTrue();
+    assertThat(ValueMatcher.of(TimeValue.of(9, 1)).matches(Time.valueOf("09:01:00"))).isTrue();
+    assertThat(ValueMatcher.of(DateTimeValue.of(DateValue.of(2007, 12, 23))).matches(Date.valueOf("2007-12-23")))
+        .isTrue();
+    assertThat(ValueMatcher.of(1L).matches(1)).isTrue();
+    assertThat(ValueMatcher.of(1.5).matches(new BigDecimal("1.50"))).isTrue();
+    assertThat(ValueMatcher.of(new BigInteger("7")).matches(7)).isTrue();
+    assertThat(ValueMatcher.of((String) null).matches(null)).isTrue();
+    assertThat(ValueMatcher.of((String) null).matches("")).isFalse();
+  }
+
+  /**
+   * This method tests that the matchers of an {@code Object} depend of the type of the value.
+   */
+  @Test
+  public void test_matchers_of_objects() {
+    assertThat(ValueMatcher.of((Object) "text").matches("text")).isTrue();
+    assertThat(ValueMatcher.of((Object) "1").matches(1)).isTrue();
+    assertThat(ValueMatcher.of((Object) 1).matches("1")).isFalse();
+    assertThat(ValueMatcher.of((Object) Date.valueOf("2007-12-23")).matches(Date.valueOf("2007-12-23"))).isTrue();
+    assertThat(ValueMatcher.of((Object) Time.valueOf("09:01:00")).matches(Time.valueOf("09:01:00"))).isTrue();
+    assertThat(ValueMatcher.of((Object) Timestamp.valueOf("2007-12-23 09:01:00"))
+        .matches(Timestamp.valueOf("2007-12-23 09:01:00"))).isTrue();
+    assertThat(ValueMatcher.of((Object) DateTimeValue.of(DateValue.of(2007, 12, 23)))
+        .matches(Date.valueOf("2007-12-23"))).isFalse();
+    assertThat(ValueMatcher.of(new Object()).matches(new Object())).isFalse();
+    assertThat(ValueMatcher.of((Object) null).matches(null)).isTrue();
+  }
+
+  /**
+   * This method tests that the matchers of an array use the type of the elements of the array and are shared for the
+   * equal values.
+   */
+  @Test
+  public void test_matchers_of_each() {
+    ValueMatcher[] matchers = ValueMatcher.ofEach(new String[] { "2007-12-23", "2007-12-24", "2007-12-23", null });
+    assertThat(matchers).hasSize(4);
+    assertThat(matchers[0]).isSameAs(matchers[2]);
+    assertThat(matchers[0].matches(Date.valueOf("2007-12-23"))).isTrue();
+    assertThat(matchers[1].matches(Date.valueOf("2007-12-23"))).isFalse();
+    assertThat(matchers[3].matches(null)).isTrue();
+
+    matchers = ValueMatcher.ofEach(new Integer[] { 1, 2 });
+    assertThat(matchers[0].matches(new BigDecimal("1"))).isTrue();
+    matchers = ValueMatcher.ofEach(new Object[] { 1 });
+    assertThat(matchers[0].matches(1L)).isTrue();
+    matchers = ValueMatcher.ofEach(new Boolean[] { true });
+    assertThat(matchers[0].matches(true)).isTrue();
+    matchers = ValueMatcher.ofEach(new byte[][] { { 1 } });
+    assertThat(matchers[0].matches(new byte[] { 1 })).isTrue();
+    matchers = ValueMatcher.ofEach(new DateValue[] { DateValue.of(2007, 12, 23) });
+    assertThat(matchers[0].matches(Date.valueOf("2007-12-23"))).isTrue();
+    matchers = ValueMatcher.ofEach(new TimeValue[] { TimeValue.of(9, 1) });
+    assertThat(matchers[0].matches(Time.valueOf("09:01:00"))).isTrue();
+    matchers = ValueMatcher.ofEach(new DateTimeValue[] { DateTimeValue.of(DateValue.of(2007, 12, 23)) });
+    assertThat(matchers[0].matches(Date.valueOf("2007-12-23"))).isTrue();
+  }
+}
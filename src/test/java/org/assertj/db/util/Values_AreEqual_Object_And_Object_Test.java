@@ -280,9 +280,9 @@ public class Values_AreEqual_Object_And_Object_Test {
    */
   @Test
   public void test_are_equal_for_double_and_string() {
-    assertThat(Values.areEqual(1D, (Object) "1")).isFalse();
+    assertThat(Values.areEqual(1D, (Object) "1")).isTrue();
     assertThat(Values.areEqual(2D, (Object) "1")).isFalse();
-    assertThat(Values.areEqual(1.5D, (Object) "1.5")).isFalse();
+    assertThat(Values.areEqual(1.5D, (Object) "1.5")).isTrue();
     assertThat(Values.areEqual(2.5D, (Object) "1.5")).isFalse();
   }
 
@@ -291,7 +291,7 @@ public class Values_AreEqual_Object_And_Object_Test {
    */
   @Test
   public void test_are_equal_for_biginteger_and_string() {
-    assertThat(Values.areEqual(new BigInteger("1"), (Object) "1")).isFalse();
+    assertThat(Values.areEqual(new BigInteger("1"), (Object) "1")).isTrue();
     assertThat(Values.areEqual(new BigInteger("2"), (Object) "1")).isFalse();
   }
 
@@ -0,0 +1,256 @@
+/**
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2015 the original author or authors.
+ */
+package org.assertj.db.util;
+
+import org.assertj.db.exception.AssertJDBException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Property tests on the comparisons of numbers : the results of {@link Values#areEqual(Object, Number)} and
+ * {@link Values#compare(Object, Number)} must be the same as the results of the comparisons with the conversions of the
+ * {@code String} representations (the implementation before the fast paths, copied in this test).
+ *
+ * @author Régis Pouiller
+ *
+ */
+public class Values_Numbers_Property_Test {
+
+  /**
+   * Number of random couples tested.
+   */
+  private static final int NUMBER_OF_TRIES = 50000;
+
+  /**
+   * The magnitudes used to generate the numbers (few magnitudes to have a lot of equal numbers).
+   */
+  private static final double[] MAGNITUDES = { 0, -0.0, 1, -1, 2, 127, 128, -128, 255, 32767, 32768, 1000,
+      Integer.MAX_VALUE, Integer.MIN_VALUE, 1L << 53, (1L << 53) + 1, Long.MAX_VALUE, Long.MIN_VALUE, 0.5, 1.1, -2.25,
+      0.1, 1e20, 1e-20, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+
+  /**
+   * Returns a random number (or a {@code String} or {@code null}) from a magnitude.
+   *
+   * @param random The random generator.
+   * @return The value.
+   */
+  private static Object randomValue(Random random) {
+    int index = random.nextInt(MAGNITUDES.length + 2);
+    if (index == MAGNITUDES.length) {
+      return null;
+    }
+    long longValue = index == MAGNITUDES.length + 1 ? random.nextLong() : (long) MAGNITUDES[index];
+    double doubleValue = index == MAGNITUDES.length + 1 ? random.nextDouble() * longValue : MAGNITUDES[index];
+    switch (random.nextInt(10)) {
+    case 0:
+      return (byte) longValue;
+    case 1:
+      return (short) longValue;
+    case 2:
+      return (int) longValue;
+    case 3:
+      return longValue;
+    case 4:
+      return (float) doubleValue;
+    case 5:
+      return doubleValue;
+    case 6:
+      return BigInteger.valueOf(longValue).multiply(BigInteger.valueOf(random.nextInt(3) == 0 ? 1000 : 1));
+    case 7:
+      if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+        return BigDecimal.valueOf(longValue, random.nextInt(3));
+      }
+      return new BigDecimal(Double.toString(doubleValue)).setScale(random.nextInt(3) + 1, BigDecimal.ROUND_HALF_UP);
+    case 8:
+      return Long.toString(longValue);
+    default:
+      return BigDecimal.valueOf(longValue);
+    }
+  }
+
+  /**
+   * Returns the result of the execution (the value or the exception).
+   *
+   * @param value The value.
+   * @param expected The expected number.
+   * @param compare {@code true} for {@code compare}, {@code false} for {@code areEqual}.
+   * @param reference {@code true} for the reference implementation.
+   * @return The result.
+   */
+  private static Object result(Object value, Number expected, boolean compare, boolean reference) {
+    try {
+      if (compare) {
+        return reference ? referenceCompare(value, expected) : Values.compare(value, expected);
+      }
+      return reference ? referenceAreEqual(value, expected) : Values.areEqual(value, expected);
+    } catch (RuntimeException e) {
+      return e.getClass().getName() + " : " + e.getMessage();
+    }
+  }
+
+  /**
+   * This method tests that {@code areEqual} and {@code compare} give the same results as the reference.
+   */
+  @Test
+  public void test_same_results_as_conversions_of_string_representation() {
+    Random random = new Random(20150624L);
+    for (int i = 0; i < NUMBER_OF_TRIES; i++) {
+      Object value = randomValue(random);
+      Object expected = randomValue(random);
+      if (!(expected instanceof Number)) {
+        continue;
+      }
+      Number number = (Number) expected;
+      assertThat(result(value, number, false, false))
+          .as("areEqual(%s %s, %s %s)", value == null ? null : value.getClass().getSimpleName(), value,
+              expected.getClass().getSimpleName(), expected)
+          .isEqualTo(result(value, number, false, true));
+      assertThat(result(value, number, true, false))
+          .as("compare(%s %s, %s %s)", value == null ? null : value.getClass().getSimpleName(), value,
+              expected.getClass().getSimpleName(), expected)
+          .isEqualTo(result(value, number, true, true));
+    }
+  }
+
+  /**
+   * Reference implementation of {@code areEqual(Object, Number)}.
+   *
+   * @param value The value.
+   * @param expected The {@code Number} to compare.
+   * @return The result.
+   */
+  private static boolean referenceAreEqual(Object value, Number expected) {
+    if (expected == null) {
+      return value == null;
+    }
+    if (expected instanceof BigInteger) {
+      BigInteger bi;
+      if (value instanceof BigInteger) {
+        bi = (BigInteger) value;
+      } else {
+        try {
+          bi = new BigInteger("" + value);
+        } catch (NumberFormatException e) {
+          throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, value);
+        }
+      }
+      return bi.compareTo((BigInteger) expected) == 0;
+    } else if (expected instanceof BigDecimal) {
+      BigDecimal bd;
+      if (value instanceof BigDecimal) {
+        bd = (BigDecimal) value;
+      } else {
+        try {
+          bd = new BigDecimal("" + value);
+        } catch (NumberFormatException e) {
+          throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, value);
+        }
+      }
+      return bd.compareTo((BigDecimal) expected) == 0;
+    } else {
+      Long actualValue = null;
+      if (value instanceof Float) {
+        return ((Float) value).floatValue() == expected.floatValue();
+      } else if (value instanceof Double) {
+        return ((Double) value).doubleValue() == expected.doubleValue();
+      } else if (value instanceof BigInteger) {
+        return ((BigInteger) value).compareTo(new BigInteger("" + expected)) == 0;
+      } else if (value instanceof BigDecimal) {
+        return ((BigDecimal) value).compareTo(new BigDecimal("" + expected)) == 0;
+      } else if (value instanceof Byte || value instanceof Short || value instanceof Integer
+          || value instanceof Long) {
+        actualValue = ((Number) value).longValue();
+      }
+      if (actualValue != null) {
+        if (expected instanceof Float) {
+          return actualValue == expected.floatValue();
+        } else if (expected instanceof Double) {
+          return actualValue == expected.doubleValue();
+        }
+        return actualValue == expected.longValue();
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Reference implementation of {@code compare(Object, Number)}.
+   *
+   * @param value The value.
+   * @param expected The {@code Number} to compare.
+   * @return The result.
+   */
+  private static int referenceCompare(Object value, Number expected) {
+    if (expected instanceof BigInteger) {
+      BigInteger bi;
+      if (value instanceof BigInteger) {
+        bi = (BigInteger) value;
+      } else {
+        try {
+          bi = new BigInteger("" + value);
+        } catch (NumberFormatException e) {
+          throw new AssertJDBException("Expected <%s> can not be compared to a BigInteger (<%s>)", expected, value);
+        }
+      }
+      return bi.compareTo((BigInteger) expected);
+    } else if (expected instanceof BigDecimal) {
+      BigDecimal bd;
+      if (value instanceof BigDecimal) {
+        bd = (BigDecimal) value;
+      } else {
+        try {
+          bd = new BigDecimal("" + value);
+        } catch (NumberFormatException e) {
+          throw new AssertJDBException("Expected <%s> can not be compared to a BigDecimal (<%s>)", expected, value);
+        }
+      }
+      return bd.compareTo((BigDecimal) expected);
+    } else {
+      Long actualValue = null;
+      if (value instanceof Float) {
+        float f = (Float) value;
+        float expectedF = expected.floatValue();
+        return f > expectedF ? 1 : (f < expectedF ? -1 : 0);
+      } else if (value instanceof Double) {
+        double d = (Double) value;
+        double expectedD = expected.doubleValue();
+        return d > expectedD ? 1 : (d < expectedD ? -1 : 0);
+      } else if (value instanceof BigInteger) {
+        return ((BigInteger) value).compareTo(new BigInteger("" + expected));
+      } else if (value instanceof BigDecimal) {
+        return ((BigDecimal) value).compareTo(new BigDecimal("" + expected));
+      } else if (value instanceof Byte || value instanceof Short || value instanceof Integer
+          || value instanceof Long) {
+        actualValue = ((Number) value).longValue();
+      }
+      if (actualValue != null) {
+        double expectedD;
+        if (expected instanceof Float) {
+          float expectedF = expected.floatValue();
+          return actualValue > expectedF ? 1 : (actualValue < expectedF ? -1 : 0);
+        } else if (expected instanceof Double) {
+          expectedD = expected.doubleValue();
+        } else {
+          expectedD = expected.longValue();
+        }
+        return actualValue > expectedD ? 1 : (actualValue < expectedD ? -1 : 0);
+      }
+    }
+    throw new AssertJDBException("Expected <%s> can not be compared to a Number (<%s>)", expected, value);
+  }
+}